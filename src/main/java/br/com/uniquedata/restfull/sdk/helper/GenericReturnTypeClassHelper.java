@@ -1,88 +1,224 @@
 package br.com.uniquedata.restfull.sdk.helper;
 
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.HashSet;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import br.com.uniquedata.sdk.helper.pojo.others.GenericReturnTypeClass;
 import br.com.uniquedata.sdk.helper.pojo.others.UniqueDataParameterizedType;
 import br.com.uniquedata.sdk.helper.pojo.others.GenericReturnTypeClass.GenericReturnType;
+import br.com.uniquedata.sdk.helper.type.ResolvedType;
+import br.com.uniquedata.sdk.helper.type.TypeResolver;
 
 public class GenericReturnTypeClassHelper {
 	
+	private static final ClassValue<GenericReturnTypeClass> DIRECT_CLASS_CACHE = new ClassValue<GenericReturnTypeClass>() {
+		@Override
+		protected GenericReturnTypeClass computeValue(final Class<?> type) {
+			return toGenericReturnTypeClass(TypeResolver.resolve(type));
+		}
+	};
+	
+	private static final ClassValue<Map<Method, GenericReturnTypeClass>> METHOD_RETURN_TYPE_CACHE = new ClassValue<Map<Method, GenericReturnTypeClass>>() {
+		@Override
+		protected Map<Method, GenericReturnTypeClass> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+	
+	private static final ClassValue<Map<Type, GenericReturnTypeClass>> PARAMETERIZED_TYPE_CACHE = new ClassValue<Map<Type, GenericReturnTypeClass>>() {
+		@Override
+		protected Map<Type, GenericReturnTypeClass> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+	
 	public static List<Type> extractTypesSubLevel(final Type type) {
-		return extractTypesSubLevel(type, new HashSet<Type>());
+		return extractTypesSubLevel(type, new LinkedHashSet<Type>());
 	}
 	
+	/**
+	 * Adds the raw type of every parameterized node of {@code type} to {@code typesSubLevel}, following
+	 * all type arguments, wildcard bounds and array components.
+	 */
 	public static List<Type> extractTypesSubLevel(final Type type, final Set<Type> typesSubLevel) {
-		if (type instanceof ParameterizedType) {
-			typesSubLevel.add(((ParameterizedType) type).getRawType());
-			
-			final ParameterizedType parameterizedType = (ParameterizedType) type;
-			
-            if (parameterizedType.getActualTypeArguments().length > 0) {
-            	return extractTypesSubLevel(parameterizedType.getActualTypeArguments()[0], typesSubLevel);
-            }
-        }
-		
-		return typesSubLevel.stream().collect(Collectors.toList());
+		typesSubLevel.addAll(TypeResolver.resolve(type).getContainerTypes());
+		return new ArrayList<>(typesSubLevel);
 	}
 	
+	/**
+	 * Records the outermost raw type of {@code typeRoot} and the class of its elements, found by
+	 * following the element argument of each level (the value type of a {@link Map}, the first
+	 * argument otherwise). Wildcards and type variables are erased to their bound.
+	 */
 	public static UniqueDataParameterizedType extractParameterizedType(final Type typeRoot, 
 			final UniqueDataParameterizedType uniqueDataParameterizedType) {
 		
-		if (typeRoot instanceof ParameterizedType) {
-			final ParameterizedType parameterizedTypeRoot = (ParameterizedType) typeRoot;
-			final Class<?> rawTypeRoot = (Class<?>) parameterizedTypeRoot.getRawType();
-			
+		final ResolvedType resolvedType = TypeResolver.resolve(typeRoot);
+		
+		if (resolvedType.isParameterized()) {
 			if(uniqueDataParameterizedType.getFirstSuperClassTypeLoop() == null) {
-				uniqueDataParameterizedType.setFirstSuperClassTypeLoop(rawTypeRoot);
-			}
-			
-			if(parameterizedTypeRoot.getActualTypeArguments().length > 0) {
-				final Type type = parameterizedTypeRoot.getActualTypeArguments()[0];
-				
-				if (type instanceof ParameterizedType) {
-					extractParameterizedType(type, uniqueDataParameterizedType);
-				}else {
-					uniqueDataParameterizedType.setClassType((Class<?>) type);
-				}
+				uniqueDataParameterizedType.setFirstSuperClassTypeLoop(resolvedType.getRawClass());
 			}
 			
+			uniqueDataParameterizedType.setClassType(elementClass(resolvedType));
 			return uniqueDataParameterizedType;
 		}
 		
-		return uniqueDataParameterizedType.loadClassType((Class<?>) typeRoot);
+		return uniqueDataParameterizedType.loadClassType(resolvedType.getRawClass());
 	}
 	
+	/**
+	 * Describes {@code type}. Descriptors are frozen and shared: plain classes are cached in a
+	 * {@link ClassValue}, parameterized types in a map attached (again through a {@link ClassValue})
+	 * to the class of the type that lives in the most specific class loader. The cache therefore
+	 * never keeps a redeployed application's classes alive.
+	 */
 	public static GenericReturnTypeClass getGenericReturnTypeClass(final Type type) {
+		if (type instanceof Class<?>) {
+			return DIRECT_CLASS_CACHE.get((Class<?>) type);
+		}
+		
 		if (type instanceof ParameterizedType) {
-			final UniqueDataParameterizedType extractParameterizedType = GenericReturnTypeClassHelper
-				.extractParameterizedType(type, new UniqueDataParameterizedType());
+			final Map<Type, GenericReturnTypeClass> cache = PARAMETERIZED_TYPE_CACHE.get(anchorClass(type));
+			final GenericReturnTypeClass genericReturnTypeClass = cache.get(type);
 			
-            final ParameterizedType parameterizedType = (ParameterizedType) type;
-            final Class<?> rawType = (Class<?>) parameterizedType.getRawType();
-
-            final GenericReturnTypeClass genericReturnTypeClass = new GenericReturnTypeClass();
+			return genericReturnTypeClass != null ? genericReturnTypeClass 
+				: cache.computeIfAbsent(type, key -> toGenericReturnTypeClass(TypeResolver.resolve(key)));
+		}
+		
+		return toGenericReturnTypeClass(TypeResolver.resolve(type));
+	}
+	
+	/**
+	 * Describes the return type of {@code method} as seen from {@code contextClass} (the interface a
+	 * client proxy implements, for instance), so type variables bound by {@code contextClass}, such as
+	 * {@code T} in {@code OrderApi extends CrudApi<Order>}, resolve to their actual type.
+	 */
+	public static GenericReturnTypeClass getGenericReturnTypeClass(final Method method, final Class<?> contextClass) {
+		final Map<Method, GenericReturnTypeClass> cache = METHOD_RETURN_TYPE_CACHE.get(contextClass);
+		final GenericReturnTypeClass genericReturnTypeClass = cache.get(method);
+		
+		return genericReturnTypeClass != null ? genericReturnTypeClass 
+			: cache.computeIfAbsent(method, key -> toGenericReturnTypeClass(TypeResolver.resolveReturnType(key, contextClass)));
+	}
+	
+	private static GenericReturnTypeClass toGenericReturnTypeClass(final ResolvedType resolvedType) {
+		final GenericReturnTypeClass genericReturnTypeClass;
+		
+		if (resolvedType.isParameterized()) {
+			genericReturnTypeClass = new GenericReturnTypeClass();
 			genericReturnTypeClass.setReturnType(GenericReturnType.PARAMETERIZED_TYPE);
-        	genericReturnTypeClass.setClassType(extractParameterizedType.getClassType());
-        	genericReturnTypeClass.setSuperClassType(rawType);
-        	
-        	if (parameterizedType.getActualTypeArguments().length > 0) {
-        		genericReturnTypeClass.setTypesSubLevels(extractTypesSubLevel(type));
-        	}
-            
-            return genericReturnTypeClass;
-        }
-		
-		return new GenericReturnTypeClass((Class<?>) type, GenericReturnType.DIRECT_CLASS);
+			genericReturnTypeClass.setClassType(elementClass(resolvedType));
+			genericReturnTypeClass.setSuperClassType(resolvedType.getRawClass());
+			genericReturnTypeClass.setTypesSubLevels(new ArrayList<>(resolvedType.getContainerTypes()));
+		}else {
+			genericReturnTypeClass = new GenericReturnTypeClass(resolvedType.getRawClass(), GenericReturnType.DIRECT_CLASS);
+			genericReturnTypeClass.setTypesSubLevels(Collections.emptyList());
+		}
+		
+		genericReturnTypeClass.setResolvedType(resolvedType);
+		return genericReturnTypeClass.freeze();
 	}
 	
+	private static Class<?> elementClass(final ResolvedType resolvedType) {
+		ResolvedType elementType = resolvedType;
+		
+		while (elementType.isParameterized()) {
+			elementType = elementType.getElementArgument();
+		}
+		
+		return elementType.getRawClass();
+	}
+	
+	/**
+	 * Class referenced by {@code type} whose loader is not an ancestor of any other referenced
+	 * class's loader, i.e. the class that goes away first when its application is unloaded.
+	 */
+	private static Class<?> anchorClass(final Type type) {
+		final List<Class<?>> classes = new ArrayList<>();
+		collectClasses(type, classes);
+		
+		Class<?> anchorClass = Object.class;
+		
+		for (final Class<?> classType : classes) {
+			if (isAncestor(anchorClass.getClassLoader(), classType.getClassLoader())) {
+				anchorClass = classType;
+			}
+		}
+		
+		return anchorClass;
+	}
+	
+	private static void collectClasses(final Type type, final List<Class<?>> classes) {
+		if (type instanceof Class<?>) {
+			Class<?> classType = (Class<?>) type;
+			
+			while (classType.isArray()) {
+				classType = classType.getComponentType();
+			}
+			
+			classes.add(classType);
+		} else if (type instanceof ParameterizedType) {
+			final ParameterizedType parameterizedType = (ParameterizedType) type;
+			collectClasses(parameterizedType.getRawType(), classes);
+			
+			for (final Type argument : parameterizedType.getActualTypeArguments()) {
+				collectClasses(argument, classes);
+			}
+		} else if (type instanceof WildcardType) {
+			for (final Type bound : ((WildcardType) type).getUpperBounds()) {
+				collectClasses(bound, classes);
+			}
+			
+			for (final Type bound : ((WildcardType) type).getLowerBounds()) {
+				collectClasses(bound, classes);
+			}
+		} else if (type instanceof GenericArrayType) {
+			collectClasses(((GenericArrayType) type).getGenericComponentType(), classes);
+		} else if (type instanceof TypeVariable<?> && ((TypeVariable<?>) type).getGenericDeclaration() instanceof Class<?>) {
+			classes.add((Class<?>) ((TypeVariable<?>) type).getGenericDeclaration());
+		}
+	}
+	
+	private static boolean isAncestor(final ClassLoader ancestor, final ClassLoader classLoader) {
+		if (ancestor == null) {
+			return true;
+		}
+		
+		for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+			if (loader == ancestor) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Whether a container type of the descriptor is {@code filterType} or a subtype of it. Cached
+	 * descriptors answer from the precomputed set of their {@link ResolvedType}.
+	 */
 	public static boolean containsType(final GenericReturnTypeClass genericReturnTypeClass, final Type filterType) {
+		if (genericReturnTypeClass.getResolvedType() != null && filterType instanceof Class<?>) {
+			return genericReturnTypeClass.getResolvedType().containsType((Class<?>) filterType);
+		}
+		
+		if (genericReturnTypeClass.getTypesSubLevels() == null) {
+			return false;
+		}
+		
 		final Stream<Type> stream = genericReturnTypeClass.getTypesSubLevels().stream();
 		return stream.anyMatch(type -> filterType.equals(type) || containsSuperType(type, filterType));
 	}
@@ -3,23 +3,22 @@ package br.com.uniquedata.restfull.sdk.helper;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import javax.management.RuntimeErrorException;
-
+import br.com.uniquedata.sdk.helper.annotation.AnnotationIndex;
+import br.com.uniquedata.sdk.helper.field.FieldReflectionHelper;
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
+import br.com.uniquedata.sdk.helper.object.Instantiator;
 import br.com.uniquedata.sdk.helper.pojo.extract.ExtractAnnotation;
 import br.com.uniquedata.sdk.helper.pojo.extract.ExtractField;
 import br.com.uniquedata.sdk.helper.pojo.extract.ExtractMethod;
@@ -50,114 +49,48 @@ public class ObjectReflectionHelper {
 	}
 	
 	public static ArrayList<?> newInstanceArraList(final Object[] objects) {
-		return new ArrayList<>(Arrays.asList(objects));
+		return br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper.newInstanceArraList(objects);
 	}
 	
 	public static ArrayList<?> newInstanceArraList(final Object object) {
-		return newInstanceArraList((Object[]) object);
+		return br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper.newInstanceArraList(object);
 	}
 	
-	@SuppressWarnings("unchecked")
 	public static Collection<Object> newCollection(final Class<?> collectionType) {
-	    try {
-	        return (Collection<Object>) collectionType.getDeclaredConstructor().newInstance();
-	    } catch (Exception e) {
-	        return new ArrayList<>();
-	    }
+		return br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper.newCollection(collectionType);
 	}
 
-	@SuppressWarnings("unchecked")
 	public static Map<Object, Object> newMap(final Class<?> mapType) {
-	    try {
-	        return (Map<Object, Object>) mapType.getDeclaredConstructor().newInstance();
-	    } catch (Exception e) {
-	        return new HashMap<>();
-	    }
+		return br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper.newMap(mapType);
 	}
 	
 	public static Object newInstance(final Class<?> classType) {
-		try {
-			return classType.getDeclaredConstructor().newInstance();
-		} catch (Exception e) {
-			e.printStackTrace();
-			throw new RuntimeErrorException(new Error(e), "Erro create new Instance!");
-		}
+		return Instantiator.of(classType).newInstance();
 	}
 	
 	public static Object newProxyInstance(final Class<?> interfaceType, final Object invocationHandlerImpl) {
-		try {
-			final InvocationHandler invocationHandler =  (InvocationHandler) invocationHandlerImpl;
-			return Proxy.newProxyInstance(interfaceType.getClassLoader(),new Class<?>[]{ interfaceType }, invocationHandler);
-		} catch (Exception e) {
-			e.printStackTrace();
-			throw new RuntimeErrorException(new Error(e), "Erro create new Instance!");
-		}
+		return br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper.newProxyInstance(interfaceType, invocationHandlerImpl);
 	}
 	
 	public static Collection<?> newInstanceCollection(final Class<? extends Collection<?>> collectionType, final Object object) {
-        if (object == null) {
-            throw new IllegalArgumentException("The object to convert cannot be null");
-        }
-        
-        if (!object.getClass().isArray()) {
-            throw new IllegalArgumentException("The object must be an array, but was: " + object.getClass().getName());
-        }
-        
-        try {
-            @SuppressWarnings("unchecked")
-			final Collection<Object> collection = (Collection<Object>) collectionType.getDeclaredConstructor().newInstance();
-            collection.addAll(Arrays.asList((Object[]) object));
-            
-            return collection;
-        } catch (ClassCastException e) {
-            throw new IllegalArgumentException("Failed to cast the provided object to the expected type array", e);
-        } catch (NoSuchMethodException e) {
-            throw new IllegalArgumentException("The collection type " + collectionType.getName() + " must have a no-argument constructor", e);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to instantiate collection type: " + collectionType.getName(), e);
-        }
-    }
+		return br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper.newInstanceCollection(collectionType, object);
+	}
 	
 	public static Map<String, Object> getFieldNameAndValue(final Object object, final Annotation annotation){
 		return getFieldNameAndValue(object, annotation.annotationType());
 	}
 	
 	public static Map<String, Object> getFieldNameAndValue(final Object object, final Class<? extends Annotation> annotation){
-		return Arrays.asList(object.getClass().getDeclaredFields()).stream()
-			.map(field -> {
-			
-				if(field.isAnnotationPresent(annotation)) {
-					final ExtractField extractField = ObjectReflectionHelper.extractField(object, field);
-					final Optional<ExtractAnnotation> extractAnnotationOptional = extractField.getExtractAnnotationBy(annotation);
-					
-					if(extractAnnotationOptional.isPresent()) {
-						final ExtractAnnotation extractAnnotation = extractAnnotationOptional.get();
-						return new ExtractField(field, extractAnnotation.getAnnotationValue().toString(), extractField.getFieldValue());
-					}
-				}	
-			
-			return ObjectReflectionHelper.extractField(object, field);
-		}).collect(Collectors.toMap(ExtractField::getFieldName, ExtractField::getFieldValue));
+		return FieldReflectionHelper.getFieldNameAndValue(object, annotation);
 	}
 	
 	public static Map<Field, Object> getFieldAndValue(final Object object){
-		final Map<Field, Object> fields = new HashMap<>();
-		
-		try {
-			for (final Field field : object.getClass().getDeclaredFields()) {
-				field.setAccessible(true);
-				fields.put(field, field.get(object));
-			}
-		}catch (Exception e) {
-			e.printStackTrace();
-		}
-		
-		return fields;
+		return FieldReflectionHelper.getFieldAndValue(object);
 	}
 	
 	public static List<ExtractAnnotation> extractAnnotations(final Annotation ... annotations) {
 		return Arrays.asList(annotations).stream().map(annotation -> {
-			for (final Method method : annotation.annotationType().getDeclaredMethods()) {
+			for (final Method method : ClassMetadata.of(annotation.annotationType()).getDeclaredMethods()) {
 				final ExtractMethod extractMethod = extractMethod(annotation, method.getName());
 
 				final ExtractAnnotation extractAnnotation = new ExtractAnnotation();
@@ -201,7 +134,7 @@ public class ObjectReflectionHelper {
 	
 	public static ExtractMethod extractMethod(final Object object, final String methodName, final Object... paramters){
 		try {
-			final Stream<Method> stream = Arrays.asList(object.getClass().getMethods()).stream();
+			final Stream<Method> stream = ClassMetadata.of(object.getClass()).getMethods().stream();
 			final Optional<Method> optionalMethod = stream.filter(filter -> filter.getName().equals(methodName)).findAny();
 			
 			if(optionalMethod.isPresent()) {
@@ -275,17 +208,17 @@ public class ObjectReflectionHelper {
 	}
 	
 	public static ExtractField extractFieldByName(final Object object, final String fieldName){
-		final Stream<Field> stream = Arrays.asList(object.getClass().getDeclaredFields()).stream();
+		final Stream<Field> stream = ClassMetadata.of(object.getClass()).getDeclaredFields().stream();
 		return extractField(object, stream.filter(field -> field.getName().equals(fieldName)).findAny().get());
 	}
 	
 	public static ExtractField extractFieldByAnnotation(final Object object, final Class<? extends Annotation> annotation){
-		final Stream<Field> stream = Arrays.asList(object.getClass().getDeclaredFields()).stream();
+		final Stream<Field> stream = ClassMetadata.of(object.getClass()).getDeclaredFields().stream();
 		return extractField(object, stream.filter(field -> field.isAnnotationPresent(annotation)).findAny().get());
 	}
 	
 	public static Object getValueByFieldName(final String fieldName, final Object object){
-		final Stream<Field> stream = Arrays.asList(object.getClass().getDeclaredFields()).stream();
+		final Stream<Field> stream = ClassMetadata.of(object.getClass()).getDeclaredFields().stream();
  		return stream.filter(filter -> filter.getName().equals(fieldName)).findAny().orElse(null);
 	}
 	
@@ -298,8 +231,7 @@ public class ObjectReflectionHelper {
 	}
 	
 	public static boolean containsAnnotation(final Class<?> classType, final Class<? extends Annotation> annotation){
-		final Stream<Field> stream = Arrays.asList(classType.getDeclaredFields()).stream();
-		return stream.anyMatch(filter -> filter.isAnnotationPresent(annotation));
+		return AnnotationIndex.of(classType).hasFields(annotation);
 	}
 	
 	@SuppressWarnings("unchecked")
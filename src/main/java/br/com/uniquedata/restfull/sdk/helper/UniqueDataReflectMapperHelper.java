@@ -4,21 +4,19 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import br.com.uniquedata.sdk.helper.field.FieldLayout;
 import br.com.uniquedata.sdk.helper.pojo.extract.ExtractField;
 import br.com.uniquedata.sdk.helper.pojo.reflectmapper.MapperExtractFields;
-import br.com.uniquedata.sdk.helper.pojo.reflectmapper.ReflectMapperField;
 import br.com.uniquedata.sdk.helper.pojo.reflectmapper.ReflectMapperFilter;
+import br.com.uniquedata.sdk.helper.reflect.mapper.MapperPlan;
 
 @Deprecated
 public class UniqueDataReflectMapperHelper {
@@ -52,18 +50,7 @@ public class UniqueDataReflectMapperHelper {
 		final Object objectOut = ObjectReflectionHelper.newInstance(classTypeOut);
 
 		try {
-			final List<ExtractField> extractFieldsIn = toFields(objectIn.getClass()).stream().map(fieldIn -> {
-				return ObjectReflectionHelper.extractField(objectIn, fieldIn);
-			}).collect(Collectors.toList());
-
-			toFields(objectOut.getClass()).stream().map(fieldOut  -> {
-				return new ReflectMapperField(extractFieldsIn.stream().filter(extractFieldIn -> {
-					final String fieldNameOut = fieldOut.getName();
-					final String fieldNameIn = extractFieldIn.getFieldName();
-
-					return fieldNameIn.equalsIgnoreCase(fieldNameOut);
-				}).findAny().map(ExtractField::getField).orElse(null), fieldOut);
-			}).filter(mapperField -> mapperField.isMatch()).forEach(mapperField -> {
+			MapperPlan.of(objectIn.getClass(), objectOut.getClass()).getMappedFields().forEach(mapperField -> {
 				final Class<?> fieldType = mapperField.getFieldIn().getType();
 				
 				if (fieldType.isPrimitive() || isWrapperType(fieldType)) {
@@ -210,7 +197,7 @@ public class UniqueDataReflectMapperHelper {
 	}
 	
 	private List<Field> toFields(final Class<?> type){
-		return new ArrayList<>(Arrays.asList(type.getDeclaredFields()));
+		return FieldLayout.of(type).getFields();
 	}
 
 }
\ No newline at end of file
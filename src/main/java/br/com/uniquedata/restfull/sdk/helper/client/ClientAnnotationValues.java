@@ -0,0 +1,59 @@
+package br.com.uniquedata.restfull.sdk.helper.client;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import br.com.uniquedata.sdk.helper.annotation.AnnotationMetadata;
+
+/**
+ * Annotations of a client method or parameter together with their attribute
+ * values, read once when the client interface is analysed.
+ */
+public final class ClientAnnotationValues {
+
+	private final Map<Class<? extends Annotation>, Annotation> annotations;
+
+	private final Map<Class<? extends Annotation>, Map<String, Object>> attributes;
+
+	ClientAnnotationValues(final Annotation[] annotations) {
+		final Map<Class<? extends Annotation>, Annotation> annotationsByType = new LinkedHashMap<>();
+		final Map<Class<? extends Annotation>, Map<String, Object>> attributesByType = new LinkedHashMap<>();
+
+		for (final Annotation annotation : annotations) {
+			annotationsByType.put(annotation.annotationType(), annotation);
+			attributesByType.put(annotation.annotationType(),
+				Collections.unmodifiableMap(AnnotationMetadata.of(annotation).getAttributes(annotation)));
+		}
+
+		this.annotations = Collections.unmodifiableMap(annotationsByType);
+		this.attributes = Collections.unmodifiableMap(attributesByType);
+	}
+
+	public boolean isPresent(final Class<? extends Annotation> annotationType) {
+		return annotations.containsKey(annotationType);
+	}
+
+	public <A extends Annotation> A getAnnotation(final Class<A> annotationType) {
+		return annotationType.cast(annotations.get(annotationType));
+	}
+
+	public Set<Class<? extends Annotation>> getAnnotationTypes() {
+		return annotations.keySet();
+	}
+
+	/**
+	 * Attribute values of {@code annotationType}, or an empty map when it is absent.
+	 */
+	public Map<String, Object> getAttributes(final Class<? extends Annotation> annotationType) {
+		final Map<String, Object> values = attributes.get(annotationType);
+		return values == null ? Collections.emptyMap() : values;
+	}
+
+	public Object getAttribute(final Class<? extends Annotation> annotationType, final String attributeName) {
+		return getAttributes(annotationType).get(attributeName);
+	}
+
+}
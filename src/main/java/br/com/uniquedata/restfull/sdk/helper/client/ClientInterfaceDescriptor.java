@@ -0,0 +1,120 @@
+package br.com.uniquedata.restfull.sdk.helper.client;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import br.com.uniquedata.sdk.helper.proxy.IndexedInvocationHandler;
+import br.com.uniquedata.sdk.helper.proxy.ProxyFactory;
+import br.com.uniquedata.sdk.helper.proxy.ProxyMethodTable;
+
+/**
+ * Analysis of a whole client interface, done once per interface
+ * ({@link ClassValue}-backed) when its first proxy is created.
+ *
+ * <p>
+ * Every method the proxy can receive gets a {@link ClientMethodDescriptor},
+ * stored at the index the {@link ProxyMethodTable} gives the method, so a call
+ * on the proxy costs one array lookup before reaching the
+ * {@link ClientInvocationHandler}.
+ * </p>
+ *
+ * <pre>{@code
+ * OrderClient client = ClientInterfaceDescriptor.of(OrderClient.class)
+ *     .newProxy((proxy, method, args) -> restTemplate.execute(method, args));
+ * }</pre>
+ */
+public final class ClientInterfaceDescriptor {
+
+	private static final ClassValue<ClientInterfaceDescriptor> CACHE = new ClassValue<ClientInterfaceDescriptor>() {
+		@Override
+		protected ClientInterfaceDescriptor computeValue(final Class<?> type) {
+			return new ClientInterfaceDescriptor(type);
+		}
+	};
+
+	private final Class<?> interfaceType;
+
+	private final ProxyFactory proxyFactory;
+
+	private final ClientMethodDescriptor[] methods;
+
+	private ClientInterfaceDescriptor(final Class<?> interfaceType) {
+		this.interfaceType = interfaceType;
+		this.proxyFactory = ProxyFactory.of(interfaceType);
+
+		final ProxyMethodTable methodTable = proxyFactory.getMethodTable();
+		this.methods = new ClientMethodDescriptor[methodTable.size()];
+
+		for (int i = 0; i < methods.length; i++) {
+			methods[i] = new ClientMethodDescriptor(i, methodTable.getMethod(i), interfaceType);
+		}
+	}
+
+	public static ClientInterfaceDescriptor of(final Class<?> interfaceType) {
+		return CACHE.get(interfaceType);
+	}
+
+	public Class<?> getInterfaceType() {
+		return interfaceType;
+	}
+
+	public int size() {
+		return methods.length;
+	}
+
+	public ClientMethodDescriptor getMethod(final int index) {
+		return methods[index];
+	}
+
+	/**
+	 * Descriptor of {@code method}, or {@code null} when the interface proxy cannot receive it.
+	 */
+	public ClientMethodDescriptor getMethod(final Method method) {
+		final int index = proxyFactory.getMethodTable().indexOf(method);
+		return index < 0 ? null : methods[index];
+	}
+
+	public List<ClientMethodDescriptor> getMethods() {
+		return Collections.unmodifiableList(Arrays.asList(methods));
+	}
+
+	/**
+	 * Creates a proxy of the interface whose calls reach {@code invocationHandler} with the
+	 * precomputed descriptor of the called method; results go through its result mapper.
+	 * {@code equals}, {@code hashCode} and {@code toString} are answered by the proxy itself
+	 * and default methods run their own body, neither reaching the handler.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T newProxy(final ClientInvocationHandler invocationHandler) {
+		final IndexedInvocationHandler dispatcher = (proxy, methodIndex, method, args) -> {
+			if(method.getDeclaringClass() == Object.class) {
+				return invokeObjectMethod(proxy, method, args);
+			}else if(method.isDefault()) {
+				return InvocationHandler.invokeDefault(proxy, method, args);
+			}
+
+			final ClientMethodDescriptor methodDescriptor = methods[methodIndex];
+			return methodDescriptor.mapResult(invocationHandler.invoke(proxy, methodDescriptor, args));
+		};
+
+		return (T) proxyFactory.newInstance(dispatcher);
+	}
+
+	/**
+	 * A client proxy has no state of its own to compare: it equals only itself.
+	 */
+	private Object invokeObjectMethod(final Object proxy, final Method method, final Object[] args) {
+		switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			default:
+				return interfaceType.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+		}
+	}
+
+}
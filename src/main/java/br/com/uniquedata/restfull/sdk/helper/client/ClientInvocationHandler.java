@@ -0,0 +1,13 @@
+package br.com.uniquedata.restfull.sdk.helper.client;
+
+/**
+ * Handles calls on a client proxy. The descriptor of the called method is
+ * found by index, so the handler never inspects the {@link java.lang.reflect.Method};
+ * the returned value goes through the method's {@link ClientResultMapper}.
+ */
+@FunctionalInterface
+public interface ClientInvocationHandler {
+
+	Object invoke(Object proxy, ClientMethodDescriptor methodDescriptor, Object[] args) throws Throwable;
+
+}
@@ -0,0 +1,179 @@
+package br.com.uniquedata.restfull.sdk.helper.client;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import br.com.uniquedata.restfull.sdk.helper.GenericReturnTypeClassHelper;
+import br.com.uniquedata.sdk.helper.object.ArrayListView;
+import br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper;
+import br.com.uniquedata.sdk.helper.object.PrimitiveTypeHelper;
+import br.com.uniquedata.sdk.helper.pojo.others.GenericReturnTypeClass;
+import br.com.uniquedata.sdk.helper.type.TypeResolver;
+
+/**
+ * Immutable description of one method of a client interface, computed once by
+ * {@link ClientInterfaceDescriptor}: the resolved return type, the method and
+ * parameter annotations with their attribute values, the parameters and the
+ * {@link ClientResultMapper} for the declared return type.
+ */
+public final class ClientMethodDescriptor {
+
+	private final int index;
+
+	private final Method method;
+
+	private final GenericReturnTypeClass returnType;
+
+	private final ClientAnnotationValues annotationValues;
+
+	private final List<ClientParameterDescriptor> parameters;
+
+	private final ClientResultMapper resultMapper;
+
+	ClientMethodDescriptor(final int index, final Method method, final Class<?> interfaceType) {
+		final Parameter[] reflectParameters = method.getParameters();
+		final Type[] genericParameterTypes = method.getGenericParameterTypes();
+		final List<ClientParameterDescriptor> parameters = new ArrayList<>(reflectParameters.length);
+
+		for (int i = 0; i < reflectParameters.length; i++) {
+			final Type genericType = genericParameterTypes.length == reflectParameters.length
+				? genericParameterTypes[i] : reflectParameters[i].getParameterizedType();
+
+			parameters.add(new ClientParameterDescriptor(i, reflectParameters[i], TypeResolver.resolve(genericType, interfaceType)));
+		}
+
+		this.index = index;
+		this.method = method;
+		this.returnType = GenericReturnTypeClassHelper.getGenericReturnTypeClass(method, interfaceType);
+		this.annotationValues = new ClientAnnotationValues(method.getAnnotations());
+		this.parameters = Collections.unmodifiableList(parameters);
+		this.resultMapper = toResultMapper(method.getReturnType());
+	}
+
+	/**
+	 * Position of the method in the proxy method table of the interface.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	public Method getMethod() {
+		return method;
+	}
+
+	public String getName() {
+		return method.getName();
+	}
+
+	public boolean isDefault() {
+		return method.isDefault();
+	}
+
+	public GenericReturnTypeClass getReturnType() {
+		return returnType;
+	}
+
+	public ClientAnnotationValues getAnnotationValues() {
+		return annotationValues;
+	}
+
+	public List<ClientParameterDescriptor> getParameters() {
+		return parameters;
+	}
+
+	public ClientParameterDescriptor getParameter(final int index) {
+		return parameters.get(index);
+	}
+
+	public ClientResultMapper getResultMapper() {
+		return resultMapper;
+	}
+
+	public Object mapResult(final Object result) {
+		return resultMapper.map(result);
+	}
+
+	@Override
+	public String toString() {
+		return "ClientMethodDescriptor[" + index + ":" + method.getName() + parameters + "]";
+	}
+
+	/**
+	 * {@code void} discards the result, primitives turn {@code null} into their default value,
+	 * {@link Optional} wraps a plain value, and arrays and collections are converted into each
+	 * other when the handler produced the other kind (a {@code null} element cannot go into a
+	 * primitive array and is rejected). Anything else is returned as is.
+	 */
+	private static ClientResultMapper toResultMapper(final Class<?> returnType) {
+		if(returnType == void.class || returnType == Void.class) {
+			return result -> null;
+		}
+
+		if(returnType.isPrimitive()) {
+			final Object defaultValue = PrimitiveTypeHelper.defaultValue(returnType);
+			return result -> result == null ? defaultValue : result;
+		}
+
+		if(returnType == Optional.class) {
+			return result -> result instanceof Optional ? result : Optional.ofNullable(result);
+		}
+
+		if(returnType.isArray()) {
+			final Class<?> componentType = returnType.getComponentType();
+
+			if(!componentType.isPrimitive()) {
+				return result -> {
+					if(!(result instanceof Collection)) {
+						return result;
+					}
+
+					final Collection<?> collection = (Collection<?>) result;
+					return collection.toArray((Object[]) Array.newInstance(componentType, collection.size()));
+				};
+			}
+
+			return result -> {
+				if(!(result instanceof Collection)) {
+					return result;
+				}
+
+				final Collection<?> collection = (Collection<?>) result;
+				final Object array = Array.newInstance(componentType, collection.size());
+				int i = 0;
+
+				for (final Object item : collection) {
+					if(item == null) {
+						throw new IllegalArgumentException("Null Element {" + i + "} for " + componentType.getName() + "[]");
+					}
+
+					Array.set(array, i++, item);
+				}
+
+				return array;
+			};
+		}
+
+		if(Collection.class.isAssignableFrom(returnType)) {
+			return result -> {
+				if(result == null || !result.getClass().isArray()) {
+					return result;
+				}
+
+				final Collection<Object> collection = ObjectReflectionHelper.newCollection(returnType);
+				ArrayListView.of(result).copyInto(collection);
+
+				return collection;
+			};
+		}
+
+		return result -> result;
+	}
+
+}
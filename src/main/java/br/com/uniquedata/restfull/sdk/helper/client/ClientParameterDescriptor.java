@@ -0,0 +1,59 @@
+package br.com.uniquedata.restfull.sdk.helper.client;
+
+import java.lang.reflect.Parameter;
+
+import br.com.uniquedata.sdk.helper.type.ResolvedType;
+
+/**
+ * Immutable description of one parameter of a client method.
+ */
+public final class ClientParameterDescriptor {
+
+	private final int index;
+
+	private final String name;
+
+	private final Class<?> type;
+
+	private final ResolvedType resolvedType;
+
+	private final ClientAnnotationValues annotationValues;
+
+	ClientParameterDescriptor(final int index, final Parameter parameter, final ResolvedType resolvedType) {
+		this.index = index;
+		this.name = parameter.getName();
+		this.type = resolvedType.getRawClass();
+		this.resolvedType = resolvedType;
+		this.annotationValues = new ClientAnnotationValues(parameter.getAnnotations());
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Parameter name as reported by reflection; {@code argN} unless the interface was compiled
+	 * with {@code -parameters}.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	public Class<?> getType() {
+		return type;
+	}
+
+	public ResolvedType getResolvedType() {
+		return resolvedType;
+	}
+
+	public ClientAnnotationValues getAnnotationValues() {
+		return annotationValues;
+	}
+
+	@Override
+	public String toString() {
+		return resolvedType + " " + name;
+	}
+
+}
@@ -0,0 +1,12 @@
+package br.com.uniquedata.restfull.sdk.helper.client;
+
+/**
+ * Adapts the value produced by a {@link ClientInvocationHandler} to the
+ * declared return type of the client method.
+ */
+@FunctionalInterface
+public interface ClientResultMapper {
+
+	Object map(Object result);
+
+}
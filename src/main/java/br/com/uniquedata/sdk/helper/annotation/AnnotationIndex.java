@@ -0,0 +1,165 @@
+package br.com.uniquedata.sdk.helper.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
+
+/**
+ * Per-class index of where each annotation type appears: on the class itself,
+ * on its declared fields and on its declared methods.
+ *
+ * <p>
+ * The index is built once per class ({@link ClassValue}-backed) and answers
+ * every question in constant time. An element counts as annotated with
+ * {@code A} when {@code A} is present on it directly or as a meta-annotation,
+ * so {@code @Email} declared as {@code @Sensitive @interface Email} is also
+ * indexed under {@code @Sensitive}.
+ * </p>
+ */
+public final class AnnotationIndex {
+
+	private static final ClassValue<AnnotationIndex> CACHE = new ClassValue<AnnotationIndex>() {
+		@Override
+		protected AnnotationIndex computeValue(final Class<?> type) {
+			return new AnnotationIndex(type);
+		}
+	};
+
+	private final Class<?> classType;
+
+	private final Map<Class<? extends Annotation>, AnnotatedElements> elements;
+
+	private AnnotationIndex(final Class<?> classType) {
+		final ClassMetadata metadata = ClassMetadata.of(classType);
+		final Map<Class<? extends Annotation>, AnnotatedElements> elements = new HashMap<>();
+
+		for (final Class<? extends Annotation> annotationType : annotationTypesOf(metadata.getAnnotations())) {
+			elements.computeIfAbsent(annotationType, key -> new AnnotatedElements()).typeLevel = true;
+		}
+
+		for (final Field field : metadata.getDeclaredFields()) {
+			for (final Class<? extends Annotation> annotationType : annotationTypesOf(Arrays.asList(field.getAnnotations()))) {
+				elements.computeIfAbsent(annotationType, key -> new AnnotatedElements()).addField(field);
+			}
+		}
+
+		for (final Method method : metadata.getDeclaredMethods()) {
+			for (final Class<? extends Annotation> annotationType : annotationTypesOf(Arrays.asList(method.getAnnotations()))) {
+				elements.computeIfAbsent(annotationType, key -> new AnnotatedElements()).addMethod(method);
+			}
+		}
+
+		elements.values().forEach(AnnotatedElements::seal);
+
+		this.classType = classType;
+		this.elements = Collections.unmodifiableMap(elements);
+	}
+
+	public static AnnotationIndex of(final Class<?> classType) {
+		return CACHE.get(classType);
+	}
+
+	public Class<?> getClassType() {
+		return classType;
+	}
+
+	public Set<Class<? extends Annotation>> getAnnotationTypes() {
+		return elements.keySet();
+	}
+
+	public boolean isPresent(final Class<? extends Annotation> annotation) {
+		return elements.containsKey(annotation);
+	}
+
+	public boolean isPresentOnType(final Class<? extends Annotation> annotation) {
+		final AnnotatedElements annotatedElements = elements.get(annotation);
+		return annotatedElements != null && annotatedElements.typeLevel;
+	}
+
+	public boolean hasFields(final Class<? extends Annotation> annotation) {
+		final AnnotatedElements annotatedElements = elements.get(annotation);
+		return annotatedElements != null && !annotatedElements.fields.isEmpty();
+	}
+
+	public boolean hasMethods(final Class<? extends Annotation> annotation) {
+		final AnnotatedElements annotatedElements = elements.get(annotation);
+		return annotatedElements != null && !annotatedElements.methods.isEmpty();
+	}
+
+	public boolean isPresent(final Field field, final Class<? extends Annotation> annotation) {
+		final AnnotatedElements annotatedElements = elements.get(annotation);
+		return annotatedElements != null && annotatedElements.fieldSet.contains(field);
+	}
+
+	public boolean isPresent(final Method method, final Class<? extends Annotation> annotation) {
+		final AnnotatedElements annotatedElements = elements.get(annotation);
+		return annotatedElements != null && annotatedElements.methodSet.contains(method);
+	}
+
+	public List<Field> getFields(final Class<? extends Annotation> annotation) {
+		final AnnotatedElements annotatedElements = elements.get(annotation);
+		return annotatedElements == null ? Collections.emptyList() : annotatedElements.fields;
+	}
+
+	public List<Method> getMethods(final Class<? extends Annotation> annotation) {
+		final AnnotatedElements annotatedElements = elements.get(annotation);
+		return annotatedElements == null ? Collections.emptyList() : annotatedElements.methods;
+	}
+
+	private static Set<Class<? extends Annotation>> annotationTypesOf(final List<Annotation> annotations) {
+		if(annotations.isEmpty()) {
+			return Collections.emptySet();
+		}
+
+		final Set<Class<? extends Annotation>> annotationTypes = new HashSet<>();
+
+		for (final Annotation annotation : annotations) {
+			annotationTypes.add(annotation.annotationType());
+			annotationTypes.addAll(AnnotationMetadata.of(annotation).getMetaAnnotationTypes());
+		}
+
+		return annotationTypes;
+	}
+
+	private static final class AnnotatedElements {
+
+		private boolean typeLevel;
+
+		private List<Field> fields = new ArrayList<>();
+
+		private List<Method> methods = new ArrayList<>();
+
+		private Set<Field> fieldSet = new HashSet<>();
+
+		private Set<Method> methodSet = new HashSet<>();
+
+		private void addField(final Field field) {
+			fields.add(field);
+			fieldSet.add(field);
+		}
+
+		private void addMethod(final Method method) {
+			methods.add(method);
+			methodSet.add(method);
+		}
+
+		private void seal() {
+			fields = Collections.unmodifiableList(fields);
+			methods = Collections.unmodifiableList(methods);
+			fieldSet = Collections.unmodifiableSet(fieldSet);
+			methodSet = Collections.unmodifiableSet(methodSet);
+		}
+
+	}
+
+}
@@ -0,0 +1,275 @@
+package br.com.uniquedata.sdk.helper.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import br.com.uniquedata.sdk.helper.cache.WeakIdentityCache;
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
+
+/**
+ * Cached description of an annotation type: attribute names, types, defaults
+ * and one pre-resolved invoker per attribute.
+ *
+ * <p>
+ * Metadata is built once per annotation type. Attribute values read from a
+ * given annotation instance are memoized by identity, so reading the same
+ * {@code @JsonName("...")} on every request costs a single lookup instead of a
+ * method search plus {@code Method.invoke}. Array-valued attributes are copied
+ * on every read, as the JDK does, so callers can never alter the memoized value.
+ * </p>
+ */
+public final class AnnotationMetadata {
+
+	private static final String VALUE_ATTRIBUTE = "value";
+	
+	private static final String JAVA_LANG_ANNOTATION = "java.lang.annotation.";
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Annotation.class);
+
+	private static final ClassValue<AnnotationMetadata> CACHE = new ClassValue<AnnotationMetadata>() {
+		@Override
+		@SuppressWarnings("unchecked")
+		protected AnnotationMetadata computeValue(final Class<?> type) {
+			return new AnnotationMetadata((Class<? extends Annotation>) type);
+		}
+	};
+
+	private final Class<? extends Annotation> annotationType;
+
+	private final String[] attributeNames;
+
+	private final Class<?>[] attributeTypes;
+
+	private final Object[] defaultValues;
+
+	private final MethodHandle[] invokers;
+
+	private final Map<String, Integer> attributeIndexes;
+
+	private final int primaryIndex;
+
+	private final WeakIdentityCache<Annotation, Object[]> values;
+	
+	private volatile Set<Class<? extends Annotation>> metaAnnotationTypes;
+
+	private AnnotationMetadata(final Class<? extends Annotation> annotationType) {
+		if(!annotationType.isAnnotation()) {
+			throw new IllegalArgumentException("The type must be an annotation, but was: " + annotationType.getName());
+		}
+
+		final List<Method> attributes = new ArrayList<>();
+
+		for (final Method method : ClassMetadata.of(annotationType).getDeclaredMethods()) {
+			if(method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers()) && !method.isSynthetic()) {
+				attributes.add(method);
+			}
+		}
+
+		this.annotationType = annotationType;
+		this.attributeNames = new String[attributes.size()];
+		this.attributeTypes = new Class<?>[attributes.size()];
+		this.defaultValues = new Object[attributes.size()];
+		this.invokers = new MethodHandle[attributes.size()];
+		this.values = new WeakIdentityCache<>();
+
+		final Map<String, Integer> attributeIndexes = new HashMap<>();
+
+		for (int i = 0; i < attributes.size(); i++) {
+			final Method attribute = attributes.get(i);
+
+			attributeNames[i] = attribute.getName();
+			attributeTypes[i] = attribute.getReturnType();
+			defaultValues[i] = attribute.getDefaultValue();
+			invokers[i] = toInvoker(attribute);
+			attributeIndexes.put(attribute.getName(), i);
+		}
+
+		this.attributeIndexes = Collections.unmodifiableMap(attributeIndexes);
+		this.primaryIndex = attributeIndexes.getOrDefault(VALUE_ATTRIBUTE, attributes.isEmpty() ? -1 : 0);
+	}
+
+	public static AnnotationMetadata of(final Class<? extends Annotation> annotationType) {
+		return CACHE.get(annotationType);
+	}
+
+	public static AnnotationMetadata of(final Annotation annotation) {
+		return CACHE.get(annotation.annotationType());
+	}
+
+	public Class<? extends Annotation> getAnnotationType() {
+		return annotationType;
+	}
+
+	public int getAttributeCount() {
+		return attributeNames.length;
+	}
+
+	public List<String> getAttributeNames() {
+		return Collections.unmodifiableList(Arrays.asList(attributeNames));
+	}
+
+	public boolean hasAttribute(final String attributeName) {
+		return attributeIndexes.containsKey(attributeName);
+	}
+
+	public int indexOf(final String attributeName) {
+		final Integer index = attributeIndexes.get(attributeName);
+		return index == null ? -1 : index;
+	}
+
+	public Class<?> getAttributeType(final String attributeName) {
+		return attributeTypes[requireIndex(attributeName)];
+	}
+
+	public Object getDefaultValue(final String attributeName) {
+		return copyOf(defaultValues[requireIndex(attributeName)]);
+	}
+
+	/**
+	 * Returns the attribute usually meant when an annotation is read without
+	 * naming one: {@code value()} when declared, otherwise the first attribute.
+	 * Returns {@code null} for marker annotations.
+	 */
+	public Object getValue(final Annotation annotation) {
+		return primaryIndex < 0 ? null : getAttribute(annotation, primaryIndex);
+	}
+
+	public Object getAttribute(final Annotation annotation, final String attributeName) {
+		return getAttribute(annotation, requireIndex(attributeName));
+	}
+
+	public Object getAttribute(final Annotation annotation, final int index) {
+		return copyOf(values(annotation)[index]);
+	}
+
+	public Map<String, Object> getAttributes(final Annotation annotation) {
+		final Object[] values = values(annotation);
+		final Map<String, Object> attributes = new HashMap<>();
+
+		for (int i = 0; i < attributeNames.length; i++) {
+			attributes.put(attributeNames[i], copyOf(values[i]));
+		}
+
+		return attributes;
+	}
+
+	/**
+	 * Returns every annotation type found, directly or transitively, on this
+	 * annotation type, ignoring the {@code java.lang.annotation} ones
+	 * ({@code @Retention}, {@code @Target}, ...).
+	 */
+	public Set<Class<? extends Annotation>> getMetaAnnotationTypes() {
+		Set<Class<? extends Annotation>> metaAnnotationTypes = this.metaAnnotationTypes;
+		
+		if(metaAnnotationTypes == null) {
+			final Set<Class<? extends Annotation>> collected = new LinkedHashSet<>();
+			collectMetaAnnotationTypes(annotationType, collected);
+			collected.remove(annotationType);
+			
+			metaAnnotationTypes = Collections.unmodifiableSet(collected);
+			this.metaAnnotationTypes = metaAnnotationTypes;
+		}
+		
+		return metaAnnotationTypes;
+	}
+	
+	public boolean isMetaAnnotatedWith(final Class<? extends Annotation> metaAnnotationType) {
+		return getMetaAnnotationTypes().contains(metaAnnotationType);
+	}
+	
+	private static void collectMetaAnnotationTypes(final Class<? extends Annotation> annotationType, 
+			final Set<Class<? extends Annotation>> collected) {
+		
+		for (final Annotation metaAnnotation : annotationType.getDeclaredAnnotations()) {
+			final Class<? extends Annotation> metaAnnotationType = metaAnnotation.annotationType();
+			
+			if(!metaAnnotationType.getName().startsWith(JAVA_LANG_ANNOTATION) && collected.add(metaAnnotationType)) {
+				collectMetaAnnotationTypes(metaAnnotationType, collected);
+			}
+		}
+	}
+
+	private Object[] values(final Annotation annotation) {
+		if(!annotationType.isInstance(annotation)) {
+			throw new IllegalArgumentException("Annotation " + annotation + " is not of type " + annotationType.getName());
+		}
+
+		return values.computeIfAbsent(annotation, this::readValues);
+	}
+
+	private Object[] readValues(final Annotation annotation) {
+		final Object[] values = new Object[invokers.length];
+
+		try {
+			for (int i = 0; i < invokers.length; i++) {
+				if(invokers[i] == null) {
+					throw new IllegalStateException("Cannot access attribute {" + attributeNames[i] + "} on " + annotationType.getName());
+				}
+				
+				values[i] = invokers[i].invokeExact(annotation);
+			}
+		}catch (RuntimeException | Error e) {
+			throw e;
+		}catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+
+		return values;
+	}
+
+	private int requireIndex(final String attributeName) {
+		final Integer index = attributeIndexes.get(attributeName);
+
+		if(index == null) {
+			throw new IllegalArgumentException("Attribute Not Found {" + attributeName + "} on " + annotationType.getName());
+		}
+
+		return index;
+	}
+
+	private static Object copyOf(final Object value) {
+		if(value != null && value.getClass().isArray()) {
+			final int length = Array.getLength(value);
+			final Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			System.arraycopy(value, 0, copy, 0, length);
+
+			return copy;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Invoker of {@code attribute}, or {@code null} when it cannot be made accessible
+	 * (e.g. an annotation declared in a package its module does not open). Metadata is
+	 * also built for annotations that are only walked as meta-annotations and never
+	 * read, so such an attribute must not fail {@link #of(Class)}; reading its value
+	 * does, with an {@link IllegalStateException}.
+	 */
+	private static MethodHandle toInvoker(final Method attribute) {
+		try {
+			return MethodHandles.publicLookup().unreflect(attribute).asType(INVOKER_TYPE);
+		}catch (IllegalAccessException e) {
+			try {
+				attribute.setAccessible(true);
+				return MethodHandles.lookup().unreflect(attribute).asType(INVOKER_TYPE);
+			}catch (Exception ex) {
+				return null;
+			}
+		}
+	}
+
+}
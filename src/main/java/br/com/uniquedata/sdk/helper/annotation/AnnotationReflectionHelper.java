@@ -2,47 +2,83 @@ package br.com.uniquedata.sdk.helper.annotation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import br.com.uniquedata.sdk.helper.annotation.index.AnnotationIndexProcessor;
+import br.com.uniquedata.sdk.helper.annotation.index.ClasspathAnnotationIndex;
 import br.com.uniquedata.sdk.helper.method.MethodReflectionHelper;
-import br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper;
 import br.com.uniquedata.sdk.helper.pojo.extract.ExtractAnnotation;
-import br.com.uniquedata.sdk.helper.pojo.extract.ExtractMethod;
+import br.com.uniquedata.sdk.helper.pojo.index.IndexedElement;
 
 public class AnnotationReflectionHelper {
 	
+	/**
+	 * Checks whether any declared field of {@code classType} carries the annotation,
+	 * directly or as a meta-annotation. Answered from the cached {@link AnnotationIndex}.
+	 */
 	public static boolean contains(final Class<?> classType, final Class<? extends Annotation> annotation){
-		final Stream<Field> stream = Arrays.asList(classType.getDeclaredFields()).stream();
-		return stream.anyMatch(filter -> filter.isAnnotationPresent(annotation));
+		return AnnotationIndex.of(classType).hasFields(annotation);
+	}
+	
+	public static boolean isPresent(final Field field, final Class<? extends Annotation> annotation){
+		return AnnotationIndex.of(field.getDeclaringClass()).isPresent(field, annotation);
+	}
+	
+	/**
+	 * Lists the fields annotated with {@code annotation} across the classpath using the
+	 * build-time index written by {@link AnnotationIndexProcessor}, without loading the
+	 * annotated classes. Returns an empty list when no index was generated.
+	 */
+	public static List<IndexedElement> findIndexedFields(final Class<? extends Annotation> annotation){
+		return ClasspathAnnotationIndex.load().getFields(annotation);
 	}
 	
 	public static ExtractAnnotation extractByMethodName(final Annotation annotation, final String methodName) {
 		final ExtractAnnotation extractAnnotation = new ExtractAnnotation();
 		extractAnnotation.setAnnotation(annotation);
-		extractAnnotation.setAnnotationValue(MethodReflectionHelper.extract(annotation, methodName).getMethodValue());
+		extractAnnotation.setAnnotationValue(getAttribute(annotation, methodName));
 		extractAnnotation.setAnnotationName(annotation.annotationType().getSimpleName());
 		
 		return extractAnnotation;
 	}
 	
 	public static List<ExtractAnnotation> extract(final Annotation ... annotations) {
-		return Arrays.asList(annotations).stream()
-			.map(annotation -> {
-				return ObjectReflectionHelper.toStream(annotation.annotationType().getDeclaredMethods())
-					.map(method -> {
-						final ExtractMethod extractMethod = MethodReflectionHelper.extract(annotation, method.getName());
-	
-						final ExtractAnnotation extractAnnotation = new ExtractAnnotation();
-						extractAnnotation.setAnnotation(annotation);
-						extractAnnotation.setAnnotationName(annotation.annotationType().getSimpleName());
-						extractAnnotation.setAnnotationValue(extractMethod.getMethodValue());
+		final List<ExtractAnnotation> extractAnnotations = new ArrayList<>(annotations.length);
+		
+		for (final Annotation annotation : annotations) {
+			final AnnotationMetadata annotationMetadata = AnnotationMetadata.of(annotation);
+			
+			if(annotationMetadata.getAttributeCount() == 0) {
+				extractAnnotations.add(null);
+				continue;
+			}
+			
+			final ExtractAnnotation extractAnnotation = new ExtractAnnotation();
+			extractAnnotation.setAnnotation(annotation);
+			extractAnnotation.setAnnotationName(annotation.annotationType().getSimpleName());
+			extractAnnotation.setAnnotationValue(annotationMetadata.getValue(annotation));
+			
+			extractAnnotations.add(extractAnnotation);
+		}
+		
+		return extractAnnotations;
+	}
 	
-						return extractAnnotation;
-				}).findAny().orElse(null);
-		}).collect(Collectors.toList());
+	/**
+	 * Reads an annotation attribute through the cached {@link AnnotationMetadata}
+	 * of its type. Names that are not attributes ({@code toString}, {@code annotationType}, ...)
+	 * fall back to a regular reflective method call.
+	 */
+	public static Object getAttribute(final Annotation annotation, final String attributeName) {
+		final AnnotationMetadata annotationMetadata = AnnotationMetadata.of(annotation);
+		
+		if(annotationMetadata.hasAttribute(attributeName)) {
+			return annotationMetadata.getAttribute(annotation, attributeName);
+		}
+		
+		return MethodReflectionHelper.extract(annotation, attributeName).getMethodValue();
 	}
 	
 	public static ExtractAnnotation extractAnnotationByFieldAndMethodName(
@@ -51,12 +87,11 @@ public class AnnotationReflectionHelper {
 		return Arrays.asList(field.getAnnotations()).stream()
 			.filter(filterAnnotation -> filterAnnotation.equals(annotation))
 			.map(annotationFound -> {
-				final Object objectAnnotation = field.getAnnotation(annotationFound.annotationType());
-				final ExtractMethod extractMethod = MethodReflectionHelper.extract(objectAnnotation, methodName);
+				final Annotation objectAnnotation = field.getAnnotation(annotationFound.annotationType());
 
 				final ExtractAnnotation extractAnnotation = new ExtractAnnotation();
 				extractAnnotation.setAnnotation(annotationFound);
-				extractAnnotation.setAnnotationValue(extractMethod.getMethodValue());
+				extractAnnotation.setAnnotationValue(getAttribute(objectAnnotation, methodName));
 				extractAnnotation.setAnnotationName(annotationFound.annotationType().getSimpleName());
 
 				return extractAnnotation;
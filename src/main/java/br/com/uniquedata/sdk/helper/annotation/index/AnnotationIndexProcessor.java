@@ -0,0 +1,263 @@
+package br.com.uniquedata.sdk.helper.annotation.index;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import br.com.uniquedata.sdk.helper.pojo.index.IndexedElement;
+import br.com.uniquedata.sdk.helper.pojo.index.IndexedElement.IndexedElementKind;
+
+/**
+ * Annotation processor that writes {@value ClasspathAnnotationIndex#INDEX_LOCATION}
+ * at build time, listing every annotated class, field and method of the
+ * compiled sources together with the annotation type (meta-annotations included).
+ *
+ * <p>
+ * Indexing is opt-in: the processor is not registered through
+ * {@code META-INF/services}, so it never runs just because this library is on the
+ * compile classpath. Projects that want an index declare it explicitly:
+ * </p>
+ *
+ * <pre>{@code
+ * <annotationProcessorPaths>
+ *   <path>
+ *     <groupId>br.com.uniquedata.sdk.helper</groupId>
+ *     <artifactId>uniquedata-sdk-helper</artifactId>
+ *     <version>${uniquedata.version}</version>
+ *   </path>
+ * </annotationProcessorPaths>
+ * <annotationProcessors>
+ *   <annotationProcessor>br.com.uniquedata.sdk.helper.annotation.index.AnnotationIndexProcessor</annotationProcessor>
+ * </annotationProcessors>
+ * }</pre>
+ *
+ * <p>
+ * or {@code -processor} with {@code javac}. Annotations from {@code java.*},
+ * {@code javax.*}, {@code jdk.*} and {@code sun.*} are skipped; the
+ * {@value #OPTION_PACKAGES} option restricts indexing to the given comma-separated
+ * annotation package prefixes, e.g. {@code -Auniquedata.index.packages=com.acme.annotation},
+ * which keeps framework annotations (Spring, JPA, Lombok...) out of the index.
+ * </p>
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(AnnotationIndexProcessor.OPTION_PACKAGES)
+public class AnnotationIndexProcessor extends AbstractProcessor {
+
+	public static final String OPTION_PACKAGES = "uniquedata.index.packages";
+
+	private static final String[] EXCLUDED_PACKAGES = { "java.", "javax.", "jdk.", "sun.", "com.sun." };
+
+	private final Set<IndexedElement> elements = new LinkedHashSet<>();
+
+	private final Set<String> processedClassNames = new HashSet<>();
+
+	private List<String> packages = Collections.emptyList();
+
+	@Override
+	public synchronized void init(final ProcessingEnvironment processingEnv) {
+		super.init(processingEnv);
+
+		final String option = processingEnv.getOptions().get(OPTION_PACKAGES);
+
+		if(option != null && !option.isBlank()) {
+			final List<String> packages = new ArrayList<>();
+
+			for (final String packageName : option.split(",")) {
+				if(!packageName.isBlank()) {
+					packages.add(packageName.trim());
+				}
+			}
+
+			this.packages = packages;
+		}
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		if(roundEnv.processingOver()) {
+			writeIndex();
+		}else {
+			for (final Element element : roundEnv.getRootElements()) {
+				if(element instanceof TypeElement) {
+					indexType((TypeElement) element);
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private void indexType(final TypeElement typeElement) {
+		final String className = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+		processedClassNames.add(className);
+
+		addElements(typeElement, IndexedElementKind.TYPE, className, null);
+
+		for (final Element enclosed : typeElement.getEnclosedElements()) {
+			if(enclosed instanceof TypeElement) {
+				indexType((TypeElement) enclosed);
+			}else if(enclosed.getKind() == ElementKind.FIELD) {
+				addElements(enclosed, IndexedElementKind.FIELD, className, enclosed.getSimpleName().toString());
+			}else if(enclosed.getKind() == ElementKind.METHOD) {
+				addElements(enclosed, IndexedElementKind.METHOD, className, toMemberName((ExecutableElement) enclosed));
+			}
+		}
+	}
+
+	private void addElements(final Element element, final IndexedElementKind kind,
+			final String className, final String memberName) {
+
+		final Set<TypeElement> annotationTypes = new LinkedHashSet<>();
+
+		for (final AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+			collectAnnotationTypes((TypeElement) annotationMirror.getAnnotationType().asElement(), annotationTypes);
+		}
+
+		for (final TypeElement annotationType : annotationTypes) {
+			final String annotationName = processingEnv.getElementUtils().getBinaryName(annotationType).toString();
+
+			if(isIndexed(annotationName)) {
+				elements.add(new IndexedElement(annotationName, kind, className, memberName));
+			}
+		}
+	}
+
+	private void collectAnnotationTypes(final TypeElement annotationType, final Set<TypeElement> annotationTypes) {
+		if(annotationType.getQualifiedName().toString().startsWith("java.lang.annotation.")
+				|| !annotationTypes.add(annotationType)) {
+			return;
+		}
+
+		for (final AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+			collectAnnotationTypes((TypeElement) metaAnnotation.getAnnotationType().asElement(), annotationTypes);
+		}
+	}
+
+	private boolean isIndexed(final String annotationName) {
+		if(!packages.isEmpty()) {
+			return packages.stream().anyMatch(annotationName::startsWith);
+		}
+
+		for (final String excluded : EXCLUDED_PACKAGES) {
+			if(annotationName.startsWith(excluded)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private String toMemberName(final ExecutableElement method) {
+		final StringBuilder builder = new StringBuilder(method.getSimpleName()).append('(');
+
+		for (int i = 0; i < method.getParameters().size(); i++) {
+			final TypeMirror parameterType = processingEnv.getTypeUtils().erasure(method.getParameters().get(i).asType());
+
+			if(i > 0) {
+				builder.append(',');
+			}
+
+			builder.append(toTypeName(parameterType));
+		}
+
+		return builder.append(')').toString();
+	}
+
+	private String toTypeName(final TypeMirror typeMirror) {
+		final Element element = processingEnv.getTypeUtils().asElement(typeMirror);
+
+		if(element instanceof TypeElement) {
+			return processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+		}
+
+		return typeMirror.toString();
+	}
+
+	private void writeIndex() {
+		final Set<IndexedElement> merged = new LinkedHashSet<>(readPreviousIndex());
+		merged.addAll(elements);
+
+		if(merged.isEmpty()) {
+			return;
+		}
+
+		final Set<String> lines = new TreeSet<>();
+		merged.forEach(element -> lines.add(ClasspathAnnotationIndex.format(element)));
+
+		try {
+			final FileObject resource = processingEnv.getFiler()
+				.createResource(StandardLocation.CLASS_OUTPUT, "", ClasspathAnnotationIndex.INDEX_LOCATION);
+
+			try (Writer writer = resource.openWriter()) {
+				writer.write(ClasspathAnnotationIndex.INDEX_HEADER);
+				writer.write('\n');
+
+				for (final String line : lines) {
+					writer.write(line);
+					writer.write('\n');
+				}
+			}
+		}catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+				"Failed to write annotation index " + ClasspathAnnotationIndex.INDEX_LOCATION + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Keeps entries of an index left by a previous incremental compilation whose
+	 * classes were not recompiled in this run and still exist.
+	 */
+	private List<IndexedElement> readPreviousIndex() {
+		final List<IndexedElement> previous = new ArrayList<>();
+
+		try {
+			final FileObject resource = processingEnv.getFiler()
+				.getResource(StandardLocation.CLASS_OUTPUT, "", ClasspathAnnotationIndex.INDEX_LOCATION);
+
+			try (Reader reader = resource.openReader(true)) {
+				for (final IndexedElement element : ClasspathAnnotationIndex.parse(reader)) {
+					if(!processedClassNames.contains(element.getClassName()) && exists(element.getClassName())) {
+						previous.add(element);
+					}
+				}
+			}
+		}catch (IOException | IllegalStateException | IllegalArgumentException e) {
+			return Collections.emptyList();
+		}
+
+		return previous;
+	}
+
+	private boolean exists(final String binaryName) {
+		return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+	}
+
+}
@@ -0,0 +1,188 @@
+package br.com.uniquedata.sdk.helper.annotation.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import br.com.uniquedata.sdk.helper.cache.WeakIdentityCache;
+import br.com.uniquedata.sdk.helper.pojo.index.IndexedElement;
+import br.com.uniquedata.sdk.helper.pojo.index.IndexedElement.IndexedElementKind;
+
+/**
+ * Runtime view of the annotation index written by {@link AnnotationIndexProcessor}.
+ *
+ * <p>
+ * All {@value #INDEX_LOCATION} resources visible to a class loader are merged
+ * into one index, read once per class loader. Queries work on names only, so
+ * asking for "all fields annotated with X" never loads the annotated classes.
+ * </p>
+ *
+ * <pre>{@code
+ * ClasspathAnnotationIndex.load().getFields(Email.class)
+ *     .forEach(element -> System.out.println(element.getClassName() + "#" + element.getMemberName()));
+ * }</pre>
+ */
+public final class ClasspathAnnotationIndex {
+
+	public static final String INDEX_LOCATION = "META-INF/uniquedata/annotation.index";
+
+	static final String INDEX_HEADER = "# uniquedata annotation index v1";
+
+	static final char SEPARATOR = '\t';
+
+	private static final WeakIdentityCache<ClassLoader, ClasspathAnnotationIndex> CACHE = new WeakIdentityCache<>();
+
+	private final Map<String, List<IndexedElement>> elements;
+
+	private final boolean available;
+
+	private ClasspathAnnotationIndex(final Map<String, List<IndexedElement>> elements, final boolean available) {
+		this.elements = elements;
+		this.available = available;
+	}
+
+	public static ClasspathAnnotationIndex load() {
+		final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		return load(classLoader != null ? classLoader : ClasspathAnnotationIndex.class.getClassLoader());
+	}
+
+	public static ClasspathAnnotationIndex load(final ClassLoader classLoader) {
+		return CACHE.computeIfAbsent(classLoader != null ? classLoader : ClassLoader.getSystemClassLoader(), 
+			ClasspathAnnotationIndex::read);
+	}
+
+	/**
+	 * Returns {@code true} when at least one index resource was found, so callers can
+	 * fall back to reflective scanning for code compiled without the processor.
+	 */
+	public boolean isAvailable() {
+		return available;
+	}
+
+	public Set<String> getAnnotationTypes() {
+		return elements.keySet();
+	}
+
+	public List<IndexedElement> getElements(final String annotationType) {
+		return elements.getOrDefault(annotationType, Collections.emptyList());
+	}
+
+	public List<IndexedElement> getElements(final Class<? extends Annotation> annotationType) {
+		return getElements(annotationType.getName());
+	}
+
+	public List<IndexedElement> getTypes(final Class<? extends Annotation> annotationType) {
+		return filter(annotationType.getName(), IndexedElementKind.TYPE);
+	}
+
+	public List<IndexedElement> getFields(final Class<? extends Annotation> annotationType) {
+		return filter(annotationType.getName(), IndexedElementKind.FIELD);
+	}
+
+	public List<IndexedElement> getFields(final String annotationType) {
+		return filter(annotationType, IndexedElementKind.FIELD);
+	}
+
+	public List<IndexedElement> getMethods(final Class<? extends Annotation> annotationType) {
+		return filter(annotationType.getName(), IndexedElementKind.METHOD);
+	}
+
+	public Set<String> getClassNames(final Class<? extends Annotation> annotationType) {
+		final Set<String> classNames = new LinkedHashSet<>();
+
+		for (final IndexedElement element : getElements(annotationType)) {
+			classNames.add(element.getClassName());
+		}
+
+		return classNames;
+	}
+
+	private List<IndexedElement> filter(final String annotationType, final IndexedElementKind kind) {
+		final List<IndexedElement> filtered = new ArrayList<>();
+
+		for (final IndexedElement element : getElements(annotationType)) {
+			if(element.getKind() == kind) {
+				filtered.add(element);
+			}
+		}
+
+		return filtered;
+	}
+
+	private static ClasspathAnnotationIndex read(final ClassLoader classLoader) {
+		final Map<String, Set<IndexedElement>> collected = new HashMap<>();
+		boolean available = false;
+
+		try {
+			final Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+
+			while (resources.hasMoreElements()) {
+				try (InputStream inputStream = resources.nextElement().openStream()) {
+					for (final IndexedElement element : parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+						collected.computeIfAbsent(element.getAnnotationType(), key -> new LinkedHashSet<>()).add(element);
+					}
+				}
+
+				available = true;
+			}
+		}catch (IOException e) {
+			throw new IllegalStateException("Failed to read annotation index " + INDEX_LOCATION, e);
+		}
+
+		final Map<String, List<IndexedElement>> elements = new HashMap<>();
+		collected.forEach((annotationType, indexed) -> elements.put(annotationType, List.copyOf(indexed)));
+
+		return new ClasspathAnnotationIndex(Collections.unmodifiableMap(elements), available);
+	}
+
+	static List<IndexedElement> parse(final Reader reader) throws IOException {
+		final List<IndexedElement> elements = new ArrayList<>();
+		final BufferedReader bufferedReader = new BufferedReader(reader);
+
+		String line;
+
+		while ((line = bufferedReader.readLine()) != null) {
+			if(line.isEmpty() || line.charAt(0) == '#') {
+				continue;
+			}
+
+			final String[] columns = line.split(String.valueOf(SEPARATOR), -1);
+
+			if(columns.length < 3 || columns[1].length() != 1) {
+				throw new IllegalStateException("Malformed annotation index line {" + line + "}");
+			}
+
+			final String memberName = columns.length > 3 && !columns[3].isEmpty() ? columns[3] : null;
+			elements.add(new IndexedElement(columns[0], IndexedElementKind.fromCode(columns[1].charAt(0)), columns[2], memberName));
+		}
+
+		return elements;
+	}
+
+	static String format(final IndexedElement element) {
+		final StringBuilder builder = new StringBuilder()
+			.append(element.getAnnotationType()).append(SEPARATOR)
+			.append(element.getKind().getCode()).append(SEPARATOR)
+			.append(element.getClassName());
+
+		if(element.getMemberName() != null) {
+			builder.append(SEPARATOR).append(element.getMemberName());
+		}
+
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,73 @@
+package br.com.uniquedata.sdk.helper.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Thread-safe cache keyed by a pair of classes, kept with the class of the most
+ * specific class loader ({@link ClassValue}-backed).
+ *
+ * <p>
+ * A value computed for {@code (first, second)} usually references both classes.
+ * It is attached to {@code first}, unless the loader of {@code second} is a
+ * descendant of the loader of {@code first}, in which case it is attached to
+ * {@code second}: a pair made of a library class and an application class then
+ * lives as long as the application class, and never keeps an undeployed
+ * application loader reachable from the library. When the loaders are unrelated,
+ * the value stays with {@code first}.
+ * </p>
+ *
+ * @param <V> value type
+ */
+public final class ClassPairCache<V> {
+
+	private final ClassValue<Map<Class<?>, V>> byFirst = new ClassValue<Map<Class<?>, V>>() {
+		@Override
+		protected Map<Class<?>, V> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private final ClassValue<Map<Class<?>, V>> bySecond = new ClassValue<Map<Class<?>, V>>() {
+		@Override
+		protected Map<Class<?>, V> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	public V get(final Class<?> first, final Class<?> second) {
+		return isAnchoredOnFirst(first, second) ? byFirst.get(first).get(second) : bySecond.get(second).get(first);
+	}
+
+	/**
+	 * Value of the pair, computed by {@code mappingFunction} and kept on the first call. The
+	 * function receives the pair in the order given, whichever class it is attached to.
+	 */
+	public V computeIfAbsent(final Class<?> first, final Class<?> second, final BiFunction<Class<?>, Class<?>, ? extends V> mappingFunction) {
+		final boolean anchoredOnFirst = isAnchoredOnFirst(first, second);
+		final Map<Class<?>, V> values = anchoredOnFirst ? byFirst.get(first) : bySecond.get(second);
+		final Class<?> key = anchoredOnFirst ? second : first;
+		final V value = values.get(key);
+
+		return value != null ? value : values.computeIfAbsent(key, k -> mappingFunction.apply(first, second));
+	}
+
+	private static boolean isAnchoredOnFirst(final Class<?> first, final Class<?> second) {
+		final ClassLoader firstLoader = first.getClassLoader();
+		final ClassLoader secondLoader = second.getClassLoader();
+
+		if(secondLoader == null || secondLoader == firstLoader) {
+			return true;
+		}
+
+		for (ClassLoader loader = secondLoader.getParent(); loader != null; loader = loader.getParent()) {
+			if(loader == firstLoader) {
+				return false;
+			}
+		}
+
+		return firstLoader != null;
+	}
+
+}
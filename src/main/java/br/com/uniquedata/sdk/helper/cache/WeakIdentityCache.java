@@ -0,0 +1,136 @@
+package br.com.uniquedata.sdk.helper.cache;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache keyed by object identity that never keeps its keys alive.
+ *
+ * <p>
+ * Lookups compare keys with {@code ==} and hash them with
+ * {@link System#identityHashCode(Object)}, so keys whose own {@code hashCode}
+ * is expensive (annotation proxies, for instance) are cheap to look up. Entries
+ * whose key has been collected are purged on the next access.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class WeakIdentityCache<K, V> {
+
+	private final ConcurrentHashMap<Key, V> entries = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	public V get(final K key) {
+		expunge();
+		return entries.get(new LookupKey(key));
+	}
+
+	public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+		expunge();
+
+		final V value = entries.get(new LookupKey(key));
+
+		if(value != null) {
+			return value;
+		}
+
+		final V newValue = mappingFunction.apply(key);
+
+		if(newValue == null) {
+			return null;
+		}
+
+		final V previous = entries.putIfAbsent(new WeakKey(key, queue), newValue);
+		return previous != null ? previous : newValue;
+	}
+
+	public V remove(final K key) {
+		expunge();
+		return entries.remove(new LookupKey(key));
+	}
+
+	public int size() {
+		expunge();
+		return entries.size();
+	}
+
+	public void clear() {
+		entries.clear();
+		expunge();
+	}
+
+	private void expunge() {
+		Object reference;
+
+		while ((reference = queue.poll()) != null) {
+			entries.remove(reference);
+		}
+	}
+
+	private interface Key {
+
+		Object referent();
+
+	}
+
+	private static final class LookupKey implements Key {
+
+		private final Object referent;
+
+		private LookupKey(final Object referent) {
+			this.referent = referent;
+		}
+
+		@Override
+		public Object referent() {
+			return referent;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(referent);
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			return other instanceof Key && ((Key) other).referent() == referent;
+		}
+
+	}
+
+	private static final class WeakKey extends WeakReference<Object> implements Key {
+
+		private final int hash;
+
+		private WeakKey(final Object referent, final ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public Object referent() {
+			return get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			if(this == other) {
+				return true;
+			}
+
+			final Object referent = get();
+			return referent != null && other instanceof Key && ((Key) other).referent() == referent;
+		}
+
+	}
+
+}
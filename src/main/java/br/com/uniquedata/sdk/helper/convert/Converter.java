@@ -0,0 +1,15 @@
+package br.com.uniquedata.sdk.helper.convert;
+
+/**
+ * Converts a non-null value of type {@code S} into a value of type {@code T}.
+ *
+ * @param <S> source type
+ * @param <T> target type
+ * @see ConverterRegistry
+ */
+@FunctionalInterface
+public interface Converter<S, T> {
+
+	T convert(S source);
+
+}
@@ -0,0 +1,352 @@
+package br.com.uniquedata.sdk.helper.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.uniquedata.sdk.helper.cache.ClassPairCache;
+import br.com.uniquedata.sdk.helper.object.PrimitiveTypeHelper;
+
+/**
+ * Converters between value types, looked up by (source type, target type).
+ *
+ * <p>
+ * Built-in converters cover numbers (widening, and narrowing when no value is
+ * lost: integral targets reject fractions and out-of-range values with an
+ * {@link IllegalArgumentException}, and {@link AtomicInteger} and {@link AtomicLong}
+ * are filled like {@code int} and {@code long}), parsing from and formatting to {@link String},
+ * booleans, characters, enums (by name), {@link UUID} and the temporal types
+ * {@link Date}, {@link Instant}, {@link LocalDate}, {@link LocalDateTime} and
+ * {@link LocalTime} (using the system default zone). Primitive types are
+ * treated as their wrappers.
+ * </p>
+ *
+ * <p>
+ * Converters registered with {@link #register(Class, Class, Converter)} take
+ * precedence over built-in ones for the exact pair of types. Lookups are meant
+ * to happen once, when a plan is built (see {@code MapperPlan}), so converters
+ * should be registered at start-up, before the first mapping.
+ * </p>
+ */
+public final class ConverterRegistry {
+
+	private static final Converter<Object, Object> NONE = source -> source;
+
+	private static final Map<Class<?>, Map<Class<?>, Converter<Object, Object>>> REGISTERED = new ConcurrentHashMap<>();
+
+	private static final ClassPairCache<Converter<Object, Object>> BUILT_IN = new ClassPairCache<>();
+
+	private ConverterRegistry() {}
+
+	@SuppressWarnings("unchecked")
+	public static <S, T> void register(final Class<S> sourceType, final Class<T> targetType, final Converter<? super S, ? extends T> converter) {
+		REGISTERED.computeIfAbsent(PrimitiveTypeHelper.wrap(sourceType), key -> new ConcurrentHashMap<>())
+			.put(PrimitiveTypeHelper.wrap(targetType), (Converter<Object, Object>) converter);
+	}
+
+	/**
+	 * Whether a value of {@code sourceType} can be assigned to {@code targetType} as is,
+	 * boxing and unboxing aside.
+	 */
+	public static boolean isAssignable(final Class<?> sourceType, final Class<?> targetType) {
+		return PrimitiveTypeHelper.wrap(targetType).isAssignableFrom(PrimitiveTypeHelper.wrap(sourceType));
+	}
+
+	/**
+	 * Converter from {@code sourceType} to {@code targetType}, or {@code null} when there is none.
+	 */
+	public static Converter<Object, Object> find(final Class<?> sourceType, final Class<?> targetType) {
+		final Class<?> source = PrimitiveTypeHelper.wrap(sourceType);
+		final Class<?> target = PrimitiveTypeHelper.wrap(targetType);
+		final Map<Class<?>, Converter<Object, Object>> registered = REGISTERED.get(source);
+
+		if(registered != null && registered.containsKey(target)) {
+			return registered.get(target);
+		}
+
+		final Converter<Object, Object> converter = BUILT_IN.computeIfAbsent(source, target, (sourceKey, targetKey) -> {
+			final Converter<Object, Object> builtIn = builtIn(sourceKey, targetKey);
+			return builtIn == null ? NONE : builtIn;
+		});
+
+		return converter == NONE ? null : converter;
+	}
+
+	/**
+	 * Converts {@code value} into {@code targetType}: {@code null} becomes the default value of
+	 * the type, assignable values are returned as they are, anything else goes through
+	 * {@link #find(Class, Class)}.
+	 *
+	 * @throws IllegalArgumentException when no converter exists for the pair of types
+	 */
+	public static Object convert(final Object value, final Class<?> targetType) {
+		if(value == null) {
+			return PrimitiveTypeHelper.defaultValue(targetType);
+		}
+
+		if(isAssignable(value.getClass(), targetType)) {
+			return value;
+		}
+
+		final Converter<Object, Object> converter = find(value.getClass(), targetType);
+
+		if(converter == null) {
+			throw new IllegalArgumentException("Converter Not Found {" + value.getClass().getName() + " -> " + targetType.getName() + "}");
+		}
+
+		return converter.convert(value);
+	}
+
+	private static Converter<Object, Object> builtIn(final Class<?> source, final Class<?> target) {
+		if(target == String.class) {
+			return toStringConverter(source);
+		}else if(isNumberType(target)) {
+			return toNumberConverter(source, target);
+		}else if(target == AtomicInteger.class) {
+			final Converter<Object, Object> toInteger = toNumberConverter(source, Integer.class);
+			return toInteger == null ? null : value -> new AtomicInteger((Integer) toInteger.convert(value));
+		}else if(target == AtomicLong.class) {
+			final Converter<Object, Object> toLong = toNumberConverter(source, Long.class);
+			return toLong == null ? null : value -> new AtomicLong((Long) toLong.convert(value));
+		}else if(target == Boolean.class) {
+			if(source == String.class) {
+				return value -> Boolean.valueOf(((String) value).trim());
+			}else if(Number.class.isAssignableFrom(source)) {
+				return value -> ((Number) value).intValue() != 0;
+			}
+		}else if(target == Character.class) {
+			if(source == String.class) {
+				return value -> toCharacter((String) value);
+			}else if(Number.class.isAssignableFrom(source)) {
+				return value -> (char) ((Number) value).intValue();
+			}
+		}else if(target.isEnum()) {
+			return toEnumConverter(source, target);
+		}else if(target == UUID.class && source == String.class) {
+			return value -> UUID.fromString(((String) value).trim());
+		}
+
+		return toTemporalConverter(source, target);
+	}
+
+	private static Converter<Object, Object> toStringConverter(final Class<?> source) {
+		if(source.isEnum()) {
+			return value -> ((Enum<?>) value).name();
+		}else if(Date.class.isAssignableFrom(source)) {
+			return value -> Instant.ofEpochMilli(((Date) value).getTime()).toString();
+		}else if(Number.class.isAssignableFrom(source) || source == Boolean.class || source == Character.class
+				|| source == UUID.class || TemporalAccessor.class.isAssignableFrom(source)) {
+			return Object::toString;
+		}
+
+		return null;
+	}
+
+	private static Converter<Object, Object> toNumberConverter(final Class<?> source, final Class<?> target) {
+		if(Number.class.isAssignableFrom(source)) {
+			return value -> toNumber((Number) value, target);
+		}else if(source == String.class) {
+			if(target == Double.class) {
+				return value -> Double.valueOf(((String) value).trim());
+			}else if(target == Float.class) {
+				return value -> Float.valueOf(((String) value).trim());
+			}
+
+			return value -> toNumber(new BigDecimal(((String) value).trim()), target);
+		}else if(source == Character.class) {
+			return value -> toNumber((int) (Character) value, target);
+		}else if(source == Boolean.class) {
+			return value -> toNumber((Boolean) value ? 1 : 0, target);
+		}else if(Date.class.isAssignableFrom(source)) {
+			return value -> toNumber(((Date) value).getTime(), target);
+		}else if(source == Instant.class) {
+			return value -> toNumber(((Instant) value).toEpochMilli(), target);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts {@code number} to {@code target}. Integral targets only accept integral values
+	 * within their range: {@code 1.9} or {@code 3000000000} for an {@code Integer} are rejected,
+	 * never truncated or wrapped around.
+	 */
+	private static Object toNumber(final Number number, final Class<?> target) {
+		if(target == Double.class) {
+			return number.doubleValue();
+		}else if(target == Float.class) {
+			return number.floatValue();
+		}else if(target == BigDecimal.class) {
+			return toBigDecimal(number);
+		}else if(target == BigInteger.class) {
+			return number instanceof BigInteger ? number
+				: isLongValued(number) ? BigInteger.valueOf(number.longValue()) : toBigIntegerExact(number, target);
+		}else if(!isNumberType(target)) {
+			throw new IllegalArgumentException("Converter Not Found {" + number.getClass().getName() + " -> " + target.getName() + "}");
+		}
+
+		if(isLongValued(number)) {
+			return toIntegral(number.longValue(), number, target);
+		}
+
+		final BigInteger integer = toBigIntegerExact(number, target);
+
+		if(integer.bitLength() > 63) {
+			throw outOfRange(number, target);
+		}
+
+		return toIntegral(integer.longValue(), number, target);
+	}
+
+	private static Object toIntegral(final long value, final Number number, final Class<?> target) {
+		if(target == Long.class) {
+			return value;
+		}else if(target == Integer.class && (int) value == value) {
+			return (int) value;
+		}else if(target == Short.class && (short) value == value) {
+			return (short) value;
+		}else if(target == Byte.class && (byte) value == value) {
+			return (byte) value;
+		}
+
+		throw outOfRange(number, target);
+	}
+
+	private static BigInteger toBigIntegerExact(final Number number, final Class<?> target) {
+		try {
+			return toBigDecimal(number).toBigIntegerExact();
+		}catch (ArithmeticException | NumberFormatException e) {
+			throw new IllegalArgumentException("Number {" + number + "} is not integral for " + target.getSimpleName(), e);
+		}
+	}
+
+	private static BigDecimal toBigDecimal(final Number number) {
+		if(number instanceof BigDecimal) {
+			return (BigDecimal) number;
+		}
+
+		return number instanceof BigInteger ? new BigDecimal((BigInteger) number)
+			: isLongValued(number) ? BigDecimal.valueOf(number.longValue())
+			: BigDecimal.valueOf(number.doubleValue());
+	}
+
+	/**
+	 * Whether {@code number} is one of the integral types whose value fits in a {@code long}.
+	 */
+	private static boolean isLongValued(final Number number) {
+		return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte
+			|| number instanceof AtomicInteger || number instanceof AtomicLong || number instanceof LongAdder || number instanceof LongAccumulator;
+	}
+
+	private static IllegalArgumentException outOfRange(final Number number, final Class<?> target) {
+		return new IllegalArgumentException("Number {" + number + "} out of range for " + target.getSimpleName());
+	}
+
+	private static boolean isNumberType(final Class<?> type) {
+		return type == Integer.class || type == Long.class || type == Double.class || type == Float.class
+			|| type == Short.class || type == Byte.class || type == BigDecimal.class || type == BigInteger.class;
+	}
+
+	private static Character toCharacter(final String value) {
+		if(value.length() != 1) {
+			throw new IllegalArgumentException("Value {" + value + "} is not a single character");
+		}
+
+		return value.charAt(0);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Converter<Object, Object> toEnumConverter(final Class<?> source, final Class<?> target) {
+		final Class<? extends Enum> enumType = (Class<? extends Enum>) target;
+
+		if(source == String.class) {
+			return value -> Enum.valueOf(enumType, ((String) value).trim());
+		}else if(source.isEnum()) {
+			return value -> Enum.valueOf(enumType, ((Enum<?>) value).name());
+		}else if(source == Integer.class || source == Short.class || source == Byte.class) {
+			final Object[] constants = target.getEnumConstants();
+
+			return value -> {
+				final int ordinal = ((Number) value).intValue();
+
+				if(ordinal < 0 || ordinal >= constants.length) {
+					throw new IllegalArgumentException("Ordinal {" + ordinal + "} out of range for Enum " + target.getName());
+				}
+
+				return constants[ordinal];
+			};
+		}
+
+		return null;
+	}
+
+	private static Converter<Object, Object> toTemporalConverter(final Class<?> source, final Class<?> target) {
+		final boolean fromDate = Date.class.isAssignableFrom(source);
+
+		if(target == LocalDate.class) {
+			if(source == String.class) {
+				return value -> LocalDate.parse(((String) value).trim());
+			}else if(source == LocalDateTime.class) {
+				return value -> ((LocalDateTime) value).toLocalDate();
+			}else if(fromDate || source == Instant.class) {
+				return value -> toInstant(value).atZone(ZoneId.systemDefault()).toLocalDate();
+			}
+		}else if(target == LocalDateTime.class) {
+			if(source == String.class) {
+				return value -> LocalDateTime.parse(((String) value).trim());
+			}else if(source == LocalDate.class) {
+				return value -> ((LocalDate) value).atStartOfDay();
+			}else if(fromDate || source == Instant.class) {
+				return value -> LocalDateTime.ofInstant(toInstant(value), ZoneId.systemDefault());
+			}
+		}else if(target == LocalTime.class) {
+			if(source == String.class) {
+				return value -> LocalTime.parse(((String) value).trim());
+			}else if(source == LocalDateTime.class) {
+				return value -> ((LocalDateTime) value).toLocalTime();
+			}
+		}else if(target == Instant.class) {
+			if(source == String.class) {
+				return value -> Instant.parse(((String) value).trim());
+			}else if(source == Long.class) {
+				return value -> Instant.ofEpochMilli((Long) value);
+			}else if(fromDate) {
+				return value -> Instant.ofEpochMilli(((Date) value).getTime());
+			}else if(source == LocalDateTime.class) {
+				return value -> ((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant();
+			}
+		}else if(target == Date.class) {
+			if(source == Long.class) {
+				return value -> new Date((Long) value);
+			}else if(source == Instant.class) {
+				return value -> Date.from((Instant) value);
+			}else if(source == String.class) {
+				return value -> Date.from(Instant.parse(((String) value).trim()));
+			}else if(source == LocalDate.class) {
+				return value -> Date.from(((LocalDate) value).atStartOfDay(ZoneId.systemDefault()).toInstant());
+			}else if(source == LocalDateTime.class) {
+				return value -> Date.from(((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant());
+			}
+		}
+
+		return null;
+	}
+
+	private static Instant toInstant(final Object value) {
+		return value instanceof Date ? Instant.ofEpochMilli(((Date) value).getTime()) : (Instant) value;
+	}
+
+}
@@ -0,0 +1,223 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Pre-resolved read/write access to one field through {@link MethodHandle}s
+ * adapted to {@code Object} signatures, so reading a field costs neither an
+ * access check nor a {@code setAccessible} call.
+ */
+public final class FieldAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final MethodType RAW_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+
+	private final Field field;
+
+	private final int index;
+
+	private final MethodHandle getter;
+
+	private final MethodHandle rawGetter;
+
+	private volatile MethodHandle setter;
+
+	FieldAccessor(final Field field, final int index) {
+		field.setAccessible(true);
+
+		this.field = field;
+		this.index = index;
+		this.getter = toGetter(field);
+		this.rawGetter = field.getType().isPrimitive() ? toRawGetter(field) : null;
+	}
+
+	public Field getField() {
+		return field;
+	}
+
+	public String getName() {
+		return field.getName();
+	}
+
+	public Class<?> getType() {
+		return field.getType();
+	}
+
+	/**
+	 * Position of the field inside its {@link FieldLayout}.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	public boolean isStatic() {
+		return Modifier.isStatic(field.getModifiers());
+	}
+
+	public Object get(final Object object) {
+		try {
+			return getter.invokeExact(object);
+		}catch (RuntimeException | Error e) {
+			throw e;
+		}catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Reads a primitive field without boxing, encoded as {@code long} bits: integral
+	 * types and {@code char} are widened, {@code boolean} is {@code 0}/{@code 1}, and
+	 * {@code float}/{@code double} are their raw IEEE bits. See {@link #decode(long)}.
+	 */
+	public long getRaw(final Object object) {
+		if(rawGetter == null) {
+			throw new IllegalStateException("Field is not primitive " + field);
+		}
+
+		try {
+			return (long) rawGetter.invokeExact(object);
+		}catch (RuntimeException | Error e) {
+			throw e;
+		}catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Boxes the bits produced by {@link #getRaw(Object)} back into the field type.
+	 */
+	public Object decode(final long bits) {
+		final Class<?> type = field.getType();
+
+		if(type == int.class) {
+			return (int) bits;
+		}else if(type == long.class) {
+			return bits;
+		}else if(type == boolean.class) {
+			return bits != 0;
+		}else if(type == double.class) {
+			return Double.longBitsToDouble(bits);
+		}else if(type == float.class) {
+			return Float.intBitsToFloat((int) bits);
+		}else if(type == short.class) {
+			return (short) bits;
+		}else if(type == byte.class) {
+			return (byte) bits;
+		}else if(type == char.class) {
+			return (char) bits;
+		}
+
+		throw new IllegalStateException("Field is not primitive " + field);
+	}
+
+	public void set(final Object object, final Object value) {
+		MethodHandle setter = this.setter;
+
+		if(setter == null) {
+			setter = toSetter(field);
+			this.setter = setter;
+		}
+
+		try {
+			setter.invokeExact(object, value);
+		}catch (ClassCastException e) {
+			setWidening(object, value);
+		}catch (RuntimeException | Error e) {
+			throw e;
+		}catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * {@code Field.set} also accepts widening conversions ({@code Integer} into a
+	 * {@code long} field), which a method handle cast does not.
+	 */
+	private void setWidening(final Object object, final Object value) {
+		try {
+			field.set(object, value);
+		}catch (IllegalAccessException e) {
+			throw new IllegalStateException("Cannot write field " + field, e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "FieldAccessor[" + field + "]";
+	}
+
+	private static MethodHandle toGetter(final Field field) {
+		return unreflectGetter(field).asType(GETTER_TYPE);
+	}
+
+	/**
+	 * Getter taking the owner instance (ignored for static fields) and returning the
+	 * field type itself, so primitives are not boxed.
+	 */
+	private static MethodHandle unreflectGetter(final Field field) {
+		try {
+			final MethodHandle handle = MethodHandles.lookup().unreflectGetter(field);
+
+			if(Modifier.isStatic(field.getModifiers())) {
+				return MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+
+			return handle;
+		}catch (IllegalAccessException e) {
+			throw new IllegalStateException("Cannot access field " + field, e);
+		}
+	}
+
+	private static MethodHandle toRawGetter(final Field field) {
+		MethodHandle handle = unreflectGetter(field).asType(MethodType.methodType(field.getType(), Object.class));
+		final Class<?> type = field.getType();
+
+		try {
+			if(type == boolean.class || type == float.class || type == double.class) {
+				handle = MethodHandles.filterReturnValue(handle, MethodHandles.lookup()
+					.findStatic(FieldAccessor.class, "toBits", MethodType.methodType(long.class, type)));
+			}
+		}catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+
+		return handle.asType(RAW_GETTER_TYPE);
+	}
+
+	@SuppressWarnings("unused")
+	private static long toBits(final boolean value) {
+		return value ? 1L : 0L;
+	}
+
+	@SuppressWarnings("unused")
+	private static long toBits(final float value) {
+		return Float.floatToRawIntBits(value);
+	}
+
+	@SuppressWarnings("unused")
+	private static long toBits(final double value) {
+		return Double.doubleToRawLongBits(value);
+	}
+
+	private static MethodHandle toSetter(final Field field) {
+		try {
+			final MethodHandle handle = MethodHandles.lookup().unreflectSetter(field);
+
+			if(Modifier.isStatic(field.getModifiers())) {
+				return MethodHandles.dropArguments(handle, 0, Object.class).asType(SETTER_TYPE);
+			}
+
+			return handle.asType(SETTER_TYPE);
+		}catch (IllegalAccessException e) {
+			throw new IllegalStateException("Cannot write field " + field, e);
+		}
+	}
+
+}
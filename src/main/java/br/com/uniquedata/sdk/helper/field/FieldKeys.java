@@ -0,0 +1,96 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable, shared key set of a {@link FieldLayout}: key {@code i} names the
+ * field at layout index {@code i}. Built once per (class, rename annotation).
+ */
+public final class FieldKeys {
+
+	private final FieldLayout fieldLayout;
+
+	private final String[] keys;
+
+	private final Map<String, Integer> indexes;
+
+	private final Set<String> keySet;
+
+	FieldKeys(final FieldLayout fieldLayout, final String[] keys) {
+		final Map<String, Integer> indexes = new HashMap<>();
+
+		for (int i = 0; i < keys.length; i++) {
+			if(indexes.putIfAbsent(keys[i], i) != null) {
+				throw new IllegalStateException("Duplicate key {" + keys[i] + "} on " + fieldLayout.getClassType().getName());
+			}
+		}
+
+		this.fieldLayout = fieldLayout;
+		this.keys = keys;
+		this.indexes = indexes;
+		this.keySet = new KeySet();
+	}
+
+	public FieldLayout getFieldLayout() {
+		return fieldLayout;
+	}
+
+	public int size() {
+		return keys.length;
+	}
+
+	public String getKey(final int index) {
+		return keys[index];
+	}
+
+	public int indexOf(final Object key) {
+		final Integer index = indexes.get(key);
+		return index == null ? -1 : index;
+	}
+
+	public Set<String> asSet() {
+		return keySet;
+	}
+
+	private final class KeySet extends AbstractSet<String> {
+
+		@Override
+		public int size() {
+			return keys.length;
+		}
+
+		@Override
+		public boolean contains(final Object key) {
+			return indexes.containsKey(key);
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return new Iterator<String>() {
+
+				private int index;
+
+				@Override
+				public boolean hasNext() {
+					return index < keys.length;
+				}
+
+				@Override
+				public String next() {
+					if(index >= keys.length) {
+						throw new NoSuchElementException();
+					}
+
+					return keys[index++];
+				}
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,153 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.com.uniquedata.sdk.helper.annotation.AnnotationIndex;
+import br.com.uniquedata.sdk.helper.annotation.AnnotationMetadata;
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
+
+/**
+ * The instance fields of a class, inherited ones included, in a fixed order,
+ * each with a pre-resolved {@link FieldAccessor}, built once per class
+ * ({@link ClassValue}-backed). Mapping, extraction and snapshots all walk this
+ * layout; see {@link ClassMetadata#getInstanceFields()} for the order and for
+ * how shadowed names are handled.
+ *
+ * <p>
+ * The layout also compiles the key sets used to expose an object as a
+ * {@code Map<String, Object>}: plain field names, or names renamed by an
+ * annotation value. Those {@link FieldKeys} are computed once per
+ * (class, annotation) and shared by every map created for that class.
+ * </p>
+ */
+public final class FieldLayout {
+
+	private static final ClassValue<FieldLayout> CACHE = new ClassValue<FieldLayout>() {
+		@Override
+		protected FieldLayout computeValue(final Class<?> type) {
+			return new FieldLayout(type);
+		}
+	};
+
+	private final Class<?> classType;
+
+	private final List<Field> fields;
+
+	private final FieldAccessor[] accessors;
+
+	private final Map<String, Integer> indexes;
+
+	private final FieldKeys fieldNameKeys;
+
+	private final ConcurrentHashMap<Class<? extends Annotation>, FieldKeys> annotationKeys;
+
+	private FieldLayout(final Class<?> classType) {
+		final List<Field> fields = ClassMetadata.of(classType).getInstanceFields();
+		final Map<String, Integer> indexes = new HashMap<>();
+
+		this.classType = classType;
+		this.fields = fields;
+		this.accessors = new FieldAccessor[fields.size()];
+
+		for (int i = 0; i < accessors.length; i++) {
+			accessors[i] = new FieldAccessor(fields.get(i), i);
+			indexes.put(fields.get(i).getName(), i);
+		}
+
+		this.indexes = Collections.unmodifiableMap(indexes);
+		this.annotationKeys = new ConcurrentHashMap<>();
+		this.fieldNameKeys = compileKeys(null);
+	}
+
+	public static FieldLayout of(final Class<?> classType) {
+		return CACHE.get(classType);
+	}
+
+	/**
+	 * Loads the {@link ClassMetadata} of the given classes and builds their layouts, e.g. at
+	 * application start.
+	 */
+	public static void warmUp(final Class<?>... classTypes) {
+		for (final Class<?> classType : classTypes) {
+			ClassMetadata.of(classType).warmUp();
+			of(classType);
+		}
+	}
+
+	public Class<?> getClassType() {
+		return classType;
+	}
+
+	public int size() {
+		return accessors.length;
+	}
+
+	public FieldAccessor getAccessor(final int index) {
+		return accessors[index];
+	}
+
+	public FieldAccessor getAccessor(final String fieldName) {
+		final Integer index = indexes.get(fieldName);
+		return index == null ? null : accessors[index];
+	}
+
+	public int indexOf(final String fieldName) {
+		final Integer index = indexes.get(fieldName);
+		return index == null ? -1 : index;
+	}
+
+	public List<Field> getFields() {
+		return fields;
+	}
+
+	public List<FieldAccessor> getAccessors() {
+		return Collections.unmodifiableList(Arrays.asList(accessors));
+	}
+
+	/**
+	 * Keys made of the plain field names.
+	 */
+	public FieldKeys getKeys() {
+		return fieldNameKeys;
+	}
+
+	/**
+	 * Keys where every field carrying {@code renameAnnotation} is named after the
+	 * annotation value ({@code value()} or its first attribute) instead of its own name.
+	 */
+	public FieldKeys getKeys(final Class<? extends Annotation> renameAnnotation) {
+		if(renameAnnotation == null) {
+			return fieldNameKeys;
+		}
+
+		return annotationKeys.computeIfAbsent(renameAnnotation, this::compileKeys);
+	}
+
+	private FieldKeys compileKeys(final Class<? extends Annotation> renameAnnotation) {
+		final String[] keys = new String[accessors.length];
+
+		for (int i = 0; i < accessors.length; i++) {
+			final Field field = accessors[i].getField();
+			keys[i] = field.getName();
+
+			if(renameAnnotation != null && AnnotationIndex.of(field.getDeclaringClass()).isPresent(field, renameAnnotation)) {
+				final Annotation annotation = field.getAnnotation(renameAnnotation);
+				final Object annotationValue = annotation == null ? null : AnnotationMetadata.of(annotation).getValue(annotation);
+
+				if(annotationValue != null) {
+					keys[i] = annotationValue.toString();
+				}
+			}
+		}
+
+		return new FieldKeys(this, keys);
+	}
+
+}
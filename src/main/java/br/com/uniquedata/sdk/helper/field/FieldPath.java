@@ -0,0 +1,291 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled, dotted field path such as {@code order.customer.address.zip} or
+ * {@code items[0].sku}.
+ *
+ * <p>
+ * The expression is parsed once into a chain of segments. Each field segment
+ * keeps the {@link FieldAccessor} resolved for the last class it walked through,
+ * so repeated evaluations against objects of the same shape neither parse the
+ * path nor look fields up by name. Index segments read {@link List}s and arrays.
+ * </p>
+ *
+ * <p>
+ * Both {@link #get(Object)} and {@link #set(Object, Object)} are null-safe: a
+ * {@code null} link or an index out of range ends the walk instead of throwing.
+ * An unknown field name is an error.
+ * </p>
+ */
+public final class FieldPath {
+
+	private static final int MAX_CACHED_PATHS = 256;
+
+	private static final ClassValue<ConcurrentHashMap<String, FieldPath>> COMPILED = new ClassValue<ConcurrentHashMap<String, FieldPath>>() {
+		@Override
+		protected ConcurrentHashMap<String, FieldPath> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private final String expression;
+
+	private final Segment[] segments;
+
+	private FieldPath(final String expression, final Segment[] segments) {
+		this.expression = expression;
+		this.segments = segments;
+	}
+
+	/**
+	 * Parses {@code expression}; the result is not cached.
+	 */
+	public static FieldPath compile(final String expression) {
+		return new FieldPath(expression, parse(expression));
+	}
+
+	/**
+	 * Parses {@code expression} to be walked from instances of {@code rootType}, reusing the
+	 * compiled path when the same expression was seen before for that class. The cache is
+	 * held per class ({@link ClassValue}-backed) and bounded, so it neither pins class
+	 * loaders nor grows with arbitrary expressions.
+	 */
+	public static FieldPath compile(final Class<?> rootType, final String expression) {
+		final ConcurrentHashMap<String, FieldPath> compiledPaths = COMPILED.get(rootType);
+		final FieldPath fieldPath = compiledPaths.get(expression);
+
+		if(fieldPath != null) {
+			return fieldPath;
+		}
+
+		final FieldPath compiled = compile(expression);
+
+		if(compiledPaths.size() < MAX_CACHED_PATHS) {
+			final FieldPath previous = compiledPaths.putIfAbsent(expression, compiled);
+			return previous == null ? compiled : previous;
+		}
+
+		return compiled;
+	}
+
+	public String getExpression() {
+		return expression;
+	}
+
+	public int getDepth() {
+		return segments.length;
+	}
+
+	/**
+	 * Value at the end of the path, or {@code null} when any link on the way is {@code null}
+	 * or an index is out of range.
+	 */
+	public Object get(final Object object) {
+		Object current = object;
+
+		for (int i = 0; i < segments.length && current != null; i++) {
+			current = segments[i].get(current);
+		}
+
+		return current;
+	}
+
+	/**
+	 * Writes {@code value} at the end of the path.
+	 *
+	 * @return {@code false} when the path could not be walked up to its last link
+	 */
+	public boolean set(final Object object, final Object value) {
+		Object current = object;
+		final int last = segments.length - 1;
+
+		for (int i = 0; i < last && current != null; i++) {
+			current = segments[i].get(current);
+		}
+
+		return current != null && segments[last].set(current, value);
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+
+	private static Segment[] parse(final String expression) {
+		if(expression == null || expression.isEmpty()) {
+			throw new IllegalArgumentException("Empty field path");
+		}
+
+		final List<Segment> segments = new ArrayList<>();
+		final int length = expression.length();
+		int position = 0;
+
+		while (position < length) {
+			final char character = expression.charAt(position);
+
+			if(character == '[') {
+				final int end = expression.indexOf(']', position);
+
+				if(end < 0) {
+					throw new IllegalArgumentException("Unclosed index in field path {" + expression + "}");
+				}
+
+				try {
+					final int index = Integer.parseInt(expression.substring(position + 1, end).trim());
+
+					if(index < 0) {
+						throw new IllegalArgumentException("Negative index in field path {" + expression + "}");
+					}
+
+					segments.add(new IndexSegment(index));
+				}catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Invalid index in field path {" + expression + "}", e);
+				}
+
+				position = end + 1;
+
+				if(position < length && expression.charAt(position) != '.' && expression.charAt(position) != '[') {
+					throw new IllegalArgumentException("Invalid field path {" + expression + "}");
+				}
+			}else if(character == '.') {
+				if(segments.isEmpty() || position + 1 >= length || expression.charAt(position + 1) == '.' || expression.charAt(position + 1) == '[') {
+					throw new IllegalArgumentException("Invalid field path {" + expression + "}");
+				}
+
+				position++;
+			}else {
+				int end = position;
+
+				while (end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+					end++;
+				}
+
+				segments.add(new FieldSegment(expression.substring(position, end)));
+				position = end;
+			}
+		}
+
+		return segments.toArray(new Segment[0]);
+	}
+
+	private interface Segment {
+
+		Object get(Object object);
+
+		boolean set(Object object, Object value);
+
+	}
+
+	private static final class FieldSegment implements Segment {
+
+		private final String name;
+
+		private volatile Resolved resolved;
+
+		private FieldSegment(final String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Object get(final Object object) {
+			return resolve(object.getClass()).get(object);
+		}
+
+		@Override
+		public boolean set(final Object object, final Object value) {
+			resolve(object.getClass()).set(object, value);
+			return true;
+		}
+
+		/**
+		 * Monomorphic cache: the accessor of the last class seen is reused as long as the
+		 * runtime class does not change.
+		 */
+		private FieldAccessor resolve(final Class<?> classType) {
+			Resolved resolved = this.resolved;
+
+			if(resolved == null || resolved.classType != classType) {
+				final FieldAccessor accessor = FieldLayout.of(classType).getAccessor(name);
+
+				if(accessor == null) {
+					throw new IllegalArgumentException("Field Not Found {" + name + "} on " + classType.getName());
+				}
+
+				resolved = new Resolved(classType, accessor);
+				this.resolved = resolved;
+			}
+
+			return resolved.accessor;
+		}
+
+	}
+
+	private static final class Resolved {
+
+		private final Class<?> classType;
+
+		private final FieldAccessor accessor;
+
+		private Resolved(final Class<?> classType, final FieldAccessor accessor) {
+			this.classType = classType;
+			this.accessor = accessor;
+		}
+
+	}
+
+	private static final class IndexSegment implements Segment {
+
+		private final int index;
+
+		private IndexSegment(final int index) {
+			this.index = index;
+		}
+
+		@Override
+		public Object get(final Object object) {
+			if(object instanceof List) {
+				final List<?> list = (List<?>) object;
+				return index < list.size() ? list.get(index) : null;
+			}
+
+			if(object.getClass().isArray()) {
+				return index < Array.getLength(object) ? Array.get(object, index) : null;
+			}
+
+			throw new IllegalArgumentException("Not indexable {" + object.getClass().getName() + "}");
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean set(final Object object, final Object value) {
+			if(object instanceof List) {
+				final List<Object> list = (List<Object>) object;
+
+				if(index >= list.size()) {
+					return false;
+				}
+
+				list.set(index, value);
+				return true;
+			}
+
+			if(object.getClass().isArray()) {
+				if(index >= Array.getLength(object)) {
+					return false;
+				}
+
+				Array.set(object, index, value);
+				return true;
+			}
+
+			throw new IllegalArgumentException("Not indexable {" + object.getClass().getName() + "}");
+		}
+
+	}
+
+}
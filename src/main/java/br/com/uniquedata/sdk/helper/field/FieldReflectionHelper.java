@@ -3,17 +3,16 @@ package br.com.uniquedata.sdk.helper.field;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import br.com.uniquedata.sdk.helper.annotation.AnnotationIndex;
 import br.com.uniquedata.sdk.helper.annotation.AnnotationReflectionHelper;
-import br.com.uniquedata.sdk.helper.pojo.extract.ExtractAnnotation;
+import br.com.uniquedata.sdk.helper.convert.ConverterRegistry;
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
 import br.com.uniquedata.sdk.helper.pojo.extract.ExtractField;
 
 public class FieldReflectionHelper {
@@ -37,37 +36,64 @@ public class FieldReflectionHelper {
 		}
 	}
 	
+	/**
+	 * Values of the instance fields of {@code object}, inherited ones included, in a new
+	 * mutable {@link HashMap}. Fields carrying {@code annotation} are keyed by its value.
+	 * To serialize the object, use {@link br.com.uniquedata.sdk.helper.json.JsonWriter},
+	 * which writes the same keys without the map, {@code transient} fields left out.
+	 */
 	public static Map<String, Object> getFieldNameAndValue(final Object object, final Class<? extends Annotation> annotation){
-		return Arrays.asList(object.getClass().getDeclaredFields()).stream()
-			.map(field -> {
-				if(field.isAnnotationPresent(annotation)) {
-					final ExtractField extractField = extract(object, field);
-					final Optional<ExtractAnnotation> annotationOptional = extractField.getExtractAnnotationBy(annotation);
-					
-					if(annotationOptional.isPresent()) {
-						final ExtractAnnotation extractAnnotation = annotationOptional.get();
-						final Object annotationValue = extractAnnotation.getAnnotationValue();
-						return new ExtractField(field, annotationValue.toString(), extractField.getFieldValue());
-					}
-				}	
-			
-			return extract(object, field);
-		}).collect(Collectors.toMap(ExtractField::getFieldName, ExtractField::getFieldValue));
+		final FieldKeys fieldKeys = FieldLayout.of(object.getClass()).getKeys(annotation);
+		final FieldLayout fieldLayout = fieldKeys.getFieldLayout();
+		final Map<String, Object> values = new HashMap<>(capacity(fieldKeys.size()));
+		
+		for (int i = 0; i < fieldKeys.size(); i++) {
+			values.put(fieldKeys.getKey(i), fieldLayout.getAccessor(i).get(object));
+		}
+		
+		return values;
+	}
+	
+	/**
+	 * Same keys and values as {@link #getFieldNameAndValue(Object, Class)}, as a read-only
+	 * snapshot: the key set is compiled once per class and shared, and the values are held
+	 * in a flat array, so nothing is hashed per call.
+	 */
+	public static Map<String, Object> getFieldNameAndValueSnapshot(final Object object, final Class<? extends Annotation> annotation){
+		return FieldValueMap.snapshot(object, FieldLayout.of(object.getClass()).getKeys(annotation));
+	}
+	
+	/**
+	 * Same keys as {@link #getFieldNameAndValue(Object, Class)}, but every lookup reads the
+	 * current value from {@code object}.
+	 */
+	public static Map<String, Object> getFieldNameAndValueView(final Object object, final Class<? extends Annotation> annotation){
+		return FieldValueMap.view(object, FieldLayout.of(object.getClass()).getKeys(annotation));
 	}
 	
+	/**
+	 * Values of the instance fields of {@code object}, inherited ones included, keyed by field
+	 * in a new mutable {@link HashMap}. Use {@link #snapshot(Object)} for read-only indexed access
+	 * without the map.
+	 */
 	public static Map<Field, Object> getFieldAndValue(final Object object){
-		final Map<Field, Object> fields = new HashMap<>();
-
-		toArrayList(object.getClass()).forEach(field -> {
-			try {
-				field.setAccessible(true);
-				fields.put(field, field.get(object));
-			}catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-		});
+		final FieldLayout fieldLayout = FieldLayout.of(object.getClass());
+		final Map<Field, Object> values = new HashMap<>(capacity(fieldLayout.size()));
 		
-		return fields;
+		for (int i = 0; i < fieldLayout.size(); i++) {
+			final FieldAccessor accessor = fieldLayout.getAccessor(i);
+			values.put(accessor.getField(), accessor.get(object));
+		}
+		
+		return values;
+	}
+	
+	private static int capacity(final int size){
+		return (int) (size / 0.75f) + 1;
+	}
+	
+	public static FieldValueSnapshot snapshot(final Object object){
+		return FieldValueSnapshot.of(object);
 	}
 	
 	public static Field transferField(final Object objectIn, final Field fieldIn, 
@@ -77,7 +103,7 @@ public class FieldReflectionHelper {
 			fieldIn.setAccessible(true);
 			fieldOut.setAccessible(true);
 			
-			fieldOut.set(objectOut, fieldIn.get(objectIn));
+			fieldOut.set(objectOut, ConverterRegistry.convert(fieldIn.get(objectIn), fieldOut.getType()));
 		}catch (Exception e) {
  			throw new RuntimeException(e);
 		}
@@ -85,6 +111,15 @@ public class FieldReflectionHelper {
 		return fieldOut;
 	}
 	
+	public static Object getValue(final Object object, final Field field){
+		try {
+			field.setAccessible(true);
+			return field.get(object);
+		}catch (Exception e) {
+ 			throw new RuntimeException(e);
+		}
+	}
+	
 	public static Field addValueField(final Object newValueField, final Object objectField, final Field field){
 		try {
 			field.setAccessible(true);
@@ -106,30 +141,73 @@ public class FieldReflectionHelper {
 	}
 	
 	public static ExtractField extractFieldByName(final Object object, final String fieldName){
-		final Stream<Field> stream = Arrays.asList(object.getClass().getDeclaredFields()).stream();
-		return extract(object, stream.filter(field -> field.getName().equals(fieldName)).findAny().get());
+		final Field field = findDeclaredField(object.getClass(), fieldName);
+		
+		if(field == null) {
+			throw new IllegalArgumentException("Field Not Found {" + fieldName + "} on " + object.getClass().getName());
+		}
+		
+		return extract(object, field);
 	}
 	
 	public static ExtractField extractFieldByAnnotation(final Object object, final Class<? extends Annotation> annotation){
-		final Stream<Field> stream = Arrays.asList(object.getClass().getDeclaredFields()).stream();
-		return extract(object, stream.filter(field -> field.isAnnotationPresent(annotation)).findAny().get());
+		final List<Field> fields = AnnotationIndex.of(object.getClass()).getFields(annotation);
+		
+		if(fields.isEmpty()) {
+			throw new IllegalArgumentException("Field Not Found {@" + annotation.getSimpleName() + "} on " + object.getClass().getName());
+		}
+		
+		return extract(object, fields.get(0));
 	}
 	
+	/**
+	 * The {@link Field} declared with the name {@code fieldName} by the class of {@code object},
+	 * or {@code null} when there is none. Despite the name, this returns the field, not its
+	 * value; use {@link #getValueByPath(Object, String)} to read values.
+	 */
 	public static Object getValueByFieldName(final String fieldName, final Object object){
-		final Stream<Field> stream = Arrays.asList(object.getClass().getDeclaredFields()).stream();
- 		return stream.filter(filter -> filter.getName().equals(fieldName)).findAny().orElse(null);
+		return findDeclaredField(object.getClass(), fieldName);
+	}
+	
+	/**
+	 * Null-safe read of a nested path such as {@code customer.address.zip} or {@code items[0].sku},
+	 * compiled once per class and cached; see {@link FieldPath}.
+	 */
+	public static Object getValueByPath(final Object object, final String path){
+		return object == null ? null : FieldPath.compile(object.getClass(), path).get(object);
+	}
+	
+	/**
+	 * Null-safe write of a nested path; returns {@code false} when an intermediate link is {@code null}.
+	 */
+	public static boolean setValueByPath(final Object object, final String path, final Object value){
+		return object != null && FieldPath.compile(object.getClass(), path).set(object, value);
 	}
 	
 	public static Map<String, Object> getFieldNameAndValue(final Object object, final Annotation annotation){
 		return getFieldNameAndValue(object, annotation.annotationType());
 	}
 	
+	/**
+	 * Fields declared by {@code classType} itself, static ones included; see {@link FieldLayout}
+	 * for the instance fields of the whole hierarchy.
+	 */
 	public static Stream<Field> toStream(final Class<?> classType){
-		return Arrays.asList(classType.getDeclaredFields()).stream();
+		return ClassMetadata.of(classType).getDeclaredFields().stream();
 	}
 	
 	public static List<Field> toArrayList(final Class<?> classType){
-		return new ArrayList<>(Arrays.asList(classType.getDeclaredFields()));
+		return new ArrayList<>(ClassMetadata.of(classType).getDeclaredFields());
+	}
+	
+	private static Field findDeclaredField(final Class<?> classType, final String fieldName){
+		for (final Field field : ClassMetadata.of(classType).getDeclaredFields()) {
+			if(field.getName().equals(fieldName)) {
+				return field;
+			}
+		}
+		
+		return null;
 	}
 	
 }
@@ -0,0 +1,131 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only {@code Map<String, Object>} view of an object's fields.
+ *
+ * <p>
+ * Keys come from a shared {@link FieldKeys} instance compiled once per class,
+ * and values either live in a flat {@code Object[]} aligned with the keys
+ * ({@link #snapshot(Object, FieldKeys)}) or are read on demand from the live
+ * object ({@link #view(Object, FieldKeys)}). No per-entry node is stored, and
+ * {@code null} values are allowed. Entry iterators reuse a single entry, which
+ * is only valid until the next call to {@code next()}.
+ * </p>
+ */
+public final class FieldValueMap extends AbstractMap<String, Object> {
+
+	private final FieldKeys fieldKeys;
+
+	private final Object target;
+
+	private final Object[] values;
+
+	private Set<Entry<String, Object>> entrySet;
+
+	private FieldValueMap(final FieldKeys fieldKeys, final Object target, final Object[] values) {
+		this.fieldKeys = fieldKeys;
+		this.target = target;
+		this.values = values;
+	}
+
+	public static FieldValueMap snapshot(final Object object, final FieldKeys fieldKeys) {
+		final FieldLayout fieldLayout = fieldKeys.getFieldLayout();
+		final Object[] values = new Object[fieldLayout.size()];
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = fieldLayout.getAccessor(i).get(object);
+		}
+
+		return new FieldValueMap(fieldKeys, null, values);
+	}
+
+	public static FieldValueMap view(final Object object, final FieldKeys fieldKeys) {
+		return new FieldValueMap(fieldKeys, object, null);
+	}
+
+	public boolean isLive() {
+		return values == null;
+	}
+
+	public FieldKeys getFieldKeys() {
+		return fieldKeys;
+	}
+
+	@Override
+	public int size() {
+		return fieldKeys.size();
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return fieldKeys.indexOf(key) >= 0;
+	}
+
+	@Override
+	public Object get(final Object key) {
+		final int index = fieldKeys.indexOf(key);
+		return index < 0 ? null : valueAt(index);
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return fieldKeys.asSet();
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		Set<Entry<String, Object>> entrySet = this.entrySet;
+
+		if(entrySet == null) {
+			entrySet = new EntrySet();
+			this.entrySet = entrySet;
+		}
+
+		return entrySet;
+	}
+
+	private Object valueAt(final int index) {
+		return values != null ? values[index] : fieldKeys.getFieldLayout().getAccessor(index).get(target);
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+		@Override
+		public int size() {
+			return fieldKeys.size();
+		}
+
+		@Override
+		public Iterator<Entry<String, Object>> iterator() {
+			return new Iterator<Entry<String, Object>>() {
+
+				private final ReusableEntry<String> entry = new ReusableEntry<>();
+
+				private int index;
+
+				@Override
+				public boolean hasNext() {
+					return index < fieldKeys.size();
+				}
+
+				@Override
+				public Entry<String, Object> next() {
+					if(index >= fieldKeys.size()) {
+						throw new NoSuchElementException();
+					}
+
+					final int current = index++;
+					return entry.next(fieldKeys.getKey(current), valueAt(current));
+				}
+			};
+		}
+
+	}
+
+}
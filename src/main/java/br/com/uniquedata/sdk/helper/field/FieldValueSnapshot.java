@@ -0,0 +1,261 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Values of an object's fields captured at one point in time, aligned with the
+ * cached {@link FieldLayout} of its class.
+ *
+ * <p>
+ * Reference values are kept in an {@code Object[]} and primitive values, unboxed,
+ * in a parallel {@code long[]} (see {@link FieldAccessor#getRaw(Object)}), both in
+ * declaration order. Values are reachable by index or by field name, and
+ * {@link #asFieldMap()} exposes the snapshot as a {@code Map<Field, Object>}
+ * without copying it.
+ * </p>
+ */
+public final class FieldValueSnapshot {
+
+	private final FieldLayout fieldLayout;
+
+	private final Object[] values;
+
+	private final long[] primitives;
+
+	private FieldValueSnapshot(final FieldLayout fieldLayout, final Object[] values, final long[] primitives) {
+		this.fieldLayout = fieldLayout;
+		this.values = values;
+		this.primitives = primitives;
+	}
+
+	public static FieldValueSnapshot of(final Object object) {
+		final FieldLayout fieldLayout = FieldLayout.of(object.getClass());
+		final int size = fieldLayout.size();
+
+		final Object[] values = new Object[size];
+		final long[] primitives = new long[size];
+
+		for (int i = 0; i < size; i++) {
+			final FieldAccessor accessor = fieldLayout.getAccessor(i);
+
+			if(accessor.getType().isPrimitive()) {
+				primitives[i] = accessor.getRaw(object);
+			}else {
+				values[i] = accessor.get(object);
+			}
+		}
+
+		return new FieldValueSnapshot(fieldLayout, values, primitives);
+	}
+
+	public FieldLayout getFieldLayout() {
+		return fieldLayout;
+	}
+
+	public int size() {
+		return values.length;
+	}
+
+	public Field getField(final int index) {
+		return fieldLayout.getAccessor(index).getField();
+	}
+
+	public int indexOf(final String fieldName) {
+		return fieldLayout.indexOf(fieldName);
+	}
+
+	public boolean isPrimitive(final int index) {
+		return fieldLayout.getAccessor(index).getType().isPrimitive();
+	}
+
+	/**
+	 * Value at {@code index}; primitive values are boxed on each call.
+	 */
+	public Object get(final int index) {
+		final FieldAccessor accessor = fieldLayout.getAccessor(index);
+		return accessor.getType().isPrimitive() ? accessor.decode(primitives[index]) : values[index];
+	}
+
+	public Object get(final String fieldName) {
+		return get(requireIndex(fieldName));
+	}
+
+	public long getLong(final int index) {
+		return requirePrimitive(index, long.class, int.class, short.class, byte.class, char.class);
+	}
+
+	public int getInt(final int index) {
+		return (int) requirePrimitive(index, int.class, short.class, byte.class, char.class);
+	}
+
+	public double getDouble(final int index) {
+		final FieldAccessor accessor = fieldLayout.getAccessor(index);
+
+		if(accessor.getType() == float.class) {
+			return Float.intBitsToFloat((int) primitives[index]);
+		}
+
+		return Double.longBitsToDouble(requirePrimitive(index, double.class));
+	}
+
+	public boolean getBoolean(final int index) {
+		return requirePrimitive(index, boolean.class) != 0;
+	}
+
+	/**
+	 * Whether the field at {@code index} holds the same value in both snapshots:
+	 * primitives are compared by their bits, references with {@link Objects#equals}.
+	 */
+	public boolean isSameValue(final FieldValueSnapshot other, final int index) {
+		requireSameLayout(other);
+
+		if(isPrimitive(index)) {
+			return primitives[index] == other.primitives[index];
+		}
+
+		return Objects.equals(values[index], other.values[index]);
+	}
+
+	/**
+	 * Fields whose value differs between this snapshot and {@code other}, in declaration order.
+	 */
+	public List<Field> diff(final FieldValueSnapshot other) {
+		requireSameLayout(other);
+
+		final List<Field> fields = new ArrayList<>();
+
+		for (int i = 0; i < values.length; i++) {
+			if(!isSameValue(other, i)) {
+				fields.add(getField(i));
+			}
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Read-only {@code Map<Field, Object>} over this snapshot; lookups resolve the
+	 * field through the layout name index instead of hashing the {@link Field}.
+	 * Its entry iterator reuses one entry, valid until the next call to {@code next()}.
+	 */
+	public Map<Field, Object> asFieldMap() {
+		return new FieldMap();
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(fieldLayout.getClassType().getSimpleName()).append('{');
+
+		for (int i = 0; i < values.length; i++) {
+			builder.append(i == 0 ? "" : ", ").append(getField(i).getName()).append('=').append(get(i));
+		}
+
+		return builder.append('}').toString();
+	}
+
+	private int requireIndex(final String fieldName) {
+		final int index = fieldLayout.indexOf(fieldName);
+
+		if(index < 0) {
+			throw new IllegalArgumentException("Field Not Found {" + fieldName + "} on " + fieldLayout.getClassType().getName());
+		}
+
+		return index;
+	}
+
+	private long requirePrimitive(final int index, final Class<?>... types) {
+		final Class<?> type = fieldLayout.getAccessor(index).getType();
+
+		for (final Class<?> accepted : types) {
+			if(accepted == type) {
+				return primitives[index];
+			}
+		}
+
+		throw new IllegalArgumentException("Field {" + getField(index).getName() + "} is " + type.getName());
+	}
+
+	private void requireSameLayout(final FieldValueSnapshot other) {
+		if(other.fieldLayout != fieldLayout) {
+			throw new IllegalArgumentException("Snapshots of different classes: "
+				+ fieldLayout.getClassType().getName() + " and " + other.fieldLayout.getClassType().getName());
+		}
+	}
+
+	private int indexOfField(final Object key) {
+		if(!(key instanceof Field)) {
+			return -1;
+		}
+
+		final Field field = (Field) key;
+		final int index = fieldLayout.indexOf(field.getName());
+
+		return index >= 0 && getField(index).equals(field) ? index : -1;
+	}
+
+	private final class FieldMap extends AbstractMap<Field, Object> {
+
+		@Override
+		public int size() {
+			return values.length;
+		}
+
+		@Override
+		public boolean containsKey(final Object key) {
+			return indexOfField(key) >= 0;
+		}
+
+		@Override
+		public Object get(final Object key) {
+			final int index = indexOfField(key);
+			return index < 0 ? null : FieldValueSnapshot.this.get(index);
+		}
+
+		@Override
+		public Set<Entry<Field, Object>> entrySet() {
+			return new AbstractSet<Entry<Field, Object>>() {
+
+				@Override
+				public int size() {
+					return values.length;
+				}
+
+				@Override
+				public Iterator<Entry<Field, Object>> iterator() {
+					return new Iterator<Entry<Field, Object>>() {
+
+						private final ReusableEntry<Field> entry = new ReusableEntry<>();
+
+						private int index;
+
+						@Override
+						public boolean hasNext() {
+							return index < values.length;
+						}
+
+						@Override
+						public Entry<Field, Object> next() {
+							if(index >= values.length) {
+								throw new NoSuchElementException();
+							}
+
+							final int current = index++;
+							return entry.next(getField(current), FieldValueSnapshot.this.get(current));
+						}
+					};
+				}
+			};
+		}
+
+	}
+
+}
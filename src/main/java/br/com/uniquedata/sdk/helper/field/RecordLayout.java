@@ -0,0 +1,125 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.List;
+
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
+import br.com.uniquedata.sdk.helper.object.ObjectInstantiationException;
+import br.com.uniquedata.sdk.helper.object.PrimitiveTypeHelper;
+
+/**
+ * The components of a record, in canonical constructor order, each with the
+ * {@link FieldAccessor} of its field, and the canonical constructor, built once
+ * per record class ({@link ClassValue}-backed).
+ *
+ * <p>
+ * Record fields are final and cannot be written once the record exists, so
+ * copies and deserialized records gather their component values first and are
+ * created in one call through {@link #newInstance(Object[])}.
+ * </p>
+ */
+public final class RecordLayout {
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+	private static final ClassValue<RecordLayout> CACHE = new ClassValue<RecordLayout>() {
+		@Override
+		protected RecordLayout computeValue(final Class<?> type) {
+			return new RecordLayout(type);
+		}
+	};
+
+	private final Class<?> classType;
+
+	private final List<RecordComponent> components;
+
+	private final FieldAccessor[] accessors;
+
+	private final MethodHandle constructor;
+
+	private RecordLayout(final Class<?> classType) {
+		if(!classType.isRecord()) {
+			throw new IllegalArgumentException("Class Is Not a Record {" + classType.getName() + "}");
+		}
+
+		final FieldLayout fieldLayout = FieldLayout.of(classType);
+		final List<RecordComponent> components = ClassMetadata.of(classType).getRecordComponents();
+		final Class<?>[] parameterTypes = new Class<?>[components.size()];
+
+		this.classType = classType;
+		this.components = components;
+		this.accessors = new FieldAccessor[components.size()];
+
+		for (int i = 0; i < accessors.length; i++) {
+			accessors[i] = fieldLayout.getAccessor(components.get(i).getName());
+			parameterTypes[i] = components.get(i).getType();
+		}
+
+		this.constructor = toConstructor(classType, parameterTypes);
+	}
+
+	public static RecordLayout of(final Class<?> classType) {
+		return CACHE.get(classType);
+	}
+
+	public Class<?> getClassType() {
+		return classType;
+	}
+
+	public int size() {
+		return accessors.length;
+	}
+
+	public RecordComponent getComponent(final int index) {
+		return components.get(index);
+	}
+
+	public FieldAccessor getAccessor(final int index) {
+		return accessors[index];
+	}
+
+	/**
+	 * Calls the canonical constructor with {@code values}, in component order;
+	 * {@code null} values of primitive components become their default value.
+	 */
+	public Object newInstance(final Object[] values) {
+		final Object[] arguments = Arrays.copyOf(values, accessors.length);
+
+		for (int i = 0; i < arguments.length; i++) {
+			if(arguments[i] == null && accessors[i].getType().isPrimitive()) {
+				arguments[i] = PrimitiveTypeHelper.defaultValue(accessors[i].getType());
+			}
+		}
+
+		try {
+			return constructor.invokeExact(arguments);
+		}catch (RuntimeException | Error e) {
+			throw e;
+		}catch (Throwable e) {
+			throw new ObjectInstantiationException(classType, "canonical constructor threw " + e, e);
+		}
+	}
+
+	private static MethodHandle toConstructor(final Class<?> classType, final Class<?>[] parameterTypes) {
+		for (final Constructor<?> constructor : ClassMetadata.of(classType).getDeclaredConstructors()) {
+			if(Arrays.equals(constructor.getParameterTypes(), parameterTypes)) {
+				try {
+					constructor.setAccessible(true);
+
+					return MethodHandles.lookup().unreflectConstructor(constructor)
+						.asSpreader(Object[].class, parameterTypes.length).asType(CONSTRUCTOR_TYPE);
+				}catch (Exception e) {
+					throw new ObjectInstantiationException(classType, "canonical constructor is not accessible", e);
+				}
+			}
+		}
+
+		throw new ObjectInstantiationException(classType, "no canonical constructor");
+	}
+
+}
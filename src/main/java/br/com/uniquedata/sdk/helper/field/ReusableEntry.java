@@ -0,0 +1,59 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Read-only map entry reused by the entry iterators of {@link FieldValueMap} and
+ * {@link FieldValueSnapshot#asFieldMap()}: {@link #next(Object, Object)} moves it
+ * to the next key, so an entry is only valid until the iterator advances. Copy
+ * it ({@code Map.entry(e.getKey(), e.getValue())}) to keep it.
+ */
+final class ReusableEntry<K> implements Map.Entry<K, Object> {
+
+	private K key;
+
+	private Object value;
+
+	ReusableEntry<K> next(final K key, final Object value) {
+		this.key = key;
+		this.value = value;
+		return this;
+	}
+
+	@Override
+	public K getKey() {
+		return key;
+	}
+
+	@Override
+	public Object getValue() {
+		return value;
+	}
+
+	@Override
+	public Object setValue(final Object value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean equals(final Object other) {
+		if(!(other instanceof Map.Entry)) {
+			return false;
+		}
+
+		final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) other;
+		return Objects.equals(key, entry.getKey()) && Objects.equals(value, entry.getValue());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(key) ^ Objects.hashCode(value);
+	}
+
+	@Override
+	public String toString() {
+		return key + "=" + value;
+	}
+
+}
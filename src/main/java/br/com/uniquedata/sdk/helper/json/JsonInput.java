@@ -0,0 +1,361 @@
+package br.com.uniquedata.sdk.helper.json;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Character-level tokenizer of a {@link JsonReader}, reading its source through
+ * a fixed buffer.
+ *
+ * <p>
+ * Strings, member names and numbers are decoded into one reused
+ * {@link StringBuilder}, exposed by {@link #getText()}; member names are matched
+ * straight from it, and skipped values are consumed without being kept, so memory
+ * does not grow with the size of the document.
+ * </p>
+ */
+final class JsonInput {
+
+	private final Reader reader;
+
+	private final char[] buffer = new char[8192];
+
+	private final StringBuilder text = new StringBuilder();
+
+	private int position;
+
+	private int limit;
+
+	private long offset;
+
+	private boolean integral;
+
+	JsonInput(final Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Next non-whitespace character, left unread, or {@code -1} at the end of the source.
+	 */
+	int peek() {
+		while (true) {
+			if(position == limit && !fill()) {
+				return -1;
+			}
+
+			final char character = buffer[position];
+
+			if(character != ' ' && character != '\n' && character != '\r' && character != '\t') {
+				return character;
+			}
+
+			position++;
+		}
+	}
+
+	void expect(final char expected) {
+		final int character = peek();
+
+		if(character != expected) {
+			throw error("expected '" + expected + "' found " + describe(character));
+		}
+
+		position++;
+	}
+
+	/**
+	 * Consumes {@code expected} when it is the next character.
+	 */
+	boolean consume(final char expected) {
+		if(peek() == expected) {
+			position++;
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Reads a string into {@link #getText()}.
+	 */
+	void readString() {
+		expect('"');
+		text.setLength(0);
+
+		while (true) {
+			final char character = next();
+
+			if(character == '"') {
+				return;
+			}else if(character == '\\') {
+				text.append(readEscape());
+			}else {
+				text.append(character);
+			}
+		}
+	}
+
+	/**
+	 * Reads a member name and its colon; the name is left in {@link #getText()}.
+	 */
+	void readName() {
+		readString();
+		expect(':');
+	}
+
+	/**
+	 * Reads a number into {@link #getText()}; see {@link #isIntegral()}.
+	 */
+	void readNumber() {
+		text.setLength(0);
+		integral = true;
+
+		int character = peek();
+
+		while (character == '-' || character == '+' || character == '.' || character == 'e' || character == 'E' || (character >= '0' && character <= '9')) {
+			if(character == '.' || character == 'e' || character == 'E') {
+				integral = false;
+			}
+
+			text.append((char) character);
+			position++;
+			character = position < limit || fill() ? buffer[position] : -1;
+		}
+
+		if(text.length() == 0) {
+			throw error("expected a value found " + describe(character));
+		}else if(!isNumber(text)) {
+			throw error("invalid number " + text);
+		}
+	}
+
+	/**
+	 * Whether the last number read has neither a fraction nor an exponent.
+	 */
+	boolean isIntegral() {
+		return integral;
+	}
+
+	/**
+	 * Reads {@code true} or {@code false}.
+	 */
+	boolean readBoolean() {
+		if(peek() == 't') {
+			readLiteral("true");
+			return true;
+		}
+
+		readLiteral("false");
+		return false;
+	}
+
+	/**
+	 * Consumes {@code null} when it is the next value.
+	 */
+	boolean consumeNull() {
+		if(peek() == 'n') {
+			readLiteral("null");
+			return true;
+		}
+
+		return false;
+	}
+
+	CharSequence getText() {
+		return text;
+	}
+
+	/**
+	 * Skips the next value, nested values included.
+	 */
+	void skipValue() {
+		int depth = 0;
+
+		do {
+			final int character = peek();
+
+			if(character == '{' || character == '[') {
+				position++;
+				depth++;
+			}else if(character == '}' || character == ']') {
+				position++;
+				depth--;
+			}else if(character == ',' || character == ':') {
+				position++;
+			}else if(character == '"') {
+				skipString();
+			}else if(character == 't' || character == 'f') {
+				readBoolean();
+			}else if(character == 'n') {
+				readLiteral("null");
+			}else {
+				readNumber();
+			}
+		}while (depth > 0);
+	}
+
+	/**
+	 * Fails unless only whitespace is left.
+	 */
+	void end() {
+		final int character = peek();
+
+		if(character != -1) {
+			throw error("unexpected " + describe(character) + " after the document");
+		}
+	}
+
+	IllegalArgumentException error(final String message) {
+		return new IllegalArgumentException("Invalid JSON {" + message + "} at Offset " + (offset + position));
+	}
+
+	private void skipString() {
+		expect('"');
+
+		while (true) {
+			final char character = next();
+
+			if(character == '"') {
+				return;
+			}else if(character == '\\') {
+				readEscape();
+			}
+		}
+	}
+
+	private char readEscape() {
+		final char character = next();
+
+		switch (character) {
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 't':
+				return '\t';
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			case 'u':
+				int value = 0;
+
+				for (int i = 0; i < 4; i++) {
+					final int digit = Character.digit(next(), 16);
+
+					if(digit < 0) {
+						throw error("invalid unicode escape");
+					}
+
+					value = value << 4 | digit;
+				}
+
+				return (char) value;
+			case '"':
+			case '\\':
+			case '/':
+				return character;
+			default:
+				throw error("invalid escape '\\" + character + "'");
+		}
+	}
+
+	private void readLiteral(final String literal) {
+		for (int i = 0; i < literal.length(); i++) {
+			final int character = position < limit || fill() ? buffer[position] : -1;
+
+			if(character != literal.charAt(i)) {
+				throw error("expected '" + literal + "' found " + describe(character));
+			}
+
+			position++;
+		}
+	}
+
+	private char next() {
+		if(position == limit && !fill()) {
+			throw error("unexpected end of input");
+		}
+
+		return buffer[position++];
+	}
+
+	private boolean fill() {
+		try {
+			offset += limit;
+			position = 0;
+			limit = 0;
+
+			final int read = reader.read(buffer, 0, buffer.length);
+
+			if(read <= 0) {
+				return false;
+			}
+
+			limit = read;
+			return true;
+		}catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Whether {@code number} follows the JSON grammar: an optional minus sign, an integer part
+	 * without leading zeros, an optional fraction and an optional exponent.
+	 */
+	private static boolean isNumber(final CharSequence number) {
+		final int length = number.length();
+		int index = number.charAt(0) == '-' ? 1 : 0;
+
+		if(index == length || !isDigit(number.charAt(index))) {
+			return false;
+		}else if(number.charAt(index) == '0') {
+			index++;
+		}else {
+			while (index < length && isDigit(number.charAt(index))) {
+				index++;
+			}
+		}
+
+		if(index < length && number.charAt(index) == '.') {
+			final int start = ++index;
+
+			while (index < length && isDigit(number.charAt(index))) {
+				index++;
+			}
+
+			if(index == start) {
+				return false;
+			}
+		}
+
+		if(index < length && (number.charAt(index) == 'e' || number.charAt(index) == 'E')) {
+			index++;
+
+			if(index < length && (number.charAt(index) == '+' || number.charAt(index) == '-')) {
+				index++;
+			}
+
+			final int start = index;
+
+			while (index < length && isDigit(number.charAt(index))) {
+				index++;
+			}
+
+			if(index == start) {
+				return false;
+			}
+		}
+
+		return index == length;
+	}
+
+	private static boolean isDigit(final char character) {
+		return character >= '0' && character <= '9';
+	}
+
+	private static String describe(final int character) {
+		return character == -1 ? "end of input" : "'" + (char) character + "'";
+	}
+
+}
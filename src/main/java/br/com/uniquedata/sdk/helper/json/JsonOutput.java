@@ -0,0 +1,264 @@
+package br.com.uniquedata.sdk.helper.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * UTF-8 byte buffer of a {@link JsonWriter}, drained into its destination when full
+ * and at the end of the document.
+ *
+ * <p>
+ * The buffer is only drained between two characters, never inside the encoding of
+ * one, so every drained chunk is valid UTF-8 on its own; that is what lets a
+ * {@link Writer} destination decode chunk by chunk.
+ * </p>
+ */
+abstract class JsonOutput {
+
+	private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+	private final byte[] buffer;
+
+	private int position;
+
+	JsonOutput(final int bufferSize) {
+		this.buffer = new byte[bufferSize];
+	}
+
+	static JsonOutput of(final OutputStream outputStream) {
+		return new JsonOutput(8192) {
+			@Override
+			void drain(final byte[] bytes, final int length) throws IOException {
+				outputStream.write(bytes, 0, length);
+			}
+		};
+	}
+
+	static JsonOutput of(final Writer writer) {
+		return new JsonOutput(8192) {
+			@Override
+			void drain(final byte[] bytes, final int length) throws IOException {
+				writer.write(new String(bytes, 0, length, StandardCharsets.UTF_8));
+			}
+		};
+	}
+
+	static JsonOutput of(final ByteBuffer byteBuffer) {
+		return new JsonOutput(1024) {
+			@Override
+			void drain(final byte[] bytes, final int length) {
+				byteBuffer.put(bytes, 0, length);
+			}
+		};
+	}
+
+	/**
+	 * Encoded, quoted and escaped form of {@code value}, for names computed ahead of time.
+	 */
+	static byte[] quote(final String value) {
+		final byte[][] quoted = new byte[1][];
+		final JsonOutput output = new JsonOutput(value.length() * 6 + 2) {
+			@Override
+			void drain(final byte[] bytes, final int length) {
+				quoted[0] = Arrays.copyOf(bytes, length);
+			}
+		};
+
+		output.writeString(value);
+		output.flush();
+
+		return quoted[0];
+	}
+
+	abstract void drain(byte[] bytes, int length) throws IOException;
+
+	void writeByte(final byte value) {
+		require(1);
+		buffer[position++] = value;
+	}
+
+	void writeBytes(final byte[] bytes) {
+		if(bytes.length > buffer.length) {
+			flushBuffer();
+			drainChecked(bytes, bytes.length);
+			return;
+		}
+
+		require(bytes.length);
+		System.arraycopy(bytes, 0, buffer, position, bytes.length);
+		position += bytes.length;
+	}
+
+	/**
+	 * Writes an ASCII-only string (numbers, literals) without escaping.
+	 */
+	void writeAscii(final String value) {
+		final int length = value.length();
+
+		if(length > buffer.length) {
+			writeBytes(value.getBytes(StandardCharsets.US_ASCII));
+			return;
+		}
+
+		require(length);
+
+		for (int i = 0; i < length; i++) {
+			buffer[position++] = (byte) value.charAt(i);
+		}
+	}
+
+	void writeLong(final long value) {
+		if(value == Long.MIN_VALUE) {
+			writeBytes(LONG_MIN_VALUE);
+			return;
+		}
+
+		require(20);
+
+		long remaining = value;
+
+		if(remaining < 0) {
+			buffer[position++] = '-';
+			remaining = -remaining;
+		}
+
+		final int start = position;
+
+		do {
+			buffer[position++] = (byte) ('0' + remaining % 10);
+			remaining /= 10;
+		}while (remaining != 0);
+
+		for (int left = start, right = position - 1; left < right; left++, right--) {
+			final byte digit = buffer[left];
+			buffer[left] = buffer[right];
+			buffer[right] = digit;
+		}
+	}
+
+	void writeDouble(final double value) {
+		if(Double.isNaN(value) || Double.isInfinite(value)) {
+			writeAscii("null");
+		}else if(value == (long) value && Math.abs(value) < 1e15) {
+			writeLong((long) value);
+		}else {
+			writeAscii(Double.toString(value));
+		}
+	}
+
+	void writeFloat(final float value) {
+		if(Float.isNaN(value) || Float.isInfinite(value)) {
+			writeAscii("null");
+		}else if(value == (long) value && Math.abs(value) < 1e7f) {
+			writeLong((long) value);
+		}else {
+			writeAscii(Float.toString(value));
+		}
+	}
+
+	void writeString(final String value) {
+		writeByte((byte) '"');
+
+		for (int i = 0; i < value.length(); i++) {
+			final char character = value.charAt(i);
+
+			if(Character.isHighSurrogate(character) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+				writeCodePoint(Character.toCodePoint(character, value.charAt(++i)));
+			}else {
+				writeChar(character);
+			}
+		}
+
+		writeByte((byte) '"');
+	}
+
+	void writeChar(final char character) {
+		require(6);
+
+		if(character == '"' || character == '\\') {
+			buffer[position++] = '\\';
+			buffer[position++] = (byte) character;
+		}else if(character < 0x20) {
+			writeControl(character);
+		}else if(character < 0x80) {
+			buffer[position++] = (byte) character;
+		}else if(character < 0x800) {
+			buffer[position++] = (byte) (0xc0 | character >> 6);
+			buffer[position++] = (byte) (0x80 | character & 0x3f);
+		}else if(Character.isSurrogate(character)) {
+			buffer[position++] = '?';
+		}else {
+			buffer[position++] = (byte) (0xe0 | character >> 12);
+			buffer[position++] = (byte) (0x80 | character >> 6 & 0x3f);
+			buffer[position++] = (byte) (0x80 | character & 0x3f);
+		}
+	}
+
+	void flush() {
+		flushBuffer();
+	}
+
+	private void writeCodePoint(final int codePoint) {
+		require(4);
+		buffer[position++] = (byte) (0xf0 | codePoint >> 18);
+		buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+		buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+		buffer[position++] = (byte) (0x80 | codePoint & 0x3f);
+	}
+
+	private void writeControl(final char character) {
+		buffer[position++] = '\\';
+
+		switch (character) {
+			case '\n':
+				buffer[position++] = 'n';
+				break;
+			case '\r':
+				buffer[position++] = 'r';
+				break;
+			case '\t':
+				buffer[position++] = 't';
+				break;
+			case '\b':
+				buffer[position++] = 'b';
+				break;
+			case '\f':
+				buffer[position++] = 'f';
+				break;
+			default:
+				buffer[position++] = 'u';
+				buffer[position++] = '0';
+				buffer[position++] = '0';
+				buffer[position++] = HEX[character >> 4];
+				buffer[position++] = HEX[character & 0xf];
+		}
+	}
+
+	private void require(final int length) {
+		if(position + length > buffer.length) {
+			flushBuffer();
+		}
+	}
+
+	private void flushBuffer() {
+		if(position > 0) {
+			drainChecked(buffer, position);
+			position = 0;
+		}
+	}
+
+	private void drainChecked(final byte[] bytes, final int length) {
+		try {
+			drain(bytes, length);
+		}catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
@@ -0,0 +1,160 @@
+package br.com.uniquedata.sdk.helper.json;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.uniquedata.sdk.helper.cache.ClassPairCache;
+import br.com.uniquedata.sdk.helper.field.FieldAccessor;
+import br.com.uniquedata.sdk.helper.field.FieldKeys;
+import br.com.uniquedata.sdk.helper.field.FieldLayout;
+import br.com.uniquedata.sdk.helper.field.RecordLayout;
+import br.com.uniquedata.sdk.helper.object.Instantiator;
+import br.com.uniquedata.sdk.helper.type.ResolvedType;
+import br.com.uniquedata.sdk.helper.type.TypeResolver;
+
+/**
+ * How JSON objects are read into instances of a class, built once per
+ * (class, rename annotation) (see {@link ClassPairCache}).
+ *
+ * <p>
+ * Member names, renames applied, are kept in an open-addressing table searched
+ * with the characters of the name as the tokenizer decoded them, so no
+ * {@code String} is created per member. Each field carries its generic type
+ * resolved in the context of the class, which drives how nested collections,
+ * maps and objects are read. The fields of a record are its components, in
+ * canonical constructor order; {@code transient} fields are ignored.
+ * </p>
+ */
+final class JsonReadPlan {
+
+	private static final ClassPairCache<JsonReadPlan> CACHE = new ClassPairCache<>();
+
+	private final Instantiator instantiator;
+
+	private final RecordLayout recordLayout;
+
+	private final FieldAccessor[] accessors;
+
+	private final ResolvedType[] types;
+
+	private final String[] slotNames;
+
+	private final int[] slotIndexes;
+
+	private final int mask;
+
+	private JsonReadPlan(final Class<?> classType, final Class<? extends Annotation> renameAnnotation) {
+		final FieldLayout fieldLayout = FieldLayout.of(classType);
+		final FieldKeys fieldKeys = fieldLayout.getKeys(renameAnnotation);
+
+		this.recordLayout = classType.isRecord() ? RecordLayout.of(classType) : null;
+		this.instantiator = recordLayout == null ? Instantiator.of(classType) : null;
+		this.accessors = recordLayout != null ? toAccessors(recordLayout) : toAccessors(fieldLayout);
+		this.types = new ResolvedType[accessors.length];
+		this.slotNames = new String[Integer.highestOneBit(Math.max(accessors.length, 1) * 2) * 2];
+		this.slotIndexes = new int[slotNames.length];
+		this.mask = slotNames.length - 1;
+
+		for (int i = 0; i < accessors.length; i++) {
+			types[i] = TypeResolver.resolve(accessors[i].getField().getGenericType(), classType);
+
+			final String key = fieldKeys.getKey(accessors[i].getIndex());
+			int slot = hash(key) & mask;
+
+			while (slotNames[slot] != null) {
+				slot = (slot + 1) & mask;
+			}
+
+			slotNames[slot] = key;
+			slotIndexes[slot] = i;
+		}
+	}
+
+	static JsonReadPlan of(final Class<?> classType, final Class<? extends Annotation> renameAnnotation) {
+		final Class<?> key = renameAnnotation == null ? Annotation.class : renameAnnotation;
+		return CACHE.computeIfAbsent(classType, key,
+			(type, annotation) -> new JsonReadPlan(type, annotation == Annotation.class ? null : annotation.asSubclass(Annotation.class)));
+	}
+
+	/**
+	 * Whether instances are created from all their values at once, see {@link #newRecord(Object[])}.
+	 */
+	boolean isRecord() {
+		return recordLayout != null;
+	}
+
+	int size() {
+		return accessors.length;
+	}
+
+	Object newInstance() {
+		return instantiator.newInstance();
+	}
+
+	/**
+	 * Creates the record from its component values, indexed as the fields of this plan.
+	 */
+	Object newRecord(final Object[] values) {
+		return recordLayout.newInstance(values);
+	}
+
+	/**
+	 * Index of the field named {@code name}, or {@code -1}.
+	 */
+	int indexOf(final CharSequence name) {
+		int slot = hash(name) & mask;
+
+		while (slotNames[slot] != null) {
+			if(slotNames[slot].contentEquals(name)) {
+				return slotIndexes[slot];
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		return -1;
+	}
+
+	FieldAccessor getAccessor(final int index) {
+		return accessors[index];
+	}
+
+	ResolvedType getType(final int index) {
+		return types[index];
+	}
+
+	private static FieldAccessor[] toAccessors(final RecordLayout recordLayout) {
+		final FieldAccessor[] accessors = new FieldAccessor[recordLayout.size()];
+
+		for (int i = 0; i < accessors.length; i++) {
+			accessors[i] = recordLayout.getAccessor(i);
+		}
+
+		return accessors;
+	}
+
+	private static FieldAccessor[] toAccessors(final FieldLayout fieldLayout) {
+		final List<FieldAccessor> accessors = new ArrayList<>();
+
+		for (final FieldAccessor accessor : fieldLayout.getAccessors()) {
+			if(!Modifier.isTransient(accessor.getField().getModifiers())) {
+				accessors.add(accessor);
+			}
+		}
+
+		return accessors.toArray(new FieldAccessor[0]);
+	}
+
+	private static int hash(final CharSequence name) {
+		int hash = 0;
+
+		for (int i = 0; i < name.length(); i++) {
+			hash = 31 * hash + name.charAt(i);
+		}
+
+		return hash ^ (hash >>> 16);
+	}
+
+}
@@ -0,0 +1,387 @@
+package br.com.uniquedata.sdk.helper.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import br.com.uniquedata.sdk.helper.convert.ConverterRegistry;
+import br.com.uniquedata.sdk.helper.field.FieldAccessor;
+import br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper;
+import br.com.uniquedata.sdk.helper.object.PrimitiveTypeHelper;
+import br.com.uniquedata.sdk.helper.type.ResolvedType;
+import br.com.uniquedata.sdk.helper.type.TypeResolver;
+
+/**
+ * Reads JSON straight into instances of a class, the reverse of {@link JsonWriter}.
+ *
+ * <p>
+ * Objects are read through a per-class {@link JsonReadPlan}: each member name is
+ * looked up in the plan's name index as soon as it is decoded, and its value is
+ * read according to the resolved generic type of the field and set through the
+ * layout accessor. No intermediate map or tree is built; unknown members are
+ * skipped without being kept.
+ * </p>
+ *
+ * <ul>
+ *   <li>Numbers, booleans and strings are converted to the field type, through
+ *       {@link ConverterRegistry} for enums, dates, {@code java.time} types, {@code UUID}, atomics...</li>
+ *   <li>Collections and maps are created for the declared type: {@code List}, {@code Set},
+ *       {@code SortedSet}, {@code Queue}, {@code Map} and {@code SortedMap} get
+ *       {@code ArrayList}, {@code LinkedHashSet}, {@code TreeSet}, {@code ArrayDeque},
+ *       {@code LinkedHashMap} and {@code TreeMap}; concrete types are instantiated as
+ *       {@link ObjectReflectionHelper#newCollection(Class)} does.</li>
+ *   <li>Elements and values are read as the type arguments of the field; {@code Object}
+ *       and unbound type variables get plain maps, lists, strings, numbers and booleans.</li>
+ *   <li>{@code null} leaves primitive fields at their default value.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * Order order = JsonReader.read(request.getInputStream(), Order.class, JsonProperty.class);
+ * }</pre>
+ */
+public final class JsonReader {
+
+	private static final int MAX_DEPTH = 512;
+
+	private static final ResolvedType OBJECT_TYPE = TypeResolver.resolve(Object.class);
+
+	private final JsonInput input;
+
+	private final Class<? extends Annotation> renameAnnotation;
+
+	private int depth;
+
+	private JsonReader(final JsonInput input, final Class<? extends Annotation> renameAnnotation) {
+		this.input = input;
+		this.renameAnnotation = renameAnnotation;
+	}
+
+	public static <T> T read(final InputStream inputStream, final Class<T> classType) {
+		return read(inputStream, classType, null);
+	}
+
+	/**
+	 * Reads a UTF-8 document from {@code inputStream}, matching the fields carrying
+	 * {@code renameAnnotation} by its value. The stream is not closed.
+	 */
+	public static <T> T read(final InputStream inputStream, final Class<T> classType, final Class<? extends Annotation> renameAnnotation) {
+		return read(new InputStreamReader(inputStream, StandardCharsets.UTF_8), classType, renameAnnotation);
+	}
+
+	public static <T> T read(final byte[] json, final Class<T> classType) {
+		return read(json, classType, null);
+	}
+
+	public static <T> T read(final byte[] json, final Class<T> classType, final Class<? extends Annotation> renameAnnotation) {
+		return read(new ByteArrayInputStream(json), classType, renameAnnotation);
+	}
+
+	public static <T> T read(final String json, final Class<T> classType) {
+		return read(json, classType, null);
+	}
+
+	public static <T> T read(final String json, final Class<T> classType, final Class<? extends Annotation> renameAnnotation) {
+		return read(new StringReader(json), classType, renameAnnotation);
+	}
+
+	public static <T> T read(final Reader reader, final Class<T> classType) {
+		return read(reader, classType, null);
+	}
+
+	/**
+	 * Reads a document from {@code reader}; the reader is not closed.
+	 *
+	 * @throws IllegalArgumentException when the document is not valid JSON or a value cannot be converted
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T read(final Reader reader, final Class<T> classType, final Class<? extends Annotation> renameAnnotation) {
+		final JsonInput input = new JsonInput(reader);
+		final Object value = new JsonReader(input, renameAnnotation).readValue(TypeResolver.resolve(classType));
+
+		input.end();
+		return (T) value;
+	}
+
+	private Object readValue(final ResolvedType type) {
+		if(input.consumeNull()) {
+			return null;
+		}
+
+		final Class<?> rawClass = type.getRawClass();
+
+		if(rawClass == Object.class) {
+			return readUntyped();
+		}
+
+		switch (JsonType.of(rawClass)) {
+			case STRING:
+				final Object scalar = readScalar();
+				return scalar instanceof String ? scalar : String.valueOf(scalar);
+			case NUMBER:
+				if(input.peek() == '"') {
+					input.readString();
+
+					final String number = input.getText().toString().trim();
+					return toNumber(number, number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0, rawClass);
+				}
+
+				input.readNumber();
+				return toNumber(rawClass);
+			case BOOLEAN:
+				return input.peek() == '"' ? convert(readScalar(), rawClass) : Boolean.valueOf(input.readBoolean());
+			case CHARACTER:
+			case ENUM:
+			case TEXT:
+				return convert(readScalar(), rawClass);
+			case ARRAY:
+				return readArray(type);
+			case COLLECTION:
+				return readCollection(type);
+			case MAP:
+				return readMap(type);
+			default:
+				return readObject(JsonReadPlan.of(rawClass, renameAnnotation));
+		}
+	}
+
+	/**
+	 * Reads an object into a new instance; records gather their values first and are
+	 * created through their canonical constructor once the object is read.
+	 */
+	private Object readObject(final JsonReadPlan readPlan) {
+		final Object[] values = readPlan.isRecord() ? new Object[readPlan.size()] : null;
+		final Object object = values == null ? readPlan.newInstance() : null;
+
+		enter();
+		input.expect('{');
+
+		if(!input.consume('}')) {
+			do {
+				input.readName();
+
+				final int index = readPlan.indexOf(input.getText());
+
+				if(index < 0) {
+					input.skipValue();
+					continue;
+				}
+
+				final FieldAccessor accessor = readPlan.getAccessor(index);
+				final Object value = readValue(readPlan.getType(index));
+
+				if(values != null) {
+					values[index] = value;
+				}else if(value != null || !accessor.getType().isPrimitive()) {
+					accessor.set(object, value);
+				}
+			}while (input.consume(','));
+
+			input.expect('}');
+		}
+
+		depth--;
+		return values == null ? object : readPlan.newRecord(values);
+	}
+
+	private Object readArray(final ResolvedType type) {
+		final ResolvedType componentType = type.getComponentType() != null
+			? type.getComponentType() : TypeResolver.resolve(type.getRawClass().getComponentType());
+		final List<Object> items = new ArrayList<>();
+
+		readItems(items, componentType);
+
+		final Object array = Array.newInstance(componentType.getRawClass(), items.size());
+
+		for (int i = 0; i < items.size(); i++) {
+			if(items.get(i) != null || !componentType.getRawClass().isPrimitive()) {
+				Array.set(array, i, items.get(i));
+			}
+		}
+
+		return array;
+	}
+
+	private Collection<Object> readCollection(final ResolvedType type) {
+		final Collection<Object> collection = newCollection(type.getRawClass());
+		final ResolvedType elementType = type.getElementArgument();
+
+		readItems(collection, elementType == null ? OBJECT_TYPE : elementType);
+		return collection;
+	}
+
+	private void readItems(final Collection<Object> items, final ResolvedType elementType) {
+		enter();
+		input.expect('[');
+
+		if(!input.consume(']')) {
+			do {
+				items.add(readValue(elementType));
+			}while (input.consume(','));
+
+			input.expect(']');
+		}
+
+		depth--;
+	}
+
+	private Map<Object, Object> readMap(final ResolvedType type) {
+		final Map<Object, Object> map = newMap(type.getRawClass());
+		final Class<?> keyType = type.getArgumentCount() > 1 ? type.getArgument(0).getRawClass() : Object.class;
+		final ResolvedType valueType = type.getElementArgument();
+
+		enter();
+		input.expect('{');
+
+		if(!input.consume('}')) {
+			do {
+				input.readName();
+
+				final String key = input.getText().toString();
+				map.put(keyType == Object.class ? key : convert(key, keyType), readValue(valueType == null ? OBJECT_TYPE : valueType));
+			}while (input.consume(','));
+
+			input.expect('}');
+		}
+
+		depth--;
+		return map;
+	}
+
+	/**
+	 * Reads a value with no declared type: maps, lists, strings, {@code Long} (or
+	 * {@code BigInteger}) and {@code Double} numbers, booleans.
+	 */
+	private Object readUntyped() {
+		final int character = input.peek();
+
+		if(character == '{') {
+			return readMap(TypeResolver.resolve(LinkedHashMap.class));
+		}else if(character == '[') {
+			return readCollection(TypeResolver.resolve(ArrayList.class));
+		}else if(character == '"') {
+			input.readString();
+			return input.getText().toString();
+		}else if(character == 't' || character == 'f') {
+			return input.readBoolean();
+		}else if(input.consumeNull()) {
+			return null;
+		}
+
+		input.readNumber();
+		return toNumber(Number.class);
+	}
+
+	/**
+	 * Reads a string, number or boolean.
+	 */
+	private Object readScalar() {
+		final int character = input.peek();
+
+		if(character == '{' || character == '[') {
+			throw input.error("expected a value found '" + (char) character + "'");
+		}
+
+		return readUntyped();
+	}
+
+	/**
+	 * Converts the number just read to {@code targetType}; {@code Number} keeps the
+	 * natural type of the literal.
+	 */
+	private Object toNumber(final Class<?> targetType) {
+		return toNumber(input.getText().toString(), input.isIntegral(), targetType);
+	}
+
+	/**
+	 * Converts {@code number} to {@code targetType}. Integral types only accept integral
+	 * values within their range: {@code 1.9} is rejected for an {@code int}, not truncated.
+	 * Short literals of {@code int} and {@code long} are parsed directly; everything else
+	 * goes through {@link ConverterRegistry}, which performs the same checks for mappers.
+	 */
+	private Object toNumber(final String number, final boolean integral, final Class<?> targetType) {
+		final Class<?> type = PrimitiveTypeHelper.wrap(targetType);
+
+		try {
+			if(type == Number.class) {
+				if(!integral) {
+					return Double.valueOf(number);
+				}
+
+				return number.length() < 19 ? Long.valueOf(number) : toInteger(new BigInteger(number));
+			}else if(type == Integer.class && integral && number.length() < 10) {
+				return Integer.valueOf(number);
+			}else if(type == Long.class && integral && number.length() < 19) {
+				return Long.valueOf(number);
+			}else if(type == Double.class) {
+				return Double.valueOf(number);
+			}else if(type == Float.class) {
+				return Float.valueOf(number);
+			}
+
+			return convert(new BigDecimal(number), targetType);
+		}catch (NumberFormatException e) {
+			throw input.error("invalid number " + number + " for " + targetType.getSimpleName());
+		}
+	}
+
+	private Object convert(final Object value, final Class<?> targetType) {
+		try {
+			return ConverterRegistry.convert(value, targetType);
+		}catch (RuntimeException e) {
+			final IllegalArgumentException error = input.error("cannot convert " + value + " to " + targetType.getSimpleName());
+			error.initCause(e);
+			throw error;
+		}
+	}
+
+	private static Number toInteger(final BigInteger integer) {
+		return integer.bitLength() < 64 ? (Number) integer.longValue() : integer;
+	}
+
+	private static Collection<Object> newCollection(final Class<?> collectionType) {
+		if(collectionType.isAssignableFrom(ArrayList.class)) {
+			return new ArrayList<>();
+		}else if(collectionType.isAssignableFrom(LinkedHashSet.class)) {
+			return new LinkedHashSet<>();
+		}else if(collectionType.isAssignableFrom(TreeSet.class)) {
+			return new TreeSet<>();
+		}else if(collectionType.isAssignableFrom(ArrayDeque.class)) {
+			return new ArrayDeque<>();
+		}
+
+		return ObjectReflectionHelper.newCollection(collectionType);
+	}
+
+	private static Map<Object, Object> newMap(final Class<?> mapType) {
+		if(mapType.isAssignableFrom(LinkedHashMap.class)) {
+			return new LinkedHashMap<>();
+		}else if(mapType.isAssignableFrom(TreeMap.class)) {
+			return new TreeMap<>();
+		}
+
+		return ObjectReflectionHelper.newMap(mapType);
+	}
+
+	private void enter() {
+		if(++depth > MAX_DEPTH) {
+			throw input.error("nesting deeper than " + MAX_DEPTH);
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+package br.com.uniquedata.sdk.helper.json;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * How values of a class are represented in JSON, decided once per class
+ * ({@link ClassValue}-backed) and shared by {@link JsonWriter} and the reader.
+ *
+ * <p>
+ * {@link #TEXT} covers the other value types of the platform ({@code java.time},
+ * {@link java.util.Date}, {@link java.util.UUID}...): they are written as strings
+ * through {@link br.com.uniquedata.sdk.helper.convert.ConverterRegistry}, which
+ * also parses them back. Any other class is an {@link #OBJECT} walked through
+ * its field layout.
+ * </p>
+ */
+enum JsonType {
+
+	STRING, NUMBER, BOOLEAN, CHARACTER, ENUM, TEXT, ARRAY, COLLECTION, MAP, OBJECT;
+
+	private static final ClassValue<JsonType> CACHE = new ClassValue<JsonType>() {
+		@Override
+		protected JsonType computeValue(final Class<?> type) {
+			return toType(type);
+		}
+	};
+
+	static JsonType of(final Class<?> classType) {
+		return CACHE.get(classType);
+	}
+
+	private static JsonType toType(final Class<?> classType) {
+		if(classType == String.class) {
+			return STRING;
+		}else if(classType == boolean.class || classType == Boolean.class) {
+			return BOOLEAN;
+		}else if(classType == char.class || classType == Character.class) {
+			return CHARACTER;
+		}else if(classType.isPrimitive() || Number.class.isAssignableFrom(classType)) {
+			return NUMBER;
+		}else if(classType.isEnum() || (classType.getSuperclass() != null && classType.getSuperclass().isEnum())) {
+			return ENUM;
+		}else if(classType.isArray()) {
+			return ARRAY;
+		}else if(Collection.class.isAssignableFrom(classType)) {
+			return COLLECTION;
+		}else if(Map.class.isAssignableFrom(classType)) {
+			return MAP;
+		}else if(classType != Object.class && isPlatformClass(classType)) {
+			return TEXT;
+		}
+
+		return OBJECT;
+	}
+
+	private static boolean isPlatformClass(final Class<?> classType) {
+		final String packageName = classType.getPackageName();
+		return packageName.startsWith("java.") || packageName.startsWith("javax.");
+	}
+
+}
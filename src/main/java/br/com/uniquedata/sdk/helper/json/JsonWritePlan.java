@@ -0,0 +1,81 @@
+package br.com.uniquedata.sdk.helper.json;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.uniquedata.sdk.helper.cache.ClassPairCache;
+import br.com.uniquedata.sdk.helper.field.FieldAccessor;
+import br.com.uniquedata.sdk.helper.field.FieldKeys;
+import br.com.uniquedata.sdk.helper.field.FieldLayout;
+
+/**
+ * How instances of a class are written as JSON objects, built once per
+ * (class, rename annotation) (see {@link ClassPairCache}).
+ *
+ * <p>
+ * Member names come from the {@link FieldKeys} of the class layout, renames
+ * applied, and are kept already encoded: {@code "name":} as UTF-8 bytes, with
+ * the separating comma in front of every name but the first. Writing an object
+ * copies those bytes and reads the values by index through the layout accessors.
+ * {@code transient} fields are left out.
+ * </p>
+ */
+final class JsonWritePlan {
+
+	private static final ClassPairCache<JsonWritePlan> CACHE = new ClassPairCache<>();
+
+	private final FieldAccessor[] accessors;
+
+	private final byte[][] names;
+
+	private JsonWritePlan(final Class<?> classType, final Class<? extends Annotation> renameAnnotation) {
+		final FieldLayout fieldLayout = FieldLayout.of(classType);
+		final FieldKeys fieldKeys = fieldLayout.getKeys(renameAnnotation);
+		final List<FieldAccessor> accessors = new ArrayList<>();
+
+		for (final FieldAccessor accessor : fieldLayout.getAccessors()) {
+			if(!Modifier.isTransient(accessor.getField().getModifiers())) {
+				accessors.add(accessor);
+			}
+		}
+
+		this.accessors = accessors.toArray(new FieldAccessor[0]);
+		this.names = new byte[this.accessors.length][];
+
+		for (int i = 0; i < this.accessors.length; i++) {
+			final byte[] quoted = JsonOutput.quote(fieldKeys.getKey(this.accessors[i].getIndex()));
+			final int offset = i == 0 ? 0 : 1;
+			final byte[] name = new byte[quoted.length + offset + 1];
+
+			name[0] = ',';
+			System.arraycopy(quoted, 0, name, offset, quoted.length);
+			name[name.length - 1] = ':';
+
+			names[i] = name;
+		}
+	}
+
+	static JsonWritePlan of(final Class<?> classType, final Class<? extends Annotation> renameAnnotation) {
+		final Class<?> key = renameAnnotation == null ? Annotation.class : renameAnnotation;
+		return CACHE.computeIfAbsent(classType, key,
+			(type, annotation) -> new JsonWritePlan(type, annotation == Annotation.class ? null : annotation.asSubclass(Annotation.class)));
+	}
+
+	int size() {
+		return accessors.length;
+	}
+
+	FieldAccessor getAccessor(final int index) {
+		return accessors[index];
+	}
+
+	/**
+	 * {@code "name":}, preceded by a comma unless {@code index} is the first member.
+	 */
+	byte[] getName(final int index) {
+		return names[index];
+	}
+
+}
@@ -0,0 +1,287 @@
+package br.com.uniquedata.sdk.helper.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.uniquedata.sdk.helper.convert.Converter;
+import br.com.uniquedata.sdk.helper.convert.ConverterRegistry;
+import br.com.uniquedata.sdk.helper.field.FieldAccessor;
+
+/**
+ * Writes objects as UTF-8 JSON straight into an {@link OutputStream}, a
+ * {@link Writer} or a {@link ByteBuffer}.
+ *
+ * <p>
+ * Objects are walked through a per-class {@link JsonWritePlan}: the fields, and
+ * with a rename annotation the names, of
+ * {@code FieldReflectionHelper.getFieldNameAndValue(object, annotation)} except
+ * {@code transient} ones, but no map is built. Member names are written from bytes encoded when the plan was
+ * built, and primitive fields are read without boxing.
+ * </p>
+ *
+ * <ul>
+ *   <li>Strings, characters, enums (by name) and booleans are written as such; numbers as
+ *       numbers, {@code NaN} and infinities as {@code null}.</li>
+ *   <li>Dates, {@code java.time} types, {@code UUID} and other JDK value types are written as
+ *       the strings {@link ConverterRegistry} formats them to.</li>
+ *   <li>Arrays and collections are JSON arrays, maps are JSON objects keyed by {@code String.valueOf(key)}.</li>
+ *   <li>The rename annotation applies to nested objects as well; {@code transient} fields are not written.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * JsonWriter.write(order, response.getOutputStream(), JsonProperty.class);
+ * }</pre>
+ */
+public final class JsonWriter {
+
+	private static final int MAX_DEPTH = 512;
+
+	private final JsonOutput output;
+
+	private final Class<? extends Annotation> renameAnnotation;
+
+	private int depth;
+
+	private JsonWriter(final JsonOutput output, final Class<? extends Annotation> renameAnnotation) {
+		this.output = output;
+		this.renameAnnotation = renameAnnotation;
+	}
+
+	public static void write(final Object object, final OutputStream outputStream) {
+		write(object, outputStream, null);
+	}
+
+	/**
+	 * Writes {@code object} into {@code outputStream}, naming the fields carrying
+	 * {@code renameAnnotation} after its value. The stream is neither flushed nor closed.
+	 */
+	public static void write(final Object object, final OutputStream outputStream, final Class<? extends Annotation> renameAnnotation) {
+		write(object, JsonOutput.of(outputStream), renameAnnotation);
+	}
+
+	public static void write(final Object object, final Writer writer) {
+		write(object, writer, null);
+	}
+
+	public static void write(final Object object, final Writer writer, final Class<? extends Annotation> renameAnnotation) {
+		write(object, JsonOutput.of(writer), renameAnnotation);
+	}
+
+	public static void write(final Object object, final ByteBuffer byteBuffer) {
+		write(object, byteBuffer, null);
+	}
+
+	/**
+	 * Writes {@code object} into {@code byteBuffer} from its position.
+	 *
+	 * @throws java.nio.BufferOverflowException when the document does not fit in the remaining space
+	 */
+	public static void write(final Object object, final ByteBuffer byteBuffer, final Class<? extends Annotation> renameAnnotation) {
+		write(object, JsonOutput.of(byteBuffer), renameAnnotation);
+	}
+
+	public static byte[] toBytes(final Object object) {
+		return toBytes(object, null);
+	}
+
+	public static byte[] toBytes(final Object object, final Class<? extends Annotation> renameAnnotation) {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		write(object, outputStream, renameAnnotation);
+		return outputStream.toByteArray();
+	}
+
+	private static void write(final Object object, final JsonOutput output, final Class<? extends Annotation> renameAnnotation) {
+		new JsonWriter(output, renameAnnotation).writeValue(object);
+		output.flush();
+	}
+
+	private void writeValue(final Object value) {
+		if(value == null) {
+			output.writeAscii("null");
+			return;
+		}
+
+		switch (JsonType.of(value.getClass())) {
+			case STRING:
+				output.writeString((String) value);
+				break;
+			case NUMBER:
+				writeNumber((Number) value);
+				break;
+			case BOOLEAN:
+				output.writeAscii(((Boolean) value) ? "true" : "false");
+				break;
+			case CHARACTER:
+				writeCharacter((Character) value);
+				break;
+			case ENUM:
+				output.writeString(((Enum<?>) value).name());
+				break;
+			case TEXT:
+				writeText(value);
+				break;
+			case ARRAY:
+				enter(value);
+				writeArray(value);
+				depth--;
+				break;
+			case COLLECTION:
+				enter(value);
+				writeCollection((Collection<?>) value);
+				depth--;
+				break;
+			case MAP:
+				enter(value);
+				writeMap((Map<?, ?>) value);
+				depth--;
+				break;
+			default:
+				enter(value);
+				writeObject(value, JsonWritePlan.of(value.getClass(), renameAnnotation));
+				depth--;
+		}
+	}
+
+	private void writeObject(final Object object, final JsonWritePlan writePlan) {
+		output.writeByte((byte) '{');
+
+		for (int i = 0; i < writePlan.size(); i++) {
+			final FieldAccessor accessor = writePlan.getAccessor(i);
+			output.writeBytes(writePlan.getName(i));
+
+			if(accessor.getType().isPrimitive()) {
+				writePrimitive(accessor.getType(), accessor.getRaw(object));
+			}else {
+				writeValue(accessor.get(object));
+			}
+		}
+
+		output.writeByte((byte) '}');
+	}
+
+	/**
+	 * Writes the bits of {@link FieldAccessor#getRaw(Object)} for a field of {@code type}.
+	 */
+	private void writePrimitive(final Class<?> type, final long bits) {
+		if(type == boolean.class) {
+			output.writeAscii(bits != 0 ? "true" : "false");
+		}else if(type == double.class) {
+			output.writeDouble(Double.longBitsToDouble(bits));
+		}else if(type == float.class) {
+			output.writeFloat(Float.intBitsToFloat((int) bits));
+		}else if(type == char.class) {
+			writeCharacter((char) bits);
+		}else {
+			output.writeLong(bits);
+		}
+	}
+
+	private void writeNumber(final Number number) {
+		if(number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+			output.writeLong(number.longValue());
+		}else if(number instanceof Double) {
+			output.writeDouble(number.doubleValue());
+		}else if(number instanceof Float) {
+			output.writeFloat(number.floatValue());
+		}else if(number instanceof BigDecimal || number instanceof BigInteger) {
+			output.writeAscii(number.toString());
+		}else if(number instanceof AtomicInteger || number instanceof AtomicLong || number instanceof LongAdder || number instanceof LongAccumulator) {
+			output.writeLong(number.longValue());
+		}else {
+			output.writeDouble(number.doubleValue());
+		}
+	}
+
+	private void writeCharacter(final char character) {
+		output.writeByte((byte) '"');
+		output.writeChar(character);
+		output.writeByte((byte) '"');
+	}
+
+	private void writeText(final Object value) {
+		final Converter<Object, Object> converter = ConverterRegistry.find(value.getClass(), String.class);
+		output.writeString(converter == null ? value.toString() : (String) converter.convert(value));
+	}
+
+	private void writeArray(final Object array) {
+		final int length = Array.getLength(array);
+		final Class<?> componentType = array.getClass().getComponentType();
+
+		output.writeByte((byte) '[');
+
+		for (int i = 0; i < length; i++) {
+			if(i > 0) {
+				output.writeByte((byte) ',');
+			}
+
+			if(componentType == int.class) {
+				output.writeLong(((int[]) array)[i]);
+			}else if(componentType == long.class) {
+				output.writeLong(((long[]) array)[i]);
+			}else if(componentType == double.class) {
+				output.writeDouble(((double[]) array)[i]);
+			}else if(componentType.isPrimitive()) {
+				writeValue(Array.get(array, i));
+			}else {
+				writeValue(((Object[]) array)[i]);
+			}
+		}
+
+		output.writeByte((byte) ']');
+	}
+
+	private void writeCollection(final Collection<?> collection) {
+		boolean first = true;
+
+		output.writeByte((byte) '[');
+
+		for (final Object item : collection) {
+			if(!first) {
+				output.writeByte((byte) ',');
+			}
+
+			writeValue(item);
+			first = false;
+		}
+
+		output.writeByte((byte) ']');
+	}
+
+	private void writeMap(final Map<?, ?> map) {
+		boolean first = true;
+
+		output.writeByte((byte) '{');
+
+		for (final Map.Entry<?, ?> entry : map.entrySet()) {
+			if(!first) {
+				output.writeByte((byte) ',');
+			}
+
+			output.writeString(String.valueOf(entry.getKey() instanceof Enum ? ((Enum<?>) entry.getKey()).name() : entry.getKey()));
+			output.writeByte((byte) ':');
+			writeValue(entry.getValue());
+			first = false;
+		}
+
+		output.writeByte((byte) '}');
+	}
+
+	private void enter(final Object value) {
+		if(++depth > MAX_DEPTH) {
+			throw new IllegalStateException("JSON Nesting Too Deep {" + MAX_DEPTH + "} on Class " + value.getClass().getName() + ", is the graph cyclic?");
+		}
+	}
+
+}
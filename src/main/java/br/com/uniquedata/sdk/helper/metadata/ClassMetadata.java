@@ -0,0 +1,353 @@
+package br.com.uniquedata.sdk.helper.metadata;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reflection data of a class, shared by every helper of the SDK.
+ *
+ * <p>
+ * {@code getDeclaredFields()}, {@code getMethods()}, {@code getAnnotations()}
+ * and friends copy the JDK's internal arrays on every call. The registry asks
+ * the JDK once per class ({@link ClassValue}-backed) and per kind of member, on
+ * first use, and hands out the same read-only lists afterwards. The lists must
+ * not be modified; the reflective objects in them are shared as well.
+ * </p>
+ *
+ * <p>
+ * {@link #warmUp(Class...)} loads everything up front (at application start,
+ * for instance) and {@link #getCreatedCount()} / {@link #getReflectionCallCount()}
+ * tell how much reflection the registry has performed so far.
+ * </p>
+ */
+public final class ClassMetadata {
+
+	public enum TypeKind { PRIMITIVE, ARRAY, ANNOTATION, INTERFACE, ENUM, RECORD, ABSTRACT_CLASS, CLASS }
+
+	private static final LongAdder CREATED = new LongAdder();
+
+	private static final LongAdder REFLECTION_CALLS = new LongAdder();
+
+	private static final ClassValue<ClassMetadata> CACHE = new ClassValue<ClassMetadata>() {
+		@Override
+		protected ClassMetadata computeValue(final Class<?> type) {
+			CREATED.increment();
+			return new ClassMetadata(type);
+		}
+	};
+
+	private final Class<?> classType;
+
+	private final TypeKind typeKind;
+
+	private volatile List<Field> declaredFields;
+
+	private volatile List<Field> fields;
+
+	private volatile List<Field> instanceFields;
+
+	private volatile List<Method> methods;
+
+	private volatile List<Method> declaredMethods;
+
+	private volatile List<Constructor<?>> declaredConstructors;
+
+	private volatile List<RecordComponent> recordComponents;
+
+	private volatile List<Annotation> annotations;
+
+	private volatile GenericSignature genericSignature;
+
+	private ClassMetadata(final Class<?> classType) {
+		this.classType = classType;
+		this.typeKind = toTypeKind(classType);
+	}
+
+	public static ClassMetadata of(final Class<?> classType) {
+		return CACHE.get(classType);
+	}
+
+	/**
+	 * Loads every member list of the given classes. Field layouts are built on top of
+	 * this registry; {@code FieldLayout.warmUp} loads both.
+	 */
+	public static void warmUp(final Class<?>... classTypes) {
+		for (final Class<?> classType : classTypes) {
+			of(classType).warmUp();
+		}
+	}
+
+	/**
+	 * Number of classes described so far.
+	 */
+	public static long getCreatedCount() {
+		return CREATED.sum();
+	}
+
+	/**
+	 * Number of calls made to the JDK reflection API by the registry so far.
+	 */
+	public static long getReflectionCallCount() {
+		return REFLECTION_CALLS.sum();
+	}
+
+	public ClassMetadata warmUp() {
+		getInstanceFields();
+		getMethods();
+		getDeclaredMethods();
+		getDeclaredConstructors();
+		getAnnotations();
+		getGenericSignature();
+
+		return this;
+	}
+
+	public Class<?> getClassType() {
+		return classType;
+	}
+
+	public TypeKind getTypeKind() {
+		return typeKind;
+	}
+
+	/**
+	 * Fields declared by the class itself, in declaration order.
+	 */
+	public List<Field> getDeclaredFields() {
+		List<Field> declaredFields = this.declaredFields;
+
+		if(declaredFields == null) {
+			REFLECTION_CALLS.increment();
+
+			declaredFields = readOnly(classType.getDeclaredFields());
+			this.declaredFields = declaredFields;
+		}
+
+		return declaredFields;
+	}
+
+	/**
+	 * Declared fields of the class and of all its superclasses, from {@link Object}
+	 * downwards, so fields of a superclass come before the fields of its subclasses.
+	 */
+	public List<Field> getFields() {
+		List<Field> fields = this.fields;
+
+		if(fields == null) {
+			final Deque<Class<?>> hierarchy = new ArrayDeque<>();
+
+			for (Class<?> type = classType; type != null && type != Object.class; type = type.getSuperclass()) {
+				hierarchy.push(type);
+			}
+
+			final List<Field> collected = new ArrayList<>();
+
+			for (final Class<?> type : hierarchy) {
+				collected.addAll(type == classType ? getDeclaredFields() : of(type).getDeclaredFields());
+			}
+
+			fields = Collections.unmodifiableList(collected);
+			this.fields = fields;
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Instance fields of the whole hierarchy, in the order of {@link #getFields()}, without
+	 * static and synthetic fields. A field shadowed by a subclass field of the same name is
+	 * left out, so every name appears once and refers to the most specific declaration.
+	 */
+	public List<Field> getInstanceFields() {
+		List<Field> instanceFields = this.instanceFields;
+
+		if(instanceFields == null) {
+			final List<Field> fields = getFields();
+			final Set<String> names = new HashSet<>();
+			final Deque<Field> collected = new ArrayDeque<>();
+
+			for (int i = fields.size() - 1; i >= 0; i--) {
+				final Field field = fields.get(i);
+
+				if(!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic() && names.add(field.getName())) {
+					collected.push(field);
+				}
+			}
+
+			instanceFields = Collections.unmodifiableList(new ArrayList<>(collected));
+			this.instanceFields = instanceFields;
+		}
+
+		return instanceFields;
+	}
+
+	/**
+	 * Public methods of the class, inherited ones included, as {@link Class#getMethods()}.
+	 */
+	public List<Method> getMethods() {
+		List<Method> methods = this.methods;
+
+		if(methods == null) {
+			REFLECTION_CALLS.increment();
+
+			methods = readOnly(classType.getMethods());
+			this.methods = methods;
+		}
+
+		return methods;
+	}
+
+	public List<Method> getDeclaredMethods() {
+		List<Method> declaredMethods = this.declaredMethods;
+
+		if(declaredMethods == null) {
+			REFLECTION_CALLS.increment();
+
+			declaredMethods = readOnly(classType.getDeclaredMethods());
+			this.declaredMethods = declaredMethods;
+		}
+
+		return declaredMethods;
+	}
+
+	public List<Constructor<?>> getDeclaredConstructors() {
+		List<Constructor<?>> declaredConstructors = this.declaredConstructors;
+
+		if(declaredConstructors == null) {
+			REFLECTION_CALLS.increment();
+
+			declaredConstructors = readOnly(classType.getDeclaredConstructors());
+			this.declaredConstructors = declaredConstructors;
+		}
+
+		return declaredConstructors;
+	}
+
+	/**
+	 * Components of a record, in canonical constructor order; empty for other classes.
+	 */
+	public List<RecordComponent> getRecordComponents() {
+		List<RecordComponent> recordComponents = this.recordComponents;
+
+		if(recordComponents == null) {
+			REFLECTION_CALLS.increment();
+
+			recordComponents = classType.isRecord() ? readOnly(classType.getRecordComponents()) : Collections.emptyList();
+			this.recordComponents = recordComponents;
+		}
+
+		return recordComponents;
+	}
+
+	/**
+	 * Annotations present on the class, inherited ones included, as {@link Class#getAnnotations()}.
+	 */
+	public List<Annotation> getAnnotations() {
+		List<Annotation> annotations = this.annotations;
+
+		if(annotations == null) {
+			REFLECTION_CALLS.increment();
+
+			annotations = readOnly(classType.getAnnotations());
+			this.annotations = annotations;
+		}
+
+		return annotations;
+	}
+
+	public GenericSignature getGenericSignature() {
+		GenericSignature genericSignature = this.genericSignature;
+
+		if(genericSignature == null) {
+			REFLECTION_CALLS.increment();
+
+			genericSignature = new GenericSignature(classType);
+			this.genericSignature = genericSignature;
+		}
+
+		return genericSignature;
+	}
+
+	@Override
+	public String toString() {
+		return "ClassMetadata[" + classType.getName() + ":" + typeKind + "]";
+	}
+
+	private static <T> List<T> readOnly(final T[] members) {
+		return members.length == 0 ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(members));
+	}
+
+	private static TypeKind toTypeKind(final Class<?> classType) {
+		if(classType.isPrimitive()) {
+			return TypeKind.PRIMITIVE;
+		}else if(classType.isArray()) {
+			return TypeKind.ARRAY;
+		}else if(classType.isAnnotation()) {
+			return TypeKind.ANNOTATION;
+		}else if(classType.isInterface()) {
+			return TypeKind.INTERFACE;
+		}else if(classType.isEnum()) {
+			return TypeKind.ENUM;
+		}else if(classType.isRecord()) {
+			return TypeKind.RECORD;
+		}else if(Modifier.isAbstract(classType.getModifiers())) {
+			return TypeKind.ABSTRACT_CLASS;
+		}
+
+		return TypeKind.CLASS;
+	}
+
+	/**
+	 * Type parameters and generic supertypes of a class.
+	 */
+	public static final class GenericSignature {
+
+		private final List<TypeVariable<?>> typeParameters;
+
+		private final Type genericSuperclass;
+
+		private final List<Type> genericInterfaces;
+
+		private GenericSignature(final Class<?> classType) {
+			this.typeParameters = readOnly(classType.getTypeParameters());
+			this.genericSuperclass = classType.getGenericSuperclass();
+			this.genericInterfaces = readOnly(classType.getGenericInterfaces());
+		}
+
+		public List<TypeVariable<?>> getTypeParameters() {
+			return typeParameters;
+		}
+
+		public boolean isGeneric() {
+			return !typeParameters.isEmpty();
+		}
+
+		/**
+		 * Generic superclass, {@code null} for interfaces, primitives and {@link Object}.
+		 */
+		public Type getGenericSuperclass() {
+			return genericSuperclass;
+		}
+
+		public List<Type> getGenericInterfaces() {
+			return genericInterfaces;
+		}
+
+	}
+
+}
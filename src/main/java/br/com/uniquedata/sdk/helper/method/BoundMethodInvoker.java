@@ -0,0 +1,29 @@
+package br.com.uniquedata.sdk.helper.method;
+
+/**
+ * A {@link MethodInvoker} bound to one target object.
+ */
+public final class BoundMethodInvoker {
+
+	private final MethodInvoker methodInvoker;
+
+	private final Object target;
+
+	BoundMethodInvoker(final MethodInvoker methodInvoker, final Object target) {
+		this.methodInvoker = methodInvoker;
+		this.target = target;
+	}
+
+	public Object invoke(final Object... args) {
+		return methodInvoker.invoke(target, args);
+	}
+
+	public MethodInvoker getMethodInvoker() {
+		return methodInvoker;
+	}
+
+	public Object getTarget() {
+		return target;
+	}
+
+}
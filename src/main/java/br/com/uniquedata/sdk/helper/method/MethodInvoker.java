@@ -0,0 +1,129 @@
+package br.com.uniquedata.sdk.helper.method;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A resolved method together with a pre-adapted {@link MethodHandle} that takes
+ * the target and an argument array, so repeated calls skip both the method
+ * search and the access checks of {@code Method.invoke}.
+ *
+ * <p>
+ * Instances are immutable and shared through the {@link MethodResolver} cache.
+ * Exceptions thrown by the invoked method propagate unchanged when unchecked and
+ * are wrapped in a {@link RuntimeException} when checked, unless called through
+ * {@link #invokeThrowing(Object, Object...)}.
+ * </p>
+ */
+public final class MethodInvoker {
+
+	private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private final Method method;
+
+	private final MethodHandle handle;
+
+	private final boolean staticMethod;
+
+	MethodInvoker(final Method method) {
+		this.method = method;
+		this.staticMethod = Modifier.isStatic(method.getModifiers());
+		this.handle = toSpreadHandle(method, staticMethod);
+	}
+
+	public Method getMethod() {
+		return method;
+	}
+
+	public String getName() {
+		return method.getName();
+	}
+
+	public int getParameterCount() {
+		return method.getParameterCount();
+	}
+
+	public Class<?>[] getParameterTypes() {
+		return method.getParameterTypes();
+	}
+
+	public Class<?> getReturnType() {
+		return method.getReturnType();
+	}
+
+	public boolean isStatic() {
+		return staticMethod;
+	}
+
+	public Object invoke(final Object target, final Object... args) {
+		try {
+			return invokeThrowing(target, args);
+		}catch (RuntimeException | Error e) {
+			throw e;
+		}catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Same as {@link #invoke(Object, Object...)}, but checked exceptions thrown by the
+	 * invoked method propagate unchanged too; meant for proxy handlers, which may rethrow them.
+	 */
+	public Object invokeThrowing(final Object target, final Object... args) throws Throwable {
+		final Object[] arguments = args == null ? MethodResolver.NO_ARGUMENTS : args;
+
+		if(arguments.length != method.getParameterCount()) {
+			throw new IllegalArgumentException("Method {" + method.getName() + "} expects "
+				+ method.getParameterCount() + " arguments, but got " + arguments.length);
+		}
+
+		return handle.invokeExact(target, arguments);
+	}
+
+	/**
+	 * Returns a reusable invoker bound to {@code target}, for call sites that invoke the
+	 * same method on the same object many times.
+	 */
+	public BoundMethodInvoker bindTo(final Object target) {
+		if(!staticMethod && !method.getDeclaringClass().isInstance(target)) {
+			throw new IllegalArgumentException("Target " + (target == null ? null : target.getClass().getName())
+				+ " is not an instance of " + method.getDeclaringClass().getName());
+		}
+
+		return new BoundMethodInvoker(this, target);
+	}
+
+	@Override
+	public String toString() {
+		return "MethodInvoker[" + method + "]";
+	}
+
+	private static MethodHandle toSpreadHandle(final Method method, final boolean staticMethod) {
+		MethodHandle handle = unreflect(method);
+
+		if(staticMethod) {
+			handle = MethodHandles.dropArguments(handle, 0, Object.class);
+		}
+
+		return handle.asSpreader(Object[].class, method.getParameterCount()).asType(SPREAD_TYPE);
+	}
+
+	private static MethodHandle unreflect(final Method method) {
+		final Method accessibleMethod = MethodResolver.findAccessibleDeclaration(method);
+
+		try {
+			if(accessibleMethod != null) {
+				return MethodHandles.publicLookup().unreflect(accessibleMethod);
+			}
+
+			method.setAccessible(true);
+			return MethodHandles.lookup().unreflect(method);
+		}catch (Exception e) {
+			throw new IllegalStateException("Cannot access method " + method, e);
+		}
+	}
+
+}
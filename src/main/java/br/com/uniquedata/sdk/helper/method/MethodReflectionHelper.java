@@ -1,33 +1,61 @@
 package br.com.uniquedata.sdk.helper.method;
 
-import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.Optional;
-import java.util.stream.Stream;
-
 import br.com.uniquedata.sdk.helper.pojo.extract.ExtractMethod;
+import br.com.uniquedata.sdk.helper.property.PropertyAccessor;
+import br.com.uniquedata.sdk.helper.property.PropertyAccessors;
 
 public class MethodReflectionHelper {
 
 	public static ExtractMethod extract(final Object object, final String methodName, final Object... paramters){
 		try {
-			final Stream<Method> stream = Arrays.asList(object.getClass().getMethods()).stream();
-			final Optional<Method> optionalMethod = stream.filter(filter -> filter.getName().equals(methodName)).findAny();
-			
-			if(optionalMethod.isPresent()) {
-				final Method method = optionalMethod.get();
-				
-				if(paramters == null || paramters.length == 0) {
-					return new ExtractMethod(methodName, method.invoke(object));
-				}else {
-					return new ExtractMethod(methodName, method.invoke(object, paramters));
-				}
-			}
-			
-			throw new RuntimeException("Method Not Found {"+methodName+"}");
+			return new ExtractMethod(methodName, invoke(object, methodName, paramters));
 		}catch (Exception e) {
 			throw new RuntimeException(e);
 		}
-	}	
+	}
+
+	/**
+	 * Invokes the public overload of {@code methodName} applicable to the runtime types of
+	 * {@code paramters}. Resolution is cached per class and argument types, and the call goes
+	 * through a pre-adapted {@code MethodHandle}.
+	 */
+	public static Object invoke(final Object object, final String methodName, final Object... paramters){
+		return MethodResolver.of(object.getClass()).resolveForArguments(methodName, paramters)
+			.invoke(object, paramters);
+	}
+
+	public static MethodInvoker findInvoker(final Class<?> classType, final String methodName, final Class<?>... parameterTypes){
+		return MethodResolver.of(classType).resolve(methodName, parameterTypes);
+	}
+
+	/**
+	 * Resolves the overload once and returns an invoker bound to {@code object}, meant to be kept
+	 * by call sites that dispatch to the same method repeatedly.
+	 */
+	public static BoundMethodInvoker bind(final Object object, final String methodName, final Class<?>... parameterTypes){
+		return findInvoker(object.getClass(), methodName, parameterTypes).bindTo(object);
+	}
 	
+	/**
+	 * Reads a bean property through its getter, using the lambda-generated accessor
+	 * cached in {@link PropertyAccessors}.
+	 */
+	public static Object getProperty(final Object object, final String propertyName){
+		return requireProperty(object.getClass(), propertyName).get(object);
+	}
+	
+	public static void setProperty(final Object object, final String propertyName, final Object value){
+		requireProperty(object.getClass(), propertyName).set(object, value);
+	}
+	
+	private static PropertyAccessor requireProperty(final Class<?> classType, final String propertyName){
+		final PropertyAccessor propertyAccessor = PropertyAccessors.of(classType).get(propertyName);
+		
+		if(propertyAccessor == null) {
+			throw new IllegalArgumentException("Property Not Found {" + propertyName + "} on " + classType.getName());
+		}
+		
+		return propertyAccessor;
+	}
+
 }
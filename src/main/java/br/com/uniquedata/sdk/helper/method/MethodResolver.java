@@ -0,0 +1,344 @@
+package br.com.uniquedata.sdk.helper.method;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
+import br.com.uniquedata.sdk.helper.object.PrimitiveTypeHelper;
+
+/**
+ * Overload-aware method resolution with a per-class cache of {@link MethodInvoker}s.
+ *
+ * <p>
+ * Methods are looked up among the public methods of a class (as {@code getMethods()}
+ * does) and selected the way the compiler would: by name, arity and argument
+ * types, accepting boxing and primitive widening, and picking the most specific
+ * candidate. Resolutions are cached per class ({@link ClassValue}-backed) under
+ * (name, argument types), so a call site that keeps invoking the same overload
+ * pays one map lookup after the first call. Ambiguous calls fail instead of
+ * choosing an arbitrary overload.
+ * </p>
+ */
+public final class MethodResolver {
+
+	static final Object[] NO_ARGUMENTS = new Object[0];
+
+	private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+	private static final ClassValue<MethodResolver> CACHE = new ClassValue<MethodResolver>() {
+		@Override
+		protected MethodResolver computeValue(final Class<?> type) {
+			return new MethodResolver(type);
+		}
+	};
+
+	private final Class<?> classType;
+
+	private final ConcurrentHashMap<MethodKey, MethodInvoker> invokers;
+
+	private volatile Method[] methods;
+
+	private MethodResolver(final Class<?> classType) {
+		this.classType = classType;
+		this.invokers = new ConcurrentHashMap<>();
+	}
+
+	public static MethodResolver of(final Class<?> classType) {
+		return CACHE.get(classType);
+	}
+
+	/**
+	 * Resolves the overload applicable to the runtime classes of {@code args}; a
+	 * {@code null} argument matches any non-primitive parameter.
+	 */
+	public MethodInvoker resolveForArguments(final String methodName, final Object... args) {
+		return resolve(methodName, toArgumentTypes(args));
+	}
+
+	/**
+	 * Resolves the overload applicable to the given argument types; a {@code null}
+	 * entry stands for a {@code null} argument.
+	 */
+	public MethodInvoker resolve(final String methodName, final Class<?>... argumentTypes) {
+		final Class<?>[] types = argumentTypes == null ? NO_TYPES : argumentTypes;
+		final MethodKey methodKey = new MethodKey(methodName, types, -1);
+
+		final MethodInvoker methodInvoker = invokers.get(methodKey);
+
+		if(methodInvoker != null) {
+			return methodInvoker;
+		}
+
+		return invokers.computeIfAbsent(new MethodKey(methodName, types.clone(), -1),
+			key -> new MethodInvoker(select(methodName, types)));
+	}
+
+	/**
+	 * Resolves the only public method with the given name and arity.
+	 */
+	public MethodInvoker resolveByArity(final String methodName, final int parameterCount) {
+		final MethodKey methodKey = new MethodKey(methodName, null, parameterCount);
+		final MethodInvoker methodInvoker = invokers.get(methodKey);
+
+		if(methodInvoker != null) {
+			return methodInvoker;
+		}
+
+		return invokers.computeIfAbsent(methodKey, key -> new MethodInvoker(selectByArity(methodName, parameterCount)));
+	}
+
+	public Class<?> getClassType() {
+		return classType;
+	}
+
+	private Method select(final String methodName, final Class<?>[] argumentTypes) {
+		final List<Method> applicable = new ArrayList<>();
+
+		for (final Method method : methods()) {
+			if(method.getName().equals(methodName) && isApplicable(method.getParameterTypes(), argumentTypes)) {
+				applicable.add(method);
+			}
+		}
+
+		if(applicable.isEmpty()) {
+			throw new IllegalArgumentException("Method Not Found {" + methodName + "} with arguments "
+				+ Arrays.toString(argumentTypes) + " on " + classType.getName());
+		}
+
+		Method mostSpecific = applicable.get(0);
+
+		for (int i = 1; i < applicable.size(); i++) {
+			final Method candidate = applicable.get(i);
+
+			if(isMoreSpecific(candidate, mostSpecific)) {
+				mostSpecific = candidate;
+			}
+		}
+
+		for (final Method candidate : applicable) {
+			if(candidate != mostSpecific && !isMoreSpecific(mostSpecific, candidate)) {
+				throw new IllegalArgumentException("Ambiguous method {" + methodName + "} for arguments "
+					+ Arrays.toString(argumentTypes) + ": " + mostSpecific + " and " + candidate);
+			}
+		}
+
+		return mostSpecific;
+	}
+
+	private Method selectByArity(final String methodName, final int parameterCount) {
+		Method selected = null;
+
+		for (final Method method : methods()) {
+			if(method.getName().equals(methodName) && method.getParameterCount() == parameterCount) {
+				if(selected != null) {
+					throw new IllegalArgumentException("Ambiguous method {" + methodName + "} with "
+						+ parameterCount + " parameters on " + classType.getName());
+				}
+
+				selected = method;
+			}
+		}
+
+		if(selected == null) {
+			throw new IllegalArgumentException("Method Not Found {" + methodName + "} with "
+				+ parameterCount + " parameters on " + classType.getName());
+		}
+
+		return selected;
+	}
+
+	private Method[] methods() {
+		Method[] methods = this.methods;
+
+		if(methods == null) {
+			final List<Method> publicMethods = new ArrayList<>();
+
+			for (final Method method : ClassMetadata.of(classType).getMethods()) {
+				if(!method.isBridge()) {
+					publicMethods.add(method);
+				}
+			}
+
+			methods = publicMethods.toArray(new Method[0]);
+			this.methods = methods;
+		}
+
+		return methods;
+	}
+
+	private static boolean isApplicable(final Class<?>[] parameterTypes, final Class<?>[] argumentTypes) {
+		if(parameterTypes.length != argumentTypes.length) {
+			return false;
+		}
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if(argumentTypes[i] == null) {
+				if(parameterTypes[i].isPrimitive()) {
+					return false;
+				}
+			}else if(!isAssignable(parameterTypes[i], argumentTypes[i])) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isMoreSpecific(final Method method, final Method other) {
+		final Class<?>[] parameterTypes = method.getParameterTypes();
+		final Class<?>[] otherParameterTypes = other.getParameterTypes();
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if(!isAssignable(otherParameterTypes[i], parameterTypes[i])) {
+				return false;
+			}
+		}
+
+		if(Arrays.equals(parameterTypes, otherParameterTypes)) {
+			return other.getDeclaringClass().isAssignableFrom(method.getDeclaringClass())
+				&& !method.getDeclaringClass().equals(other.getDeclaringClass());
+		}
+
+		return true;
+	}
+
+	static boolean isAssignable(final Class<?> parameterType, final Class<?> argumentType) {
+		if(parameterType.isAssignableFrom(argumentType)) {
+			return true;
+		}
+
+		final Class<?> primitiveParameter = PrimitiveTypeHelper.unwrap(parameterType);
+		final Class<?> primitiveArgument = PrimitiveTypeHelper.unwrap(argumentType);
+
+		if(primitiveArgument == null) {
+			return false;
+		}
+
+		if(!parameterType.isPrimitive()) {
+			return parameterType.isAssignableFrom(PrimitiveTypeHelper.wrap(primitiveArgument))
+				|| (primitiveParameter != null && primitiveParameter == primitiveArgument);
+		}
+
+		return primitiveParameter == primitiveArgument || isWidening(primitiveArgument, primitiveParameter);
+	}
+
+	private static boolean isWidening(final Class<?> from, final Class<?> to) {
+		if(from == byte.class) {
+			return to == short.class || to == int.class || to == long.class || to == float.class || to == double.class;
+		}else if(from == short.class || from == char.class) {
+			return to == int.class || to == long.class || to == float.class || to == double.class;
+		}else if(from == int.class) {
+			return to == long.class || to == float.class || to == double.class;
+		}else if(from == long.class) {
+			return to == float.class || to == double.class;
+		}else if(from == float.class) {
+			return to == double.class;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Finds a declaration of {@code method} that can be called through a public lookup:
+	 * the method itself when its class is public, otherwise the same signature declared
+	 * on a public superclass or interface. JDK proxies and private nested classes only
+	 * expose their public methods through such declarations.
+	 */
+	static Method findAccessibleDeclaration(final Method method) {
+		if(!Modifier.isPublic(method.getModifiers())) {
+			return null;
+		}
+
+		if(Modifier.isPublic(method.getDeclaringClass().getModifiers()) && isExported(method.getDeclaringClass())) {
+			return method;
+		}
+
+		return findAccessibleDeclaration(method.getDeclaringClass(), method.getName(), method.getParameterTypes());
+	}
+
+	private static Method findAccessibleDeclaration(final Class<?> type, final String name, final Class<?>[] parameterTypes) {
+		for (final Class<?> interfaceType : type.getInterfaces()) {
+			final Method declaration = findDeclaredIn(interfaceType, name, parameterTypes);
+
+			if(declaration != null) {
+				return declaration;
+			}
+		}
+
+		final Class<?> superclass = type.getSuperclass();
+		return superclass == null ? null : findDeclaredIn(superclass, name, parameterTypes);
+	}
+
+	private static Method findDeclaredIn(final Class<?> type, final String name, final Class<?>[] parameterTypes) {
+		if(Modifier.isPublic(type.getModifiers()) && isExported(type)) {
+			try {
+				return type.getMethod(name, parameterTypes);
+			}catch (NoSuchMethodException e) {
+				return null;
+			}
+		}
+
+		return findAccessibleDeclaration(type, name, parameterTypes);
+	}
+
+	private static boolean isExported(final Class<?> type) {
+		return type.getModule().isExported(type.getPackageName());
+	}
+
+	private static Class<?>[] toArgumentTypes(final Object[] args) {
+		if(args == null || args.length == 0) {
+			return NO_TYPES;
+		}
+
+		final Class<?>[] types = new Class<?>[args.length];
+
+		for (int i = 0; i < args.length; i++) {
+			types[i] = args[i] == null ? null : args[i].getClass();
+		}
+
+		return types;
+	}
+
+	private static final class MethodKey {
+
+		private final String name;
+
+		private final Class<?>[] types;
+
+		private final int arity;
+
+		private final int hash;
+
+		private MethodKey(final String name, final Class<?>[] types, final int arity) {
+			this.name = name;
+			this.types = types;
+			this.arity = arity;
+			this.hash = 31 * (31 * name.hashCode() + Arrays.hashCode(types)) + arity;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object object) {
+			if(this == object) {
+				return true;
+			}
+
+			if(!(object instanceof MethodKey)) {
+				return false;
+			}
+
+			final MethodKey other = (MethodKey) object;
+			return arity == other.arity && name.equals(other.name) && Arrays.equals(types, other.types);
+		}
+
+	}
+
+}
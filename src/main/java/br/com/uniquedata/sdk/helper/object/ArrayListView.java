@@ -0,0 +1,239 @@
+package br.com.uniquedata.sdk.helper.object;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Read-only {@link java.util.List} view over an array of any component type,
+ * primitive arrays included. Nothing is copied: reference arrays are read in
+ * place and primitive elements are boxed only when read through {@link #get(int)};
+ * the specialized subclasses also expose unboxed getters ({@link IntView#getInt(int)},
+ * {@link LongView#getLong(int)}, {@link DoubleView#getDouble(int)}).
+ *
+ * <p>
+ * Changes to the backing array are visible through the view.
+ * </p>
+ */
+public abstract class ArrayListView<E> extends AbstractList<E> implements RandomAccess {
+
+	protected final int length;
+
+	private ArrayListView(final int length) {
+		this.length = length;
+	}
+
+	/**
+	 * View over {@code array}, which may be any reference or primitive array.
+	 */
+	public static ArrayListView<?> of(final Object array) {
+		if(array == null) {
+			throw new IllegalArgumentException("The array cannot be null");
+		}
+
+		final Class<?> componentType = array.getClass().getComponentType();
+
+		if(componentType == null) {
+			throw new IllegalArgumentException("The object must be an array, but was: " + array.getClass().getName());
+		}else if(!componentType.isPrimitive()) {
+			return new ObjectView<>((Object[]) array);
+		}else if(componentType == int.class) {
+			return new IntView((int[]) array);
+		}else if(componentType == long.class) {
+			return new LongView((long[]) array);
+		}else if(componentType == double.class) {
+			return new DoubleView((double[]) array);
+		}else if(componentType == float.class) {
+			return new FloatView((float[]) array);
+		}else if(componentType == short.class) {
+			return new ShortView((short[]) array);
+		}else if(componentType == byte.class) {
+			return new ByteView((byte[]) array);
+		}else if(componentType == char.class) {
+			return new CharView((char[]) array);
+		}
+
+		return new BooleanView((boolean[]) array);
+	}
+
+	public static <T> ArrayListView<T> of(final T[] array) {
+		return new ObjectView<>(array);
+	}
+
+	@Override
+	public int size() {
+		return length;
+	}
+
+	/**
+	 * Adds every element to {@code collection} in one pass, without an intermediate array.
+	 */
+	public void copyInto(final Collection<? super E> collection) {
+		for (int i = 0; i < length; i++) {
+			collection.add(get(i));
+		}
+	}
+
+	public static final class ObjectView<E> extends ArrayListView<E> {
+
+		private final E[] array;
+
+		private ObjectView(final E[] array) {
+			super(array.length);
+			this.array = array;
+		}
+
+		@Override
+		public E get(final int index) {
+			return array[index];
+		}
+
+		@Override
+		public Object[] toArray() {
+			return Arrays.copyOf(array, length, Object[].class);
+		}
+
+	}
+
+	public static final class IntView extends ArrayListView<Integer> {
+
+		private final int[] array;
+
+		private IntView(final int[] array) {
+			super(array.length);
+			this.array = array;
+		}
+
+		public int getInt(final int index) {
+			return array[index];
+		}
+
+		@Override
+		public Integer get(final int index) {
+			return array[index];
+		}
+
+	}
+
+	public static final class LongView extends ArrayListView<Long> {
+
+		private final long[] array;
+
+		private LongView(final long[] array) {
+			super(array.length);
+			this.array = array;
+		}
+
+		public long getLong(final int index) {
+			return array[index];
+		}
+
+		@Override
+		public Long get(final int index) {
+			return array[index];
+		}
+
+	}
+
+	public static final class DoubleView extends ArrayListView<Double> {
+
+		private final double[] array;
+
+		private DoubleView(final double[] array) {
+			super(array.length);
+			this.array = array;
+		}
+
+		public double getDouble(final int index) {
+			return array[index];
+		}
+
+		@Override
+		public Double get(final int index) {
+			return array[index];
+		}
+
+	}
+
+	private static final class FloatView extends ArrayListView<Float> {
+
+		private final float[] array;
+
+		private FloatView(final float[] array) {
+			super(array.length);
+			this.array = array;
+		}
+
+		@Override
+		public Float get(final int index) {
+			return array[index];
+		}
+
+	}
+
+	private static final class ShortView extends ArrayListView<Short> {
+
+		private final short[] array;
+
+		private ShortView(final short[] array) {
+			super(array.length);
+			this.array = array;
+		}
+
+		@Override
+		public Short get(final int index) {
+			return array[index];
+		}
+
+	}
+
+	private static final class ByteView extends ArrayListView<Byte> {
+
+		private final byte[] array;
+
+		private ByteView(final byte[] array) {
+			super(array.length);
+			this.array = array;
+		}
+
+		@Override
+		public Byte get(final int index) {
+			return array[index];
+		}
+
+	}
+
+	private static final class CharView extends ArrayListView<Character> {
+
+		private final char[] array;
+
+		private CharView(final char[] array) {
+			super(array.length);
+			this.array = array;
+		}
+
+		@Override
+		public Character get(final int index) {
+			return array[index];
+		}
+
+	}
+
+	private static final class BooleanView extends ArrayListView<Boolean> {
+
+		private final boolean[] array;
+
+		private BooleanView(final boolean[] array) {
+			super(array.length);
+			this.array = array;
+		}
+
+		@Override
+		public Boolean get(final int index) {
+			return array[index];
+		}
+
+	}
+
+}
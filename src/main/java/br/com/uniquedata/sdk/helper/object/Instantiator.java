@@ -0,0 +1,192 @@
+package br.com.uniquedata.sdk.helper.object;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
+
+/**
+ * Creates instances of one class, resolved once per class ({@link ClassValue}-backed).
+ *
+ * <p>
+ * The constructor is chosen in this order:
+ * </p>
+ * <ol>
+ * <li>the no-argument constructor, whatever its visibility, turned into a
+ * {@link Supplier} by {@link LambdaMetafactory} (or a plain {@link MethodHandle}
+ * when the metafactory cannot reach the class);</li>
+ * <li>otherwise the constructor with the fewest parameters, called with
+ * {@code null} for references and the default value for primitives;</li>
+ * <li>otherwise the type is {@linkplain Strategy#UNSUPPORTED unsupported} and a
+ * cached {@link ObjectInstantiationException} is thrown on every attempt.</li>
+ * </ol>
+ */
+public final class Instantiator {
+
+	public enum Strategy { NO_ARGS_CONSTRUCTOR, DEFAULT_ARGUMENTS_CONSTRUCTOR, UNSUPPORTED }
+
+	private static final MethodType SUPPLIER_FACTORY = MethodType.methodType(Supplier.class);
+
+	private static final MethodType SUPPLIER_SAM = MethodType.methodType(Object.class);
+
+	private static final ClassValue<Instantiator> CACHE = new ClassValue<Instantiator>() {
+		@Override
+		protected Instantiator computeValue(final Class<?> type) {
+			return new Instantiator(type);
+		}
+	};
+
+	private final Class<?> classType;
+
+	private Strategy strategy;
+
+	private Supplier<Object> supplier;
+
+	private ObjectInstantiationException failure;
+
+	private Instantiator(final Class<?> classType) {
+		this.classType = classType;
+
+		if(classType.isInterface() || classType.isArray() || classType.isPrimitive()
+				|| classType.isEnum() || Modifier.isAbstract(classType.getModifiers())) {
+			unsupported("abstract, interface, array, enum or primitive type");
+			return;
+		}
+
+		final Constructor<?> constructor = selectConstructor(classType);
+
+		if(constructor == null) {
+			unsupported("no declared constructor");
+			return;
+		}
+
+		try {
+			if(constructor.getParameterCount() == 0) {
+				this.supplier = toSupplier(constructor);
+				this.strategy = Strategy.NO_ARGS_CONSTRUCTOR;
+			}else {
+				this.supplier = toDefaultArgumentsSupplier(constructor);
+				this.strategy = Strategy.DEFAULT_ARGUMENTS_CONSTRUCTOR;
+			}
+		}catch (ObjectInstantiationException e) {
+			this.strategy = Strategy.UNSUPPORTED;
+			this.failure = e;
+		}
+	}
+
+	public static Instantiator of(final Class<?> classType) {
+		return CACHE.get(classType);
+	}
+
+	public Class<?> getClassType() {
+		return classType;
+	}
+
+	public Strategy getStrategy() {
+		return strategy;
+	}
+
+	public boolean isSupported() {
+		return strategy != Strategy.UNSUPPORTED;
+	}
+
+	public Object newInstance() {
+		if(failure != null) {
+			throw failure;
+		}
+
+		try {
+			return supplier.get();
+		}catch (ObjectInstantiationException e) {
+			throw e;
+		}catch (RuntimeException | Error e) {
+			throw new ObjectInstantiationException(classType, "constructor threw " + e, e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Instantiator[" + classType.getName() + ":" + strategy + "]";
+	}
+
+	private void unsupported(final String reason) {
+		this.strategy = Strategy.UNSUPPORTED;
+		this.failure = new ObjectInstantiationException(classType, reason);
+	}
+
+	private static Constructor<?> selectConstructor(final Class<?> classType) {
+		Constructor<?> selected = null;
+
+		for (final Constructor<?> constructor : ClassMetadata.of(classType).getDeclaredConstructors()) {
+			if(selected == null || constructor.getParameterCount() < selected.getParameterCount()) {
+				selected = constructor;
+			}
+		}
+
+		return selected;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Supplier<Object> toSupplier(final Constructor<?> constructor) {
+		final Class<?> declaringClass = constructor.getDeclaringClass();
+
+		try {
+			final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+			final MethodHandle handle = lookup.unreflectConstructor(constructor);
+
+			final CallSite callSite = LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_FACTORY, SUPPLIER_SAM,
+				handle, MethodType.methodType(declaringClass));
+
+			return (Supplier<Object>) callSite.getTarget().invoke();
+		}catch (Throwable e) {
+			final MethodHandle handle = unreflect(constructor).asType(SUPPLIER_SAM);
+
+			return () -> {
+				try {
+					return handle.invokeExact();
+				}catch (RuntimeException | Error ex) {
+					throw ex;
+				}catch (Throwable ex) {
+					throw new ObjectInstantiationException(declaringClass, "constructor threw " + ex, ex);
+				}
+			};
+		}
+	}
+
+	private static Supplier<Object> toDefaultArgumentsSupplier(final Constructor<?> constructor) {
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		final Object[] arguments = new Object[parameterTypes.length];
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			arguments[i] = PrimitiveTypeHelper.defaultValue(parameterTypes[i]);
+		}
+
+		final MethodHandle handle = MethodHandles.insertArguments(unreflect(constructor), 0, arguments).asType(SUPPLIER_SAM);
+
+		return () -> {
+			try {
+				return handle.invokeExact();
+			}catch (RuntimeException | Error ex) {
+				throw ex;
+			}catch (Throwable ex) {
+				throw new ObjectInstantiationException(constructor.getDeclaringClass(), "constructor threw " + ex, ex);
+			}
+		};
+	}
+
+	private static MethodHandle unreflect(final Constructor<?> constructor) {
+		try {
+			constructor.setAccessible(true);
+			return MethodHandles.lookup().unreflectConstructor(constructor);
+		}catch (Exception e) {
+			throw new ObjectInstantiationException(constructor.getDeclaringClass(), "constructor is not accessible", e);
+		}
+	}
+
+}
@@ -0,0 +1,28 @@
+package br.com.uniquedata.sdk.helper.object;
+
+/**
+ * Raised when a type cannot be instantiated. It does not fill in a stack trace:
+ * the instance describing an unsupported type is built once, cached by its
+ * {@link Instantiator} and rethrown on every attempt, so repeated failures cost
+ * neither a stack walk nor any output.
+ */
+public class ObjectInstantiationException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Class<?> classType;
+
+	public ObjectInstantiationException(final Class<?> classType, final String message) {
+		this(classType, message, null);
+	}
+
+	public ObjectInstantiationException(final Class<?> classType, final String message, final Throwable cause) {
+		super("Cannot instantiate {" + classType.getName() + "}: " + message, cause, false, false);
+		this.classType = classType;
+	}
+
+	public Class<?> getClassType() {
+		return classType;
+	}
+
+}
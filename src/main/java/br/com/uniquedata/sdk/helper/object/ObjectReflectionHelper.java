@@ -2,16 +2,23 @@ package br.com.uniquedata.sdk.helper.object;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.stream.Stream;
 
-import javax.management.RuntimeErrorException;
+import br.com.uniquedata.sdk.helper.proxy.IndexedInvocationHandler;
+import br.com.uniquedata.sdk.helper.proxy.ProxyFactory;
 
 /**
  * The ObjectReflectionHelper helps to manipulate and inspect class settings 
@@ -37,50 +44,75 @@ public class ObjectReflectionHelper {
 	}
 	
 	public static ArrayList<?> newInstanceArraList(final Object[] objects) {
-		return new ArrayList<>(Arrays.asList(objects));
+		final ArrayList<Object> arrayList = new ArrayList<>(objects.length);
+		Collections.addAll(arrayList, objects);
+		
+		return arrayList;
 	}
 	
+	/**
+	 * Copies any array, primitive arrays included, into a presized {@link ArrayList}.
+	 */
 	public static ArrayList<?> newInstanceArraList(final Object object) {
-		return newInstanceArraList((Object[]) object);
+		final ArrayListView<?> view = ArrayListView.of(object);
+		final ArrayList<Object> arrayList = new ArrayList<>(view.size());
+		view.copyInto(arrayList);
+		
+		return arrayList;
+	}
+	
+	/**
+	 * Read-only list view over any array, primitive arrays included, without copying it.
+	 */
+	public static List<?> asList(final Object array) {
+		return ArrayListView.of(array);
 	}
 	
 	@SuppressWarnings("unchecked")
 	public static Collection<Object> newCollection(final Class<?> collectionType) {
-	    try {
-	        return (Collection<Object>) collectionType.getDeclaredConstructor().newInstance();
-	    } catch (Exception e) {
-	        return new ArrayList<>();
-	    }
+		final Instantiator instantiator = Instantiator.of(collectionType);
+		return instantiator.getStrategy() == Instantiator.Strategy.NO_ARGS_CONSTRUCTOR 
+			? (Collection<Object>) instantiator.newInstance() : new ArrayList<>();
 	}
 
 	@SuppressWarnings("unchecked")
 	public static Map<Object, Object> newMap(final Class<?> mapType) {
-	    try {
-	        return (Map<Object, Object>) mapType.getDeclaredConstructor().newInstance();
-	    } catch (Exception e) {
-	        return new HashMap<>();
-	    }
+		final Instantiator instantiator = Instantiator.of(mapType);
+		return instantiator.getStrategy() == Instantiator.Strategy.NO_ARGS_CONSTRUCTOR 
+			? (Map<Object, Object>) instantiator.newInstance() : new HashMap<>();
 	}
 	
+	/**
+	 * Creates an instance through the {@link Instantiator} cached for {@code classType}.
+	 * 
+	 * @throws ObjectInstantiationException when the type has no usable constructor or the constructor fails
+	 */
 	public static Object newInstance(final Class<?> classType) {
-		try {
-			return classType.getDeclaredConstructor().newInstance();
-		} catch (Exception e) {
-			e.printStackTrace();
-			throw new RuntimeErrorException(new Error(e), "Erro create new Instance!");
-		}
+		return Instantiator.of(classType).newInstance();
 	}
 	
+	/**
+	 * Creates a proxy of {@code interfaceType} through its cached {@link ProxyFactory}. The handler
+	 * is either an {@link InvocationHandler} or an {@link IndexedInvocationHandler}.
+	 */
 	public static Object newProxyInstance(final Class<?> interfaceType, final Object invocationHandlerImpl) {
-		try {
-			final InvocationHandler invocationHandler =  (InvocationHandler) invocationHandlerImpl;
-			return Proxy.newProxyInstance(interfaceType.getClassLoader(),new Class<?>[]{ interfaceType }, invocationHandler);
-		} catch (Exception e) {
-			e.printStackTrace();
-			throw new RuntimeErrorException(new Error(e), "Erro create new Instance!");
+		if(invocationHandlerImpl instanceof InvocationHandler) {
+			return ProxyFactory.of(interfaceType).newInstance((InvocationHandler) invocationHandlerImpl);
+		}
+		
+		if(invocationHandlerImpl instanceof IndexedInvocationHandler) {
+			return ProxyFactory.of(interfaceType).newInstance((IndexedInvocationHandler) invocationHandlerImpl);
 		}
+		
+		throw new IllegalArgumentException("The handler must be an InvocationHandler, but was: " 
+			+ (invocationHandlerImpl == null ? null : invocationHandlerImpl.getClass().getName()));
 	}
 	
+	/**
+	 * Copies {@code object}, an array of any component type, into a new {@code collectionType}
+	 * in a single pass. {@link ArrayList}, {@link ArrayDeque}, {@link HashSet} and
+	 * {@link LinkedHashSet} are created presized; other types need a no-argument constructor.
+	 */
 	public static Collection<?> newInstanceCollection(final Class<? extends Collection<?>> collectionType, final Object object) {
         if (object == null) {
             throw new IllegalArgumentException("The object to convert cannot be null");
@@ -90,27 +122,49 @@ public class ObjectReflectionHelper {
             throw new IllegalArgumentException("The object must be an array, but was: " + object.getClass().getName());
         }
         
-        try {
-            @SuppressWarnings("unchecked")
-			final Collection<Object> collection = (Collection<Object>) collectionType.getDeclaredConstructor().newInstance();
-            collection.addAll(Arrays.asList((Object[]) object));
-            
-            return collection;
-        } catch (ClassCastException e) {
-            throw new IllegalArgumentException("Failed to cast the provided object to the expected type array", e);
-        } catch (NoSuchMethodException e) {
-            throw new IllegalArgumentException("The collection type " + collectionType.getName() + " must have a no-argument constructor", e);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to instantiate collection type: " + collectionType.getName(), e);
-        }
+        final ArrayListView<?> view = ArrayListView.of(object);
+        final Collection<Object> collection = newPresizedCollection(collectionType, view.size());
+        view.copyInto(collection);
+        
+        return collection;
     }
 	
+	@SuppressWarnings("unchecked")
+	private static Collection<Object> newPresizedCollection(final Class<? extends Collection<?>> collectionType, final int size) {
+		final Class<?> type = collectionType;
+		
+		if(type == ArrayList.class || type == List.class || type == Collection.class) {
+			return new ArrayList<>(size);
+		}else if(type == HashSet.class || type == Set.class) {
+			return new HashSet<>(Math.max((int) (size / .75f) + 1, 16));
+		}else if(type == LinkedHashSet.class) {
+			return new LinkedHashSet<>(Math.max((int) (size / .75f) + 1, 16));
+		}else if(type == ArrayDeque.class || type == Deque.class || type == Queue.class) {
+			return new ArrayDeque<>(size);
+		}
+		
+		final Instantiator instantiator = Instantiator.of(collectionType);
+		
+		if(instantiator.getStrategy() != Instantiator.Strategy.NO_ARGS_CONSTRUCTOR) {
+			throw new IllegalArgumentException("The collection type " + collectionType.getName() + " must have a no-argument constructor");
+		}
+		
+		try {
+			return (Collection<Object>) instantiator.newInstance();
+		}catch (ObjectInstantiationException e) {
+			throw new RuntimeException("Failed to instantiate collection type: " + collectionType.getName(), e);
+		}
+	}
+	
 	public static <T> Stream<T> toStream(final T[] array){
 		return Arrays.asList(array).stream();
 	}
 	
 	public static <T> List<T> toArrayList(final T[] array){
-		return new ArrayList<>(Arrays.asList(array));
+		final ArrayList<T> arrayList = new ArrayList<>(array.length);
+		Collections.addAll(arrayList, array);
+		
+		return arrayList;
 	}
 	
 	@SuppressWarnings("unchecked")
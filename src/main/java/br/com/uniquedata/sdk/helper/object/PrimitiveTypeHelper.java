@@ -0,0 +1,56 @@
+package br.com.uniquedata.sdk.helper.object;
+
+public class PrimitiveTypeHelper {
+
+	public static Class<?> wrap(final Class<?> type) {
+		if(!type.isPrimitive()) return type;
+		if(type == int.class) return Integer.class;
+		if(type == long.class) return Long.class;
+		if(type == double.class) return Double.class;
+		if(type == boolean.class) return Boolean.class;
+		if(type == float.class) return Float.class;
+		if(type == short.class) return Short.class;
+		if(type == byte.class) return Byte.class;
+		if(type == char.class) return Character.class;
+
+		return Void.class;
+	}
+
+	/**
+	 * Returns the primitive type of a wrapper class, the type itself when already
+	 * primitive, or {@code null} for any other type.
+	 */
+	public static Class<?> unwrap(final Class<?> type) {
+		if(type.isPrimitive()) return type;
+		if(type == Integer.class) return int.class;
+		if(type == Long.class) return long.class;
+		if(type == Double.class) return double.class;
+		if(type == Boolean.class) return boolean.class;
+		if(type == Float.class) return float.class;
+		if(type == Short.class) return short.class;
+		if(type == Byte.class) return byte.class;
+		if(type == Character.class) return char.class;
+		if(type == Void.class) return void.class;
+
+		return null;
+	}
+
+	public static boolean isWrapper(final Class<?> type) {
+		return !type.isPrimitive() && unwrap(type) != null;
+	}
+
+	public static Object defaultValue(final Class<?> type) {
+		if(!type.isPrimitive()) return null;
+		if(type == int.class) return 0;
+		if(type == long.class) return 0L;
+		if(type == double.class) return 0D;
+		if(type == boolean.class) return false;
+		if(type == float.class) return 0F;
+		if(type == short.class) return (short) 0;
+		if(type == byte.class) return (byte) 0;
+		if(type == char.class) return '\0';
+
+		return null;
+	}
+
+}
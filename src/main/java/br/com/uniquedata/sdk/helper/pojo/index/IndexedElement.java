@@ -0,0 +1,108 @@
+package br.com.uniquedata.sdk.helper.pojo.index;
+
+import java.util.Objects;
+
+/**
+ * One entry of the build-time annotation index: an annotation type found on a
+ * class, field or method, described only by names so that reading the index
+ * never loads the annotated class.
+ */
+public final class IndexedElement {
+
+	private final String annotationType;
+
+	private final IndexedElementKind kind;
+
+	private final String className;
+
+	private final String memberName;
+
+	public IndexedElement(final String annotationType, final IndexedElementKind kind,
+			final String className, final String memberName) {
+
+		this.annotationType = annotationType;
+		this.kind = kind;
+		this.className = className;
+		this.memberName = memberName;
+	}
+
+	public enum IndexedElementKind {
+		TYPE('T'), FIELD('F'), METHOD('M');
+
+		private final char code;
+
+		IndexedElementKind(final char code) {
+			this.code = code;
+		}
+
+		public char getCode() {
+			return code;
+		}
+
+		public static IndexedElementKind fromCode(final char code) {
+			for (final IndexedElementKind kind : values()) {
+				if(kind.code == code) {
+					return kind;
+				}
+			}
+
+			throw new IllegalArgumentException("Unknown indexed element kind {" + code + "}");
+		}
+	}
+
+	public String getAnnotationType() {
+		return annotationType;
+	}
+
+	public IndexedElementKind getKind() {
+		return kind;
+	}
+
+	public String getClassName() {
+		return className;
+	}
+
+	/**
+	 * Field name, or method name followed by its erased parameter types such as
+	 * {@code find(java.lang.String,int)}; {@code null} for {@link IndexedElementKind#TYPE}.
+	 */
+	public String getMemberName() {
+		return memberName;
+	}
+
+	public Class<?> loadClass(final ClassLoader classLoader) {
+		try {
+			return Class.forName(className, false, classLoader);
+		}catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Indexed class not found {" + className + "}", e);
+		}
+	}
+
+	@Override
+	public boolean equals(final Object object) {
+		if(this == object) {
+			return true;
+		}
+
+		if(!(object instanceof IndexedElement)) {
+			return false;
+		}
+
+		final IndexedElement other = (IndexedElement) object;
+
+		return kind == other.kind && annotationType.equals(other.annotationType)
+			&& className.equals(other.className) && Objects.equals(memberName, other.memberName);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(annotationType, kind, className, memberName);
+	}
+
+	@Override
+	public String toString() {
+		return memberName == null ? "@" + annotationType + " " + className
+			: "@" + annotationType + " " + className + "#" + memberName;
+	}
+
+}
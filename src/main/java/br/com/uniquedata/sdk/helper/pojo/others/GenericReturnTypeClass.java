@@ -1,9 +1,11 @@
 package br.com.uniquedata.sdk.helper.pojo.others;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.List;
 
 import br.com.uniquedata.restfull.sdk.helper.GenericReturnTypeClassHelper;
+import br.com.uniquedata.sdk.helper.type.ResolvedType;
 
 public class GenericReturnTypeClass {
 
@@ -15,6 +17,10 @@ public class GenericReturnTypeClass {
 	
 	private List<Type> typesSubLevels;
 	
+	private ResolvedType resolvedType;
+	
+	private boolean frozen;
+	
 	public GenericReturnTypeClass() {}
 	
 	public GenericReturnTypeClass(final Class<?> classType, 
@@ -33,6 +39,7 @@ public class GenericReturnTypeClass {
 	}
 
 	public void setReturnType(final GenericReturnType returnType) {
+		checkNotFrozen();
 		this.returnType = returnType;
 	}
 	
@@ -41,6 +48,7 @@ public class GenericReturnTypeClass {
 	}
 
 	public void setClassType(final Class<?> classType) {
+		checkNotFrozen();
 		this.classType = classType;
 	}
 
@@ -49,6 +57,7 @@ public class GenericReturnTypeClass {
 	}
 
 	public void setSuperClassType(final Class<?> superClassType) {
+		checkNotFrozen();
 		this.superClassType = superClassType;
 	}
 
@@ -57,9 +66,48 @@ public class GenericReturnTypeClass {
 	}
 	
 	public void setTypesSubLevels(final List<Type> typesSubLevels) {
+		checkNotFrozen();
 		this.typesSubLevels = typesSubLevels;
 	}
 	
+	/**
+	 * Complete type tree behind this descriptor; {@code null} for descriptors built by hand.
+	 */
+	public ResolvedType getResolvedType() {
+		return resolvedType;
+	}
+	
+	public void setResolvedType(final ResolvedType resolvedType) {
+		checkNotFrozen();
+		this.resolvedType = resolvedType;
+	}
+	
+	/**
+	 * Makes this descriptor read-only so it can be shared between callers; every setter
+	 * throws {@link UnsupportedOperationException} afterwards.
+	 */
+	public GenericReturnTypeClass freeze() {
+		if(!frozen) {
+			if(typesSubLevels != null) {
+				typesSubLevels = Collections.unmodifiableList(typesSubLevels);
+			}
+			
+			frozen = true;
+		}
+		
+		return this;
+	}
+	
+	public boolean isFrozen() {
+		return frozen;
+	}
+	
+	private void checkNotFrozen() {
+		if(frozen) {
+			throw new UnsupportedOperationException("GenericReturnTypeClass is shared and cannot be modified");
+		}
+	}
+	
 	public boolean containsType(final Type filterType) {
 		return GenericReturnTypeClassHelper.containsType(this, filterType);
 	}
@@ -10,6 +10,8 @@ public class MapperExtractField {
 
 	private Class<? extends Annotation> annotation;
 	
+	private MapperExtractPath extractPath;
+	
 	public MapperExtractField() {}
 
 	public MapperExtractField(final ExtractField extractField, 
@@ -18,6 +20,14 @@ public class MapperExtractField {
 		this.extractField = extractField;
 		this.annotation = annotation;
 	}
+	
+	public MapperExtractField(final ExtractField extractField, 
+		final Class<? extends Annotation> annotation, final MapperExtractPath extractPath) {
+		
+		this.extractField = extractField;
+		this.annotation = annotation;
+		this.extractPath = extractPath;
+	}
 
 	public ExtractField getExtractField() {
 		return extractField;
@@ -35,4 +45,16 @@ public class MapperExtractField {
 		this.annotation = annotation;
 	}
 	
+	public MapperExtractPath getExtractPath() {
+		return extractPath;
+	}
+
+	public void setExtractPath(final MapperExtractPath extractPath) {
+		this.extractPath = extractPath;
+	}
+	
+	public String getPath() {
+		return extractPath == null ? null : extractPath.getPath();
+	}
+	
 }
\ No newline at end of file
@@ -20,10 +20,18 @@ public class MapperExtractFields extends ArrayList<MapperExtractField> {
 		return super.add(new MapperExtractField(field, annotation));
 	}
 	
+	public boolean add(final Class<? extends Annotation> annotation, final ExtractField field, final MapperExtractPath path) {
+		return super.add(new MapperExtractField(field, annotation, path));
+	}
+	
 	public List<MapperExtractField> get(final Class<? extends Annotation> annotation) {
 		return parse(annotation).collect(Collectors.toList());	
 	}
 	
+	public List<MapperExtractField> getByPath(final String path) {
+		return super.stream().filter(filter -> path.equals(filter.getPath())).collect(Collectors.toList());
+	}
+	
 	private Stream<MapperExtractField> parse(final Class<? extends Annotation> annotation) {
 		return super.stream().filter(filter -> filter.getAnnotation().equals(annotation));
 	}
@@ -0,0 +1,121 @@
+package br.com.uniquedata.sdk.helper.pojo.reflectmapper;
+
+/**
+ * Structural position of an extracted value inside the scanned object graph,
+ * for example {@code customer.contacts[3].email}.
+ *
+ * <p>
+ * A path is stored as a parent-pointer chain: every node only knows its parent
+ * and either a field name or a collection index. The textual form is built on
+ * the first call to {@link #getPath()} and interned, so walking a large graph
+ * never concatenates strings for fields nobody asks about.
+ * </p>
+ */
+public final class MapperExtractPath {
+
+	public static final MapperExtractPath ROOT = new MapperExtractPath(null, null, -1, 0);
+
+	private final MapperExtractPath parent;
+
+	private final String name;
+
+	private final int index;
+
+	private final int depth;
+
+	private volatile String path;
+
+	private MapperExtractPath(final MapperExtractPath parent, final String name, final int index, final int depth) {
+		this.parent = parent;
+		this.name = name;
+		this.index = index;
+		this.depth = depth;
+	}
+
+	public MapperExtractPath field(final String name) {
+		return new MapperExtractPath(this, name, -1, depth + 1);
+	}
+
+	public MapperExtractPath index(final int index) {
+		return new MapperExtractPath(this, null, index, depth + 1);
+	}
+
+	public MapperExtractPath getParent() {
+		return parent;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public boolean isRoot() {
+		return parent == null;
+	}
+
+	public boolean isIndex() {
+		return parent != null && name == null;
+	}
+
+	public String getPath() {
+		String path = this.path;
+
+		if(path == null) {
+			path = buildPath().intern();
+			this.path = path;
+		}
+
+		return path;
+	}
+
+	private String buildPath() {
+		if(isRoot()) {
+			return "";
+		}
+
+		final MapperExtractPath[] nodes = new MapperExtractPath[depth];
+		final StringBuilder builder = new StringBuilder(depth * 8);
+
+		int size = 0;
+		MapperExtractPath node = this;
+
+		while (!node.isRoot()) {
+			if(node != this && node.path != null) {
+				builder.append(node.path);
+				break;
+			}
+
+			nodes[size++] = node;
+			node = node.parent;
+		}
+
+		for (int i = size - 1; i >= 0; i--) {
+			final MapperExtractPath segment = nodes[i];
+
+			if(segment.isIndex()) {
+				builder.append('[').append(segment.index).append(']');
+			}else {
+				if(builder.length() > 0) {
+					builder.append('.');
+				}
+
+				builder.append(segment.name);
+			}
+		}
+
+		return builder.toString();
+	}
+
+	@Override
+	public String toString() {
+		return getPath();
+	}
+
+}
@@ -8,6 +8,10 @@ public class ReflectMapperFilter {
 	
 	private boolean enable;
 	
+	private boolean propertyAccess;
+	
+	private boolean lazy;
+	
 	private List<String> fieldNames;
 
 	private List<Class<? extends Annotation>> annotations;
@@ -42,6 +46,22 @@ public class ReflectMapperFilter {
 		this.enable = enable;
 	}
 	
+	public boolean isPropertyAccess() {
+		return propertyAccess;
+	}
+	
+	public void setPropertyAccess(final boolean propertyAccess) {
+		this.propertyAccess = propertyAccess;
+	}
+	
+	public boolean isLazy() {
+		return lazy;
+	}
+	
+	public void setLazy(final boolean lazy) {
+		this.lazy = lazy;
+	}
+	
 	public <T> T addAnntotation(final T classType, final Class<? extends Annotation> annotation) {
 		this.annotations.add(annotation);
 		return classType;
@@ -0,0 +1,184 @@
+package br.com.uniquedata.sdk.helper.property;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import br.com.uniquedata.sdk.helper.object.PrimitiveTypeHelper;
+
+/**
+ * Bean property backed by its {@code getX}/{@code isX} and {@code setX} methods.
+ *
+ * <p>
+ * The accessor methods are turned once into a {@link Function} and a
+ * {@link BiConsumer} generated by {@link LambdaMetafactory}, which the JIT
+ * treats like direct calls. When the metafactory cannot reach the declaring
+ * class (e.g. a class in a module that is not open) the accessor falls back to
+ * a plain {@link MethodHandle}.
+ * </p>
+ */
+public final class PropertyAccessor {
+
+	private static final MethodType FUNCTION_FACTORY = MethodType.methodType(Function.class);
+
+	private static final MethodType FUNCTION_SAM = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType CONSUMER_FACTORY = MethodType.methodType(BiConsumer.class);
+
+	private static final MethodType CONSUMER_SAM = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final String name;
+
+	private final Class<?> type;
+
+	private final Type genericType;
+
+	private final Method getter;
+
+	private final Method setter;
+
+	private final Function<Object, Object> reader;
+
+	private final BiConsumer<Object, Object> writer;
+
+	PropertyAccessor(final String name, final Method getter, final Method setter) {
+		this.name = name;
+		this.getter = getter;
+		this.setter = setter;
+		this.type = getter != null ? getter.getReturnType() : setter.getParameterTypes()[0];
+		this.genericType = getter != null ? getter.getGenericReturnType() : setter.getGenericParameterTypes()[0];
+		this.reader = getter == null ? null : toReader(getter);
+		this.writer = setter == null ? null : toWriter(setter);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Class<?> getType() {
+		return type;
+	}
+
+	public Type getGenericType() {
+		return genericType;
+	}
+
+	public Method getGetter() {
+		return getter;
+	}
+
+	public Method getSetter() {
+		return setter;
+	}
+
+	public boolean isReadable() {
+		return reader != null;
+	}
+
+	public boolean isWritable() {
+		return writer != null;
+	}
+
+	public Function<Object, Object> getReader() {
+		return reader;
+	}
+
+	public BiConsumer<Object, Object> getWriter() {
+		return writer;
+	}
+
+	public Object get(final Object object) {
+		if(reader == null) {
+			throw new IllegalStateException("Property {" + name + "} is not readable");
+		}
+
+		return reader.apply(object);
+	}
+
+	public void set(final Object object, final Object value) {
+		if(writer == null) {
+			throw new IllegalStateException("Property {" + name + "} is not writable");
+		}
+
+		if(value == null && setter.getParameterTypes()[0].isPrimitive()) {
+			throw new IllegalArgumentException("Cannot set null to primitive property {" + name + "}");
+		}
+
+		writer.accept(object, value);
+	}
+
+	@Override
+	public String toString() {
+		return "PropertyAccessor[" + name + ":" + type.getName() + "]";
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> toReader(final Method getter) {
+		final Class<?> declaringClass = getter.getDeclaringClass();
+
+		try {
+			final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+			final MethodHandle handle = lookup.unreflect(getter);
+
+			final CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", FUNCTION_FACTORY, FUNCTION_SAM,
+				handle, MethodType.methodType(PrimitiveTypeHelper.wrap(getter.getReturnType()), declaringClass));
+
+			return (Function<Object, Object>) callSite.getTarget().invoke();
+		}catch (Throwable e) {
+			final MethodHandle handle = unreflect(getter).asType(FUNCTION_SAM);
+
+			return object -> {
+				try {
+					return handle.invokeExact(object);
+				}catch (RuntimeException | Error ex) {
+					throw ex;
+				}catch (Throwable ex) {
+					throw new RuntimeException(ex);
+				}
+			};
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> toWriter(final Method setter) {
+		final Class<?> declaringClass = setter.getDeclaringClass();
+
+		try {
+			final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+			final MethodHandle handle = lookup.unreflect(setter);
+
+			final CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept", CONSUMER_FACTORY, CONSUMER_SAM,
+				handle, MethodType.methodType(void.class, declaringClass, PrimitiveTypeHelper.wrap(setter.getParameterTypes()[0])));
+
+			return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+		}catch (Throwable e) {
+			final MethodHandle handle = unreflect(setter).asType(CONSUMER_SAM);
+
+			return (object, value) -> {
+				try {
+					handle.invokeExact(object, value);
+				}catch (RuntimeException | Error ex) {
+					throw ex;
+				}catch (Throwable ex) {
+					throw new RuntimeException(ex);
+				}
+			};
+		}
+	}
+
+	private static MethodHandle unreflect(final Method method) {
+		try {
+			method.setAccessible(true);
+			return MethodHandles.lookup().unreflect(method);
+		}catch (Exception e) {
+			throw new IllegalStateException("Cannot access property method " + method, e);
+		}
+	}
+
+}
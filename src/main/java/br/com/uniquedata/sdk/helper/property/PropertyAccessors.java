@@ -0,0 +1,121 @@
+package br.com.uniquedata.sdk.helper.property;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
+
+/**
+ * The bean properties of a class, discovered once from its public
+ * {@code getX}/{@code isX}/{@code setX} methods and cached per class
+ * ({@link ClassValue}-backed). Each {@link PropertyAccessor} is generated a single
+ * time and shared by every caller.
+ */
+public final class PropertyAccessors {
+
+	private static final ClassValue<PropertyAccessors> CACHE = new ClassValue<PropertyAccessors>() {
+		@Override
+		protected PropertyAccessors computeValue(final Class<?> type) {
+			return new PropertyAccessors(type);
+		}
+	};
+
+	private final Class<?> classType;
+
+	private final Map<String, PropertyAccessor> properties;
+
+	private PropertyAccessors(final Class<?> classType) {
+		final Map<String, Method> getters = new LinkedHashMap<>();
+		final Map<String, List<Method>> setters = new LinkedHashMap<>();
+
+		for (final Method method : ClassMetadata.of(classType).getMethods()) {
+			if(Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getDeclaringClass() == Object.class) {
+				continue;
+			}
+
+			final String methodName = method.getName();
+
+			if(method.getParameterCount() == 0 && method.getReturnType() != void.class) {
+				if(methodName.startsWith("get") && methodName.length() > 3) {
+					getters.putIfAbsent(decapitalize(methodName.substring(3)), method);
+				}else if(methodName.startsWith("is") && methodName.length() > 2 && method.getReturnType() == boolean.class) {
+					getters.put(decapitalize(methodName.substring(2)), method);
+				}
+			}else if(method.getParameterCount() == 1 && methodName.startsWith("set") && methodName.length() > 3) {
+				setters.computeIfAbsent(decapitalize(methodName.substring(3)), key -> new ArrayList<>()).add(method);
+			}
+		}
+
+		final Map<String, PropertyAccessor> properties = new LinkedHashMap<>();
+
+		for (final Map.Entry<String, Method> getter : getters.entrySet()) {
+			final Method setter = selectSetter(setters.remove(getter.getKey()), getter.getValue().getReturnType());
+			properties.put(getter.getKey(), new PropertyAccessor(getter.getKey(), getter.getValue(), setter));
+		}
+
+		for (final Map.Entry<String, List<Method>> setter : setters.entrySet()) {
+			if(setter.getValue().size() == 1) {
+				properties.put(setter.getKey(), new PropertyAccessor(setter.getKey(), null, setter.getValue().get(0)));
+			}
+		}
+
+		this.classType = classType;
+		this.properties = Collections.unmodifiableMap(properties);
+	}
+
+	public static PropertyAccessors of(final Class<?> classType) {
+		return CACHE.get(classType);
+	}
+
+	public Class<?> getClassType() {
+		return classType;
+	}
+
+	public PropertyAccessor get(final String propertyName) {
+		return properties.get(propertyName);
+	}
+
+	public boolean contains(final String propertyName) {
+		return properties.containsKey(propertyName);
+	}
+
+	public Collection<PropertyAccessor> getProperties() {
+		return properties.values();
+	}
+
+	public Map<String, PropertyAccessor> asMap() {
+		return properties;
+	}
+
+	private static Method selectSetter(final List<Method> candidates, final Class<?> propertyType) {
+		if(candidates == null) {
+			return null;
+		}
+
+		for (final Method candidate : candidates) {
+			if(candidate.getParameterTypes()[0] == propertyType) {
+				return candidate;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * JavaBeans decapitalization: {@code Name -> name}, but {@code URL -> URL}.
+	 */
+	static String decapitalize(final String name) {
+		if(name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+			return name;
+		}
+
+		return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+	}
+
+}
@@ -0,0 +1,16 @@
+package br.com.uniquedata.sdk.helper.proxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * Proxy invocation handler that receives, besides the {@link Method}, its
+ * position in the {@link ProxyMethodTable} of the proxied interface, so the
+ * implementation can {@code switch} on an {@code int} instead of comparing
+ * methods or names.
+ */
+@FunctionalInterface
+public interface IndexedInvocationHandler {
+
+	Object invoke(Object proxy, int methodIndex, Method method, Object[] args) throws Throwable;
+
+}
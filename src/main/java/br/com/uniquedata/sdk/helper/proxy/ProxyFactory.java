@@ -0,0 +1,125 @@
+package br.com.uniquedata.sdk.helper.proxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates {@link Proxy} instances of one interface, resolved once per interface
+ * ({@link ClassValue}-backed).
+ *
+ * <p>
+ * The proxy class and its {@code (InvocationHandler)} constructor are looked
+ * up on first use and kept as a {@link MethodHandle}, so creating a proxy is a
+ * single constructor call instead of a trip through {@link Proxy#newProxyInstance}.
+ * Handlers may implement {@link IndexedInvocationHandler} to dispatch on the
+ * method index of the shared {@link ProxyMethodTable}.
+ * </p>
+ */
+public final class ProxyFactory {
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, InvocationHandler.class);
+
+	private static final InvocationHandler UNUSED_HANDLER = (proxy, method, args) -> {
+		throw new UnsupportedOperationException(method.toString());
+	};
+
+	private static final ClassValue<ProxyFactory> CACHE = new ClassValue<ProxyFactory>() {
+		@Override
+		protected ProxyFactory computeValue(final Class<?> type) {
+			return new ProxyFactory(type);
+		}
+	};
+
+	private final Class<?> interfaceType;
+
+	private final Class<?> proxyClass;
+
+	private final MethodHandle constructor;
+
+	private final ProxyMethodTable methodTable;
+
+	private ProxyFactory(final Class<?> interfaceType) {
+		if(!interfaceType.isInterface()) {
+			throw new IllegalArgumentException("The type must be an interface, but was: " + interfaceType.getName());
+		}
+
+		this.interfaceType = interfaceType;
+		this.proxyClass = Proxy.newProxyInstance(interfaceType.getClassLoader(), new Class<?>[]{ interfaceType }, UNUSED_HANDLER).getClass();
+		this.constructor = toConstructor(proxyClass);
+		this.methodTable = new ProxyMethodTable(interfaceType);
+	}
+
+	public static ProxyFactory of(final Class<?> interfaceType) {
+		return CACHE.get(interfaceType);
+	}
+
+	public Class<?> getInterfaceType() {
+		return interfaceType;
+	}
+
+	public Class<?> getProxyClass() {
+		return proxyClass;
+	}
+
+	public ProxyMethodTable getMethodTable() {
+		return methodTable;
+	}
+
+	public Object newInstance(final InvocationHandler invocationHandler) {
+		if(constructor == null) {
+			return Proxy.newProxyInstance(interfaceType.getClassLoader(), new Class<?>[]{ interfaceType }, invocationHandler);
+		}
+
+		try {
+			return constructor.invokeExact(invocationHandler);
+		}catch (RuntimeException | Error e) {
+			throw e;
+		}catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public Object newInstance(final IndexedInvocationHandler invocationHandler) {
+		return newInstance(new IndexedDispatcher(methodTable, invocationHandler));
+	}
+
+	/**
+	 * Proxy classes are public when the interface is public and exported; otherwise they live
+	 * in the interface package and need {@code setAccessible}. When neither works, proxies are
+	 * created through {@link Proxy#newProxyInstance}, which caches the class itself.
+	 */
+	private static MethodHandle toConstructor(final Class<?> proxyClass) {
+		try {
+			final Constructor<?> constructor = proxyClass.getConstructor(InvocationHandler.class);
+			constructor.setAccessible(true);
+
+			return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+		}catch (Exception e) {
+			return null;
+		}
+	}
+
+	private static final class IndexedDispatcher implements InvocationHandler {
+
+		private final ProxyMethodTable methodTable;
+
+		private final IndexedInvocationHandler invocationHandler;
+
+		private IndexedDispatcher(final ProxyMethodTable methodTable, final IndexedInvocationHandler invocationHandler) {
+			this.methodTable = methodTable;
+			this.invocationHandler = invocationHandler;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			return invocationHandler.invoke(proxy, methodTable.indexOf(method), method, args);
+		}
+
+	}
+
+}
@@ -0,0 +1,116 @@
+package br.com.uniquedata.sdk.helper.proxy;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
+
+/**
+ * Fixed numbering of the methods a proxy of one interface can receive: every
+ * public method of the interface (inherited ones included) followed by
+ * {@code equals}, {@code hashCode} and {@code toString}. Methods are sorted by
+ * name and parameter types, so indexes are stable between runs and can be used
+ * as {@code switch} labels.
+ *
+ * <p>
+ * A proxy class always hands its handler the same {@link Method} instances, so
+ * after the first call of each method {@link #indexOf(Method)} is a lookup by
+ * identity.
+ * </p>
+ */
+public final class ProxyMethodTable {
+
+	private static final Comparator<Method> METHOD_ORDER = Comparator.comparing(Method::getName)
+		.thenComparing(method -> Arrays.toString(method.getParameterTypes()))
+		.thenComparing(method -> method.getDeclaringClass().getName());
+
+	private final Class<?> interfaceType;
+
+	private final Method[] methods;
+
+	private final Map<Method, Integer> indexes;
+
+	private volatile Map<Method, Integer> identityIndexes;
+
+	ProxyMethodTable(final Class<?> interfaceType) {
+		final List<Method> methods = new ArrayList<>(ClassMetadata.of(interfaceType).getMethods());
+		methods.sort(METHOD_ORDER);
+
+		try {
+			methods.add(Object.class.getMethod("equals", Object.class));
+			methods.add(Object.class.getMethod("hashCode"));
+			methods.add(Object.class.getMethod("toString"));
+		}catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+
+		this.interfaceType = interfaceType;
+		this.methods = methods.toArray(new Method[0]);
+		this.indexes = new HashMap<>();
+		this.identityIndexes = new IdentityHashMap<>();
+
+		for (int i = 0; i < this.methods.length; i++) {
+			indexes.put(this.methods[i], i);
+		}
+	}
+
+	public Class<?> getInterfaceType() {
+		return interfaceType;
+	}
+
+	public int size() {
+		return methods.length;
+	}
+
+	public Method getMethod(final int index) {
+		return methods[index];
+	}
+
+	public List<Method> getMethods() {
+		return Collections.unmodifiableList(Arrays.asList(methods));
+	}
+
+	/**
+	 * Index of {@code method}, or {@code -1} when it is not part of the table.
+	 */
+	public int indexOf(final Method method) {
+		final Integer index = identityIndexes.get(method);
+		return index != null ? index : learn(method);
+	}
+
+	/**
+	 * Index of the method with the given name and parameter types, meant to be resolved
+	 * once into a constant by handler implementations.
+	 */
+	public int indexOf(final String methodName, final Class<?>... parameterTypes) {
+		for (int i = 0; i < methods.length; i++) {
+			if(methods[i].getName().equals(methodName) && Arrays.equals(methods[i].getParameterTypes(), parameterTypes)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private synchronized int learn(final Method method) {
+		final Integer index = indexes.get(method);
+
+		if(index == null) {
+			return -1;
+		}
+
+		final Map<Method, Integer> identityIndexes = new IdentityHashMap<>(this.identityIndexes);
+		identityIndexes.put(method, index);
+		this.identityIndexes = identityIndexes;
+
+		return index;
+	}
+
+}
@@ -0,0 +1,226 @@
+package br.com.uniquedata.sdk.helper.reflect.clone;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import br.com.uniquedata.sdk.helper.field.FieldAccessor;
+import br.com.uniquedata.sdk.helper.field.FieldLayout;
+import br.com.uniquedata.sdk.helper.field.RecordLayout;
+import br.com.uniquedata.sdk.helper.object.Instantiator;
+import br.com.uniquedata.sdk.helper.object.PrimitiveTypeHelper;
+
+/**
+ * How instances of a class are deep-cloned, decided once per class
+ * ({@link ClassValue}-backed).
+ *
+ * <p>
+ * Objects and records keep the accessors of their {@link FieldLayout} (or
+ * {@link RecordLayout}) and, for every field, whether its value can be copied
+ * as is: primitive fields, and fields whose declared type is an immutable final
+ * class such as {@link String}, skip the clone dispatch altogether.
+ * </p>
+ *
+ * <p>
+ * Only the types of {@link #isImmutable(Class)} are shared with the original.
+ * Other JDK classes are copied when the SDK knows how (atomics, string builders,
+ * {@link Cloneable} classes with a public {@code clone()}) and rejected otherwise,
+ * since their internal state cannot be reached.
+ * </p>
+ */
+final class CloneLayout {
+
+	enum Kind { SHARED, DATE, ARRAY, COLLECTION, MAP, OPTIONAL, JDK, RECORD, OBJECT, UNSUPPORTED }
+
+	private static final MethodType CLONE_TYPE = MethodType.methodType(Object.class);
+
+	private static final ClassValue<CloneLayout> CACHE = new ClassValue<CloneLayout>() {
+		@Override
+		protected CloneLayout computeValue(final Class<?> type) {
+			return new CloneLayout(type);
+		}
+	};
+
+	private final Kind kind;
+
+	private final FieldAccessor[] accessors;
+
+	private final boolean[] copiedAsIs;
+
+	private final Instantiator instantiator;
+
+	private final RecordLayout recordLayout;
+
+	private final UnaryOperator<Object> jdkCopier;
+
+	private CloneLayout(final Class<?> classType) {
+		final UnaryOperator<Object> jdkCopier = toJdkCopier(classType);
+
+		this.kind = jdkCopier != null ? Kind.JDK : toKind(classType);
+		this.jdkCopier = jdkCopier;
+		this.recordLayout = kind == Kind.RECORD ? RecordLayout.of(classType) : null;
+		this.instantiator = kind == Kind.OBJECT ? Instantiator.of(classType) : null;
+
+		if(kind == Kind.OBJECT || kind == Kind.RECORD) {
+			final List<FieldAccessor> fieldAccessors = FieldLayout.of(classType).getAccessors();
+
+			this.accessors = new FieldAccessor[kind == Kind.RECORD ? recordLayout.size() : fieldAccessors.size()];
+			this.copiedAsIs = new boolean[accessors.length];
+
+			for (int i = 0; i < accessors.length; i++) {
+				accessors[i] = kind == Kind.RECORD ? recordLayout.getAccessor(i) : fieldAccessors.get(i);
+
+				final Class<?> fieldType = accessors[i].getType();
+				copiedAsIs[i] = fieldType.isPrimitive() || (isImmutable(fieldType) && Modifier.isFinal(fieldType.getModifiers()));
+			}
+		}else {
+			this.accessors = null;
+			this.copiedAsIs = null;
+		}
+	}
+
+	static CloneLayout of(final Class<?> classType) {
+		return CACHE.get(classType);
+	}
+
+	Kind getKind() {
+		return kind;
+	}
+
+	int size() {
+		return accessors.length;
+	}
+
+	FieldAccessor getAccessor(final int index) {
+		return accessors[index];
+	}
+
+	boolean isCopiedAsIs(final int index) {
+		return copiedAsIs[index];
+	}
+
+	Object newInstance() {
+		return instantiator.newInstance();
+	}
+
+	Object newRecord(final Object[] values) {
+		return recordLayout.newInstance(values);
+	}
+
+	Object copyJdk(final Object object) {
+		return jdkCopier.apply(object);
+	}
+
+	/**
+	 * Immutable value types, shared between the original and the clone.
+	 */
+	static boolean isImmutable(final Class<?> classType) {
+		return classType.isPrimitive() || PrimitiveTypeHelper.isWrapper(classType) || classType == String.class
+			|| Enum.class.isAssignableFrom(classType)
+			|| classType == BigDecimal.class || classType == BigInteger.class || classType == UUID.class
+			|| classType == Class.class || classType == Locale.class || classType == URI.class || classType == URL.class
+			|| classType == File.class || classType == Pattern.class || classType == Currency.class
+			|| classType == OptionalInt.class || classType == OptionalLong.class || classType == OptionalDouble.class
+			|| (Path.class.isAssignableFrom(classType) && !classType.isInterface())
+			|| (Charset.class.isAssignableFrom(classType) && classType != Charset.class)
+			|| isTimePackage(classType.getPackageName());
+	}
+
+	private static Kind toKind(final Class<?> classType) {
+		if(isImmutable(classType)) {
+			return Kind.SHARED;
+		}else if(classType.isArray()) {
+			return Kind.ARRAY;
+		}else if(Date.class.isAssignableFrom(classType)) {
+			return Kind.DATE;
+		}else if(Collection.class.isAssignableFrom(classType)) {
+			return Kind.COLLECTION;
+		}else if(Map.class.isAssignableFrom(classType)) {
+			return Kind.MAP;
+		}else if(classType == Optional.class) {
+			return Kind.OPTIONAL;
+		}else if(classType.isHidden() || classType.isSynthetic() || Proxy.isProxyClass(classType)) {
+			return Kind.SHARED;
+		}else if(classType.isRecord()) {
+			return Kind.RECORD;
+		}else if(classType != Object.class && isPlatformClass(classType)) {
+			return Kind.UNSUPPORTED;
+		}
+
+		return Kind.OBJECT;
+	}
+
+	/**
+	 * Copier of the JDK classes that are mutable but can be copied through their public API,
+	 * or {@code null}.
+	 */
+	private static UnaryOperator<Object> toJdkCopier(final Class<?> classType) {
+		if(classType == AtomicInteger.class) {
+			return value -> new AtomicInteger(((AtomicInteger) value).get());
+		}else if(classType == AtomicLong.class) {
+			return value -> new AtomicLong(((AtomicLong) value).get());
+		}else if(classType == AtomicBoolean.class) {
+			return value -> new AtomicBoolean(((AtomicBoolean) value).get());
+		}else if(classType == StringBuilder.class) {
+			return value -> new StringBuilder((StringBuilder) value);
+		}else if(classType == StringBuffer.class) {
+			return value -> new StringBuffer((StringBuffer) value);
+		}else if(!isPlatformClass(classType) || !Cloneable.class.isAssignableFrom(classType) || classType.isArray()
+				|| Date.class.isAssignableFrom(classType) || Collection.class.isAssignableFrom(classType)
+				|| Map.class.isAssignableFrom(classType) || isImmutable(classType)) {
+			return null;
+		}
+
+		try {
+			final MethodHandle clone = MethodHandles.publicLookup().findVirtual(classType, "clone", CLONE_TYPE).asType(MethodType.methodType(Object.class, Object.class));
+
+			return value -> {
+				try {
+					return clone.invokeExact(value);
+				}catch (RuntimeException | Error e) {
+					throw e;
+				}catch (Throwable e) {
+					throw new IllegalStateException("Clone Failed {" + classType.getName() + "}", e);
+				}
+			};
+		}catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	private static boolean isTimePackage(final String packageName) {
+		return packageName.equals("java.time") || packageName.startsWith("java.time.");
+	}
+
+	private static boolean isPlatformClass(final Class<?> classType) {
+		final String packageName = classType.getPackageName();
+		return packageName.startsWith("java.") || packageName.startsWith("javax.") || packageName.startsWith("jdk.")
+			|| packageName.startsWith("sun.") || packageName.startsWith("com.sun.");
+	}
+
+}
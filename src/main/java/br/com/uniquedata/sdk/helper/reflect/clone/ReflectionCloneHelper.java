@@ -0,0 +1,304 @@
+package br.com.uniquedata.sdk.helper.reflect.clone;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import br.com.uniquedata.sdk.helper.field.FieldAccessor;
+import br.com.uniquedata.sdk.helper.object.Instantiator;
+
+/**
+ * Deep copies of object graphs, for objects copied into their own class.
+ *
+ * <p>
+ * Unlike {@code ReflectionMapperHelper.refletc(x).to(x.getClass())}, cloning
+ * never matches field names nor inspects field types per object: source and
+ * copy share the same {@link br.com.uniquedata.sdk.helper.field.FieldLayout},
+ * so fields are copied by index through its cached accessors, following a
+ * per-class {@link CloneLayout}.
+ * </p>
+ *
+ * <ul>
+ *   <li>Immutable values (strings, wrappers, enums, big numbers, {@code java.time} types...) are shared.</li>
+ *   <li>Object identity inside the graph is preserved: an object reached twice is copied once,
+ *       and cycles are reproduced in the copy, through collection wrappers and {@code Arrays.asList}
+ *       too. A cycle running through a record or an immutable collection ({@code List.of},
+ *       {@code Map.of}...) cannot be rebuilt, since those are created after their contents,
+ *       and is rejected.</li>
+ *   <li>Records are rebuilt through their canonical constructor from cloned components.</li>
+ *   <li>Arrays, dates, collections and maps are copied; sorted collections keep their comparator,
+ *       and unmodifiable JDK collections ({@code List.of}, {@code Collections.unmodifiableList}...)
+ *       come back unmodifiable.</li>
+ *   <li>Other mutable JDK classes are copied when they can be (atomics, {@code StringBuilder},
+ *       public {@code clone()}, e.g. {@code Calendar}); any other JDK class is rejected with an
+ *       {@link IllegalArgumentException} rather than shared.</li>
+ *   <li>Proxies and lambdas are shared.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * Catalog requestCatalog = ReflectionCloneHelper.deepClone(cachedCatalog);
+ * }</pre>
+ */
+public final class ReflectionCloneHelper {
+
+	private static final Object IN_PROGRESS = new Object();
+
+	private static final String IMMUTABLE_COLLECTIONS = "java.util.ImmutableCollections$";
+
+	private static final String ARRAYS_LIST = "java.util.Arrays$ArrayList";
+
+	private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+	private ReflectionCloneHelper() {}
+
+	/**
+	 * Deep-clones an object graph.
+	 *
+	 * @param <T> the type of the object
+	 * @param object the root of the graph, may be {@code null}
+	 * @return a copy of the graph, of the same classes, sharing only immutable values
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T deepClone(final T object) {
+		return (T) new ReflectionCloneHelper().copy(object);
+	}
+
+	private Object copy(final Object object) {
+		if(object == null) {
+			return null;
+		}
+
+		final CloneLayout cloneLayout = CloneLayout.of(object.getClass());
+
+		if(cloneLayout.getKind() == CloneLayout.Kind.SHARED) {
+			return object;
+		}
+
+		final Object copied = copies.get(object);
+
+		if(copied == IN_PROGRESS) {
+			throw new IllegalStateException("Cyclic Reference Through " + (cloneLayout.getKind() == CloneLayout.Kind.RECORD ? "Record" : "Immutable Collection")
+				+ " {" + object.getClass().getName() + "}");
+		}else if(copied != null) {
+			return copied;
+		}
+
+		switch (cloneLayout.getKind()) {
+			case DATE:
+				return register(object, ((Date) object).clone());
+			case ARRAY:
+				return copyArray(object);
+			case COLLECTION:
+				return copyCollection((Collection<?>) object);
+			case MAP:
+				return copyMap((Map<?, ?>) object);
+			case OPTIONAL:
+				return register(object, Optional.ofNullable(copy(((Optional<?>) object).orElse(null))));
+			case JDK:
+				return register(object, cloneLayout.copyJdk(object));
+			case RECORD:
+				return copyRecord(object, cloneLayout);
+			case UNSUPPORTED:
+				throw new IllegalArgumentException("Cannot Deep Clone {" + object.getClass().getName()
+					+ "}: JDK class that is neither immutable nor copyable");
+			default:
+				return copyObject(object, cloneLayout);
+		}
+	}
+
+	private Object copyObject(final Object object, final CloneLayout cloneLayout) {
+		final Object copy = register(object, cloneLayout.newInstance());
+
+		for (int i = 0; i < cloneLayout.size(); i++) {
+			final FieldAccessor accessor = cloneLayout.getAccessor(i);
+			final Object value = accessor.get(object);
+
+			accessor.set(copy, cloneLayout.isCopiedAsIs(i) ? value : copy(value));
+		}
+
+		return copy;
+	}
+
+	private Object copyRecord(final Object record, final CloneLayout cloneLayout) {
+		final Object[] values = new Object[cloneLayout.size()];
+
+		copies.put(record, IN_PROGRESS);
+
+		for (int i = 0; i < values.length; i++) {
+			final Object value = cloneLayout.getAccessor(i).get(record);
+			values[i] = cloneLayout.isCopiedAsIs(i) ? value : copy(value);
+		}
+
+		return register(record, cloneLayout.newRecord(values));
+	}
+
+	private Object copyArray(final Object array) {
+		final Class<?> componentType = array.getClass().getComponentType();
+		final int length = Array.getLength(array);
+		final Object copy = register(array, Array.newInstance(componentType, length));
+
+		if(componentType.isPrimitive() || CloneLayout.isImmutable(componentType)) {
+			System.arraycopy(array, 0, copy, 0, length);
+			return copy;
+		}
+
+		final Object[] source = (Object[]) array;
+		final Object[] target = (Object[]) copy;
+
+		for (int i = 0; i < length; i++) {
+			target[i] = copy(source[i]);
+		}
+
+		return copy;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object copyCollection(final Collection<?> collection) {
+		if(collection instanceof EnumSet) {
+			return register(collection, ((EnumSet) collection).clone());
+		}
+
+		final String className = collection.getClass().getName();
+
+		if(className.equals(ARRAYS_LIST)) {
+			final Object[] array = new Object[collection.size()];
+			final Object copy = register(collection, Arrays.asList(array));
+			int index = 0;
+
+			for (final Object item : collection) {
+				array[index++] = copy(item);
+			}
+
+			return copy;
+		}
+
+		final Collection<Object> copy;
+
+		if(collection instanceof SortedSet) {
+			copy = new TreeSet<>(((SortedSet<Object>) collection).comparator());
+		}else if(Instantiator.of(collection.getClass()).getStrategy() == Instantiator.Strategy.NO_ARGS_CONSTRUCTOR) {
+			copy = (Collection<Object>) Instantiator.of(collection.getClass()).newInstance();
+		}else {
+			copy = collection instanceof Set ? new LinkedHashSet<>(collection.size() * 2) : new ArrayList<>(collection.size());
+		}
+
+		if(className.startsWith(IMMUTABLE_COLLECTIONS)) {
+			copies.put(collection, IN_PROGRESS);
+			fill(collection, copy);
+
+			return register(collection, copy.contains(null) ? unmodifiableView(copy)
+				: collection instanceof Set ? Set.copyOf(copy) : List.copyOf(copy));
+		}
+
+		final Object view = register(collection, viewLike(className, copy));
+		fill(collection, copy);
+
+		return view;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object copyMap(final Map<?, ?> map) {
+		final Map<Object, Object> copy;
+
+		if(map instanceof EnumMap) {
+			copy = new EnumMap((EnumMap) map);
+			copy.clear();
+		}else if(map instanceof SortedMap) {
+			copy = new TreeMap<>(((SortedMap<Object, Object>) map).comparator());
+		}else if(Instantiator.of(map.getClass()).getStrategy() == Instantiator.Strategy.NO_ARGS_CONSTRUCTOR) {
+			copy = (Map<Object, Object>) Instantiator.of(map.getClass()).newInstance();
+		}else {
+			copy = new LinkedHashMap<>(map.size() * 2);
+		}
+
+		final String className = map.getClass().getName();
+
+		if(className.startsWith(IMMUTABLE_COLLECTIONS)) {
+			copies.put(map, IN_PROGRESS);
+			fill(map, copy);
+
+			return register(map, Map.copyOf(copy));
+		}
+
+		final Object view = register(map, viewLike(className, copy));
+		fill(map, copy);
+
+		return view;
+	}
+
+	private void fill(final Collection<?> collection, final Collection<Object> copy) {
+		for (final Object item : collection) {
+			copy.add(copy(item));
+		}
+	}
+
+	private void fill(final Map<?, ?> map, final Map<Object, Object> copy) {
+		for (final Map.Entry<?, ?> entry : map.entrySet()) {
+			copy.put(copy(entry.getKey()), copy(entry.getValue()));
+		}
+	}
+
+	/**
+	 * Wraps {@code copy} the way the JDK wrapper it was copied from ({@code className}) wrapped
+	 * the original: unmodifiable or synchronized. The view is registered before the copy is
+	 * filled, so back-references met while copying the elements get the view. Other
+	 * collections are returned as is.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Collection<Object> viewLike(final String className, final Collection<Object> copy) {
+		if(className.startsWith("java.util.Collections$Synchronized")) {
+			return copy instanceof List ? Collections.synchronizedList((List<Object>) copy)
+				: copy instanceof SortedSet ? Collections.synchronizedSortedSet((SortedSet) copy)
+				: copy instanceof Set ? Collections.synchronizedSet((Set<Object>) copy) : Collections.synchronizedCollection(copy);
+		}else if(isUnmodifiableWrapper(className)) {
+			return unmodifiableView(copy);
+		}
+
+		return copy;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Collection<Object> unmodifiableView(final Collection<Object> copy) {
+		return copy instanceof List ? Collections.unmodifiableList((List<Object>) copy)
+			: copy instanceof SortedSet ? Collections.unmodifiableSortedSet((SortedSet) copy)
+			: copy instanceof Set ? Collections.unmodifiableSet((Set<Object>) copy) : Collections.unmodifiableCollection(copy);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Map<Object, Object> viewLike(final String className, final Map<Object, Object> copy) {
+		if(className.startsWith("java.util.Collections$Synchronized")) {
+			return copy instanceof SortedMap ? Collections.synchronizedSortedMap((SortedMap) copy) : Collections.synchronizedMap(copy);
+		}else if(isUnmodifiableWrapper(className)) {
+			return copy instanceof SortedMap ? Collections.unmodifiableSortedMap((SortedMap) copy) : Collections.unmodifiableMap(copy);
+		}
+
+		return copy;
+	}
+
+	private static boolean isUnmodifiableWrapper(final String className) {
+		return className.startsWith("java.util.Collections$Unmodifiable") || className.startsWith("java.util.Collections$Empty")
+			|| className.startsWith("java.util.Collections$Singleton");
+	}
+
+	private Object register(final Object original, final Object copy) {
+		copies.put(original, copy);
+		return copy;
+	}
+
+}
@@ -0,0 +1,61 @@
+package br.com.uniquedata.sdk.helper.reflect.mapper;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Inline cache of the element classes met while mapping the collections or arrays
+ * of one {@link MapperPlan} field pair.
+ *
+ * <p>
+ * The first {@value #SIZE} distinct classes are remembered, with what the
+ * resolver computed for them, and found again by an identity scan of a small
+ * array, without hashing. Further classes (a megamorphic collection) are
+ * resolved every time through the resolver, which falls back on the global
+ * caches. The array is replaced, never modified, so a cache kept on a plan can
+ * be shared between threads; a class added concurrently may be lost and is
+ * simply resolved again.
+ * </p>
+ *
+ * @param <V> what is remembered per element class
+ */
+final class InlineMapperCache<V> {
+
+	static final int SIZE = 4;
+
+	private static final Object[] EMPTY = {};
+
+	private final Function<Class<?>, V> resolver;
+
+	/**
+	 * Element classes at even indexes, each followed by its resolved value.
+	 */
+	private volatile Object[] entries = EMPTY;
+
+	InlineMapperCache(final Function<Class<?>, V> resolver) {
+		this.resolver = resolver;
+	}
+
+	@SuppressWarnings("unchecked")
+	V get(final Class<?> classType) {
+		final Object[] entries = this.entries;
+
+		for (int i = 0; i < entries.length; i += 2) {
+			if(entries[i] == classType) {
+				return (V) entries[i + 1];
+			}
+		}
+
+		final V value = resolver.apply(classType);
+
+		if(entries.length < SIZE * 2) {
+			final Object[] grown = Arrays.copyOf(entries, entries.length + 2);
+			grown[entries.length] = classType;
+			grown[entries.length + 1] = value;
+			this.entries = grown;
+		}
+
+		return value;
+	}
+
+}
@@ -0,0 +1,95 @@
+package br.com.uniquedata.sdk.helper.reflect.mapper;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+import br.com.uniquedata.sdk.helper.method.MethodInvoker;
+import br.com.uniquedata.sdk.helper.method.MethodResolver;
+import br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper;
+import br.com.uniquedata.sdk.helper.proxy.IndexedInvocationHandler;
+import br.com.uniquedata.sdk.helper.proxy.ProxyFactory;
+
+/**
+ * Handler of the proxies returned by the lazy mode of {@link ReflectionMapperHelper}:
+ * the nested object is mapped on the first call made on the proxy, kept, and every
+ * call is forwarded to it, exceptions included, checked ones unwrapped.
+ *
+ * <p>
+ * Invokers are resolved once per interface method and shared by all the proxies of
+ * the interface, indexed by the position of the method in its proxy method table.
+ * </p>
+ */
+final class LazyMappingHandler implements IndexedInvocationHandler {
+
+	private static final ClassValue<MethodInvoker[]> INVOKERS = new ClassValue<MethodInvoker[]>() {
+		@Override
+		protected MethodInvoker[] computeValue(final Class<?> type) {
+			return new MethodInvoker[ProxyFactory.of(type).getMethodTable().size()];
+		}
+	};
+
+	private final MethodInvoker[] invokers;
+
+	private Supplier<Object> mapping;
+
+	private volatile Object target;
+
+	private LazyMappingHandler(final Class<?> interfaceType, final Supplier<Object> mapping) {
+		this.invokers = INVOKERS.get(interfaceType);
+		this.mapping = mapping;
+	}
+
+	static Object newProxy(final Class<?> interfaceType, final Supplier<Object> mapping) {
+		return ObjectReflectionHelper.newProxyInstance(interfaceType, new LazyMappingHandler(interfaceType, mapping));
+	}
+
+	@Override
+	public Object invoke(final Object proxy, final int methodIndex, final Method method, final Object[] args) throws Throwable {
+		if(method.getDeclaringClass() == Object.class) {
+			return invokeObjectMethod(proxy, method, args);
+		}
+
+		MethodInvoker invoker = invokers[methodIndex];
+
+		if(invoker == null) {
+			invoker = MethodResolver.of(method.getDeclaringClass()).resolve(method.getName(), method.getParameterTypes());
+			invokers[methodIndex] = invoker;
+		}
+
+		return invoker.invokeThrowing(target(), args);
+	}
+
+	/**
+	 * {@code equals} and {@code hashCode} are those of the proxy itself, so a proxy equals
+	 * only itself; {@code toString} is forwarded to the mapped object.
+	 */
+	private Object invokeObjectMethod(final Object proxy, final Method method, final Object[] args) {
+		switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			default:
+				return String.valueOf(target());
+		}
+	}
+
+	private Object target() {
+		Object target = this.target;
+
+		if(target == null) {
+			synchronized (this) {
+				target = this.target;
+
+				if(target == null) {
+					target = mapping.get();
+					this.target = target;
+					this.mapping = null;
+				}
+			}
+		}
+
+		return target;
+	}
+
+}
@@ -0,0 +1,166 @@
+package br.com.uniquedata.sdk.helper.reflect.mapper;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import br.com.uniquedata.sdk.helper.cache.ClassPairCache;
+import br.com.uniquedata.sdk.helper.convert.Converter;
+import br.com.uniquedata.sdk.helper.convert.ConverterRegistry;
+import br.com.uniquedata.sdk.helper.field.FieldLayout;
+import br.com.uniquedata.sdk.helper.pojo.reflectmapper.ReflectMapperField;
+
+/**
+ * The field pairs copied when mapping a source class into a target class.
+ *
+ * <p>
+ * The plan is built once per (source class, target class, {@link NamingStrategy}):
+ * the source fields are indexed by their normalized name, then every target field
+ * is looked up in that index, which makes building a plan linear in the number of
+ * fields. When several source fields normalize to the same key, the first one in
+ * {@link FieldLayout} order wins. Pairs whose types differ get their
+ * {@link Converter} from the {@link ConverterRegistry} at the same time, so
+ * mapping never looks one up. Plans are kept with the source class, or with
+ * the target class when it comes from a child loader (see {@link ClassPairCache}).
+ * </p>
+ */
+public final class MapperPlan {
+
+	private static final ClassPairCache<Map<NamingStrategy, MapperPlan>> CACHE = new ClassPairCache<>();
+
+	private static final Converter<Object, Object> UNBOXING = value -> value;
+
+	private final Class<?> sourceType;
+
+	private final Class<?> targetType;
+
+	private final NamingStrategy namingStrategy;
+
+	private final ReflectMapperField[] mappedFields;
+
+	private final Converter<Object, Object>[] converters;
+
+	private final AtomicReferenceArray<InlineMapperCache<?>> elementCaches;
+
+	private MapperPlan(final Class<?> sourceType, final Class<?> targetType, final NamingStrategy namingStrategy) {
+		final List<Field> sourceFields = FieldLayout.of(sourceType).getFields();
+		final Map<String, Field> sourceIndex = new HashMap<>(sourceFields.size() * 2);
+
+		for (final Field sourceField : sourceFields) {
+			sourceIndex.putIfAbsent(namingStrategy.normalize(sourceField.getName()), sourceField);
+		}
+
+		final List<ReflectMapperField> mappedFields = new ArrayList<>();
+		final List<Converter<Object, Object>> converters = new ArrayList<>();
+
+		for (final Field targetField : FieldLayout.of(targetType).getFields()) {
+			final Field sourceField = sourceIndex.get(namingStrategy.normalize(targetField.getName()));
+
+			if(sourceField != null) {
+				mappedFields.add(new ReflectMapperField(sourceField, targetField));
+				converters.add(selectConverter(sourceField.getType(), targetField.getType()));
+			}
+		}
+
+		this.sourceType = sourceType;
+		this.targetType = targetType;
+		this.namingStrategy = namingStrategy;
+		this.mappedFields = mappedFields.toArray(new ReflectMapperField[0]);
+		this.converters = toArray(converters);
+		this.elementCaches = new AtomicReferenceArray<>(this.mappedFields.length);
+	}
+
+	public static MapperPlan of(final Class<?> sourceType, final Class<?> targetType) {
+		return of(sourceType, targetType, NamingStrategy.CASE_INSENSITIVE);
+	}
+
+	public static MapperPlan of(final Class<?> sourceType, final Class<?> targetType, final NamingStrategy namingStrategy) {
+		final Map<NamingStrategy, MapperPlan> plans = CACHE.computeIfAbsent(sourceType, targetType, (source, target) -> new ConcurrentHashMap<>());
+		final MapperPlan mapperPlan = plans.get(namingStrategy);
+
+		return mapperPlan != null ? mapperPlan
+			: plans.computeIfAbsent(namingStrategy, key -> new MapperPlan(sourceType, targetType, key));
+	}
+
+	public Class<?> getSourceType() {
+		return sourceType;
+	}
+
+	public Class<?> getTargetType() {
+		return targetType;
+	}
+
+	public NamingStrategy getNamingStrategy() {
+		return namingStrategy;
+	}
+
+	public int size() {
+		return mappedFields.length;
+	}
+
+	public ReflectMapperField getMappedField(final int index) {
+		return mappedFields[index];
+	}
+
+	/**
+	 * Converter selected for pair {@code index} when the field types differ, {@code null}
+	 * when the source value can be copied (or mapped recursively) as it is.
+	 */
+	public Converter<Object, Object> getConverter(final int index) {
+		return converters[index];
+	}
+
+	/**
+	 * Inline cache of the element classes met in the collections or arrays of pair
+	 * {@code index}, shared by every mapping through this plan, or {@code null} until
+	 * {@link #putElementCache(int, InlineMapperCache)} is first called.
+	 */
+	@SuppressWarnings("unchecked")
+	<V> InlineMapperCache<V> getElementCache(final int index) {
+		return (InlineMapperCache<V>) elementCaches.get(index);
+	}
+
+	/**
+	 * Keeps {@code elementCache} for pair {@code index} unless another one got there first,
+	 * and returns the one kept. The cache resolver must not capture per-mapping state.
+	 */
+	<V> InlineMapperCache<V> putElementCache(final int index, final InlineMapperCache<V> elementCache) {
+		return elementCaches.compareAndSet(index, null, elementCache) ? elementCache : getElementCache(index);
+	}
+
+	/**
+	 * Matched pairs in target field order. The pairs are shared and must not be modified.
+	 */
+	public List<ReflectMapperField> getMappedFields() {
+		return Collections.unmodifiableList(Arrays.asList(mappedFields));
+	}
+
+	@Override
+	public String toString() {
+		return "MapperPlan[" + sourceType.getName() + " -> " + targetType.getName() + ":" + mappedFields.length + " fields]";
+	}
+
+	/**
+	 * A wrapper copied into its primitive goes through an identity converter, so that
+	 * {@code null} becomes the primitive default instead of failing.
+	 */
+	private static Converter<Object, Object> selectConverter(final Class<?> sourceType, final Class<?> targetType) {
+		if(ConverterRegistry.isAssignable(sourceType, targetType)) {
+			return targetType.isPrimitive() && !sourceType.isPrimitive() ? UNBOXING : null;
+		}
+
+		return ConverterRegistry.find(sourceType, targetType);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Converter<Object, Object>[] toArray(final List<Converter<Object, Object>> converters) {
+		return converters.toArray(new Converter[0]);
+	}
+
+}
@@ -0,0 +1,59 @@
+package br.com.uniquedata.sdk.helper.reflect.mapper;
+
+import java.util.Locale;
+
+/**
+ * Decides which source field feeds which target field: two fields match when
+ * their names normalize to the same key.
+ *
+ * <p>
+ * Keys are computed once per field when a {@link MapperPlan} is built, never
+ * while mapping. Plans are cached per strategy, compared with {@code equals}:
+ * {@link #stripPrefix(NamingStrategy, String...)} strategies are equal by value,
+ * lambdas only to themselves, so custom lambdas should be kept in a constant
+ * rather than created on every call.
+ * </p>
+ */
+@FunctionalInterface
+public interface NamingStrategy {
+
+	/**
+	 * Names must be identical.
+	 */
+	NamingStrategy EXACT = fieldName -> fieldName;
+
+	/**
+	 * Names are compared ignoring case; the default of {@link ReflectionMapperHelper}.
+	 */
+	NamingStrategy CASE_INSENSITIVE = fieldName -> fieldName.toLowerCase(Locale.ROOT);
+
+	/**
+	 * Names are compared ignoring case, underscores and hyphens, so {@code created_at},
+	 * {@code createdAt}, {@code CREATED_AT} and {@code created-at} all match.
+	 */
+	NamingStrategy RELAXED = fieldName -> {
+		final StringBuilder builder = new StringBuilder(fieldName.length());
+
+		for (int i = 0; i < fieldName.length(); i++) {
+			final char character = fieldName.charAt(i);
+
+			if(character != '_' && character != '-') {
+				builder.append(Character.toLowerCase(character));
+			}
+		}
+
+		return builder.toString();
+	};
+
+	String normalize(String fieldName);
+
+	/**
+	 * Removes the first of {@code prefixes} the name starts with (e.g. {@code m_} or
+	 * {@code str}), then applies {@code strategy} to what is left. Names equal to a
+	 * prefix are kept whole. Strategies built from equal arguments are equal.
+	 */
+	static NamingStrategy stripPrefix(final NamingStrategy strategy, final String... prefixes) {
+		return new PrefixNamingStrategy(strategy, prefixes);
+	}
+
+}
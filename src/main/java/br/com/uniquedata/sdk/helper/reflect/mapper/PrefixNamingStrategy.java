@@ -0,0 +1,55 @@
+package br.com.uniquedata.sdk.helper.reflect.mapper;
+
+import java.util.Arrays;
+
+/**
+ * The strategy of {@link NamingStrategy#stripPrefix(NamingStrategy, String...)}.
+ *
+ * <p>
+ * Equal when built from an equal strategy and the same prefixes, so a call made
+ * inline on every mapping finds the {@link MapperPlan} cached by the first one.
+ * </p>
+ */
+final class PrefixNamingStrategy implements NamingStrategy {
+
+	private final NamingStrategy strategy;
+
+	private final String[] prefixes;
+
+	PrefixNamingStrategy(final NamingStrategy strategy, final String[] prefixes) {
+		this.strategy = strategy;
+		this.prefixes = prefixes.clone();
+	}
+
+	@Override
+	public String normalize(final String fieldName) {
+		for (final String prefix : prefixes) {
+			if(fieldName.length() > prefix.length() && fieldName.startsWith(prefix)) {
+				return strategy.normalize(fieldName.substring(prefix.length()));
+			}
+		}
+
+		return strategy.normalize(fieldName);
+	}
+
+	@Override
+	public boolean equals(final Object object) {
+		if(!(object instanceof PrefixNamingStrategy)) {
+			return false;
+		}
+
+		final PrefixNamingStrategy other = (PrefixNamingStrategy) object;
+		return strategy.equals(other.strategy) && Arrays.equals(prefixes, other.prefixes);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * strategy.hashCode() + Arrays.hashCode(prefixes);
+	}
+
+	@Override
+	public String toString() {
+		return "stripPrefix(" + strategy + ", " + Arrays.toString(prefixes) + ")";
+	}
+
+}
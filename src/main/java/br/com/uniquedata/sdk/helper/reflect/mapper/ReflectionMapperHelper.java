@@ -1,26 +1,38 @@
 package br.com.uniquedata.sdk.helper.reflect.mapper;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import br.com.uniquedata.sdk.helper.annotation.AnnotationIndex;
+import br.com.uniquedata.sdk.helper.convert.Converter;
+import br.com.uniquedata.sdk.helper.field.FieldLayout;
 import br.com.uniquedata.sdk.helper.field.FieldReflectionHelper;
+import br.com.uniquedata.sdk.helper.object.ArrayListView;
 import br.com.uniquedata.sdk.helper.object.ObjectReflectionHelper;
+import br.com.uniquedata.sdk.helper.object.PrimitiveTypeHelper;
 import br.com.uniquedata.sdk.helper.pojo.extract.ExtractField;
 import br.com.uniquedata.sdk.helper.pojo.reflectmapper.MapperExtractFields;
+import br.com.uniquedata.sdk.helper.pojo.reflectmapper.MapperExtractPath;
 import br.com.uniquedata.sdk.helper.pojo.reflectmapper.ReflectMapperField;
 import br.com.uniquedata.sdk.helper.pojo.reflectmapper.ReflectMapperFilter;
+import br.com.uniquedata.sdk.helper.reflect.clone.ReflectionCloneHelper;
+import br.com.uniquedata.sdk.helper.property.PropertyAccessor;
+import br.com.uniquedata.sdk.helper.property.PropertyAccessors;
+import br.com.uniquedata.sdk.helper.type.ResolvedType;
+import br.com.uniquedata.sdk.helper.type.TypeResolver;
 
 /**
  * A utility class that uses reflection to:
@@ -64,9 +76,15 @@ public class ReflectionMapperHelper {
 	
 	private AtomicReference<ReflectMapperFilter> reflectMapperFilterReference;
 	
+	private AtomicReference<NamingStrategy> namingStrategyReference;
+	
+	private Map<Class<?>, Class<?>> subtypeTargets;
+	
 	public ReflectionMapperHelper(final Object objectIn) {
 		this.objectInReference = new AtomicReference<Object>(objectIn);
 		this.reflectMapperFilterReference = new AtomicReference<>(new ReflectMapperFilter());
+		this.namingStrategyReference = new AtomicReference<>(NamingStrategy.CASE_INSENSITIVE);
+		this.subtypeTargets = new ConcurrentHashMap<>();
 	}
 	
     /**
@@ -97,6 +115,20 @@ public class ReflectionMapperHelper {
 	    return classTypeOut.cast(reflectMapper(objectInReference.get(), classTypeOut));
 	}
 	
+	/**
+     * Deep-clones the source object into its own class. Unlike {@code to(source.getClass())}, no
+     * field names are matched: immutable values are shared and object identity is preserved.
+     *
+     * @param <T>
+     *        The type of the source object.
+     * @return A deep copy of the source object.
+     * @see ReflectionCloneHelper#deepClone(Object)
+     */
+	@SuppressWarnings("unchecked")
+	public <T> T toClone() {
+	    return (T) ReflectionCloneHelper.deepClone(objectInReference.get());
+	}
+	
 	/**
      * Specifies an annotation to be scanned for during field extraction.
      * By calling this method, you enable filtering or extraction of only
@@ -110,10 +142,70 @@ public class ReflectionMapperHelper {
 		return this.reflectMapperFilterReference.get().addAnntotation(this, annotation);
 	}
 	
+	/**
+	 * Makes mapping read source values through getters and write target values through
+	 * setters whenever the matched field has a corresponding bean property, falling back
+	 * to direct field access otherwise. Accessors are lambda-generated once per property
+	 * (see {@link PropertyAccessors}), so encapsulation does not cost a reflective call.
+	 *
+	 * @return This {@code ReflectionMapperHelper} instance for fluent chaining.
+	 */
+	public ReflectionMapperHelper usingProperties() {
+		this.reflectMapperFilterReference.get().setPropertyAccess(true);
+		return this;
+	}
+	
+	/**
+	 * Makes mapping lazy for interface-typed target fields: instead of a deep copy, the
+	 * field receives a proxy of the interface that maps the nested source object the
+	 * first time one of its methods is called, then forwards every call to that copy.
+	 * The source object is read when the proxy is first used, not when it is created.
+	 *
+	 * @return This {@code ReflectionMapperHelper} instance for fluent chaining.
+	 */
+	public ReflectionMapperHelper lazy() {
+		this.reflectMapperFilterReference.get().setLazy(true);
+		return this;
+	}
+	
+	/**
+	 * Chooses how source and target field names are matched; the default,
+	 * {@link NamingStrategy#CASE_INSENSITIVE}, ignores case only. Use
+	 * {@link NamingStrategy#RELAXED} to match {@code created_at} with {@code createdAt}.
+	 *
+	 * @param namingStrategy
+	 *        The strategy used to build the {@link MapperPlan} of every mapped class pair.
+	 * @return This {@code ReflectionMapperHelper} instance for fluent chaining.
+	 */
+	public ReflectionMapperHelper namingStrategy(final NamingStrategy namingStrategy) {
+		this.namingStrategyReference.set(namingStrategy);
+		return this;
+	}
+	
+	/**
+	 * Declares the class that instances of {@code sourceType} (or of its subclasses, unless
+	 * they have a declaration of their own) are mapped into when they appear as elements
+	 * of a collection or array, e.g. every {@code Circle} of a {@code List<Shape>} into
+	 * {@code CircleDto}. Undeclared element classes are mapped into their own class, and so
+	 * are elements of arrays whose component type cannot hold the declared class.
+	 *
+	 * @param sourceType
+	 *        The element class found in the source.
+	 * @param targetType
+	 *        The class the element is mapped into.
+	 * @return This {@code ReflectionMapperHelper} instance for fluent chaining.
+	 */
+	public ReflectionMapperHelper mapSubtype(final Class<?> sourceType, final Class<?> targetType) {
+		this.subtypeTargets.put(sourceType, targetType);
+		return this;
+	}
+	
 	/**
      * Extracts fields from the current source object (and its nested structures) 
      * into a {@link MapperExtractFields} instance. If annotations have been specified via
      * {@link #addScanBy(Class)}, only fields annotated with those annotations will be processed.
+     * Every extracted entry carries its {@link MapperExtractPath} inside the scanned graph,
+     * e.g. {@code contacts[3].email}, built lazily on first access.
      *
      * @return A {@code MapperExtractFields} object containing information about the extracted fields.
      */
@@ -122,42 +214,51 @@ public class ReflectionMapperHelper {
 	}	
 	
 	private Object reflectMapper(final Object objectIn, final Class<?> classTypeOut) {
-		final Object objectOut = ObjectReflectionHelper.newInstance(classTypeOut);
+		return reflectMapper(objectIn, MapperPlan.of(objectIn.getClass(), classTypeOut, namingStrategyReference.get()));
+	}
+	
+	private Object reflectMapper(final Object objectIn, final MapperPlan mapperPlan) {
+		final Object objectOut = ObjectReflectionHelper.newInstance(mapperPlan.getTargetType());
 
 		try {
-			final List<ExtractField> extractFieldsIn = toFields(objectIn.getClass()).stream().map(fieldIn -> {
-				return FieldReflectionHelper.extract(objectIn, fieldIn);
-			}).collect(Collectors.toList());
 
-			toFields(objectOut.getClass()).stream().map(fieldOut  -> {
-				return new ReflectMapperField(extractFieldsIn.stream().filter(extractFieldIn -> {
-					final String fieldNameOut = fieldOut.getName();
-					final String fieldNameIn = extractFieldIn.getFieldName();
-
-					return fieldNameIn.equalsIgnoreCase(fieldNameOut);
-				}).findAny().map(ExtractField::getField).orElse(null), fieldOut);
-			}).filter(mapperField -> mapperField.isMatch()).forEach(mapperField -> {
+			for (int i = 0; i < mapperPlan.size(); i++) {
+				final ReflectMapperField mapperField = mapperPlan.getMappedField(i);
+				final Converter<Object, Object> converter = mapperPlan.getConverter(i);
 				final Class<?> fieldType = mapperField.getFieldIn().getType();
 				
-				if (fieldType.isPrimitive() || isWrapperType(fieldType)) {
-					FieldReflectionHelper.transferField(objectIn, mapperField.getFieldIn(), objectOut, mapperField.getFieldOut());
+				if (converter != null) {
+					final Object fieldValue = readValue(objectIn, mapperField.getFieldIn());
+					final Class<?> fieldTypeOut = mapperField.getFieldOut().getType();
+					
+					writeValue(objectOut, mapperField.getFieldOut(), fieldValue == null ? PrimitiveTypeHelper.defaultValue(fieldTypeOut) : converter.convert(fieldValue));
+				} else if (fieldType.isPrimitive() || isWrapperType(fieldType)) {
+					writeValue(objectOut, mapperField.getFieldOut(), readValue(objectIn, mapperField.getFieldIn()));
+				} else if (fieldType.isArray() || mapperField.getFieldOut().getType().isArray()) {
+					final Object fieldValue = readValue(objectIn, mapperField.getFieldIn());
+					final Class<?> fieldTypeOut = mapperField.getFieldOut().getType();
+					final InlineMapperCache<ElementMapping> elementCache = fieldTypeOut.isArray() || Collection.class.isAssignableFrom(fieldTypeOut)
+						? elementCache(mapperPlan, i, fieldTypeOut.isArray() ? fieldTypeOut.getComponentType() : toElementType(mapperField.getFieldOut())) : null;
+					
+					writeValue(objectOut, mapperField.getFieldOut(), reflectMapperArray(fieldValue, fieldTypeOut, elementCache));
 				} else if (Collection.class.isAssignableFrom(fieldType)) {
-				    final Object fieldValue = FieldReflectionHelper.extract(objectIn, mapperField.getFieldIn()).getFieldValue();
-				    FieldReflectionHelper.addValueField(reflectMapperCollection(fieldValue, fieldType), objectOut, mapperField.getFieldOut());
+				    final Object fieldValue = readValue(objectIn, mapperField.getFieldIn());
+				    writeValue(objectOut, mapperField.getFieldOut(), reflectMapperCollection(fieldValue, fieldType, elementCache(mapperPlan, i, Object.class)));
 				} else if (Map.class.isAssignableFrom(fieldType)) {
-				    final Object fieldValue = FieldReflectionHelper.extract(objectIn, mapperField.getFieldIn()).getFieldValue();
-				    FieldReflectionHelper.addValueField(reflectMapperMap(fieldValue, fieldType), objectOut, mapperField.getFieldOut());
+				    final Object fieldValue = readValue(objectIn, mapperField.getFieldIn());
+				    writeValue(objectOut, mapperField.getFieldOut(), reflectMapperMap(fieldValue, fieldType));
 	            } else {
-	            	final Object fieldValue = FieldReflectionHelper.extract(objectIn, mapperField.getFieldIn()).getFieldValue();
+	            	final Object fieldValue = readValue(objectIn, mapperField.getFieldIn());
 	            	
-	            	if(fieldValue != null) {
-	            		final Object reflectMapper = reflectMapper(fieldValue, mapperField.getFieldOut().getType());
-	            		FieldReflectionHelper.addValueField(reflectMapper, objectOut, mapperField.getFieldOut());
+	            	if(fieldValue != null && fieldValue.getClass().isArray()) {
+	            		writeValue(objectOut, mapperField.getFieldOut(), reflectMapperArray(fieldValue, fieldValue.getClass()));
+	            	}else if(fieldValue != null) {
+	            		writeValue(objectOut, mapperField.getFieldOut(), reflectMapperObject(fieldValue, mapperField.getFieldOut().getType()));
 	            	}else {
-	            		FieldReflectionHelper.addValueField(null, objectOut, mapperField.getFieldOut());
+	            		writeValue(objectOut, mapperField.getFieldOut(), null);
 	            	}
 	            }
-			});
+			}
 		}catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -165,8 +266,34 @@ public class ReflectionMapperHelper {
 		return objectOut;
 	}
 	
+	/**
+	 * Maps a nested object held by a field of {@code fieldType}. Interface and abstract field
+	 * types are mapped into the declared subtype target or the class of the value, and in lazy
+	 * mode interface types get a proxy that maps the value on first use.
+	 */
+	private Object reflectMapperObject(final Object fieldValue, final Class<?> fieldType) {
+		if (!fieldType.isInterface() && !Modifier.isAbstract(fieldType.getModifiers())) {
+			return reflectMapper(fieldValue, fieldType);
+		}
+		
+		final Class<?> objectTargetType = toSubtypeTarget(fieldValue.getClass(), fieldType, subtypeTargets);
+		final MapperPlan mapperPlan = MapperPlan.of(fieldValue.getClass(), objectTargetType, namingStrategyReference.get());
+		
+		if (fieldType.isInterface() && reflectMapperFilterReference.get().isLazy()) {
+			return LazyMappingHandler.newProxy(fieldType, () -> reflectMapper(fieldValue, mapperPlan));
+		}
+		
+		return reflectMapper(fieldValue, mapperPlan);
+	}
+	
 	private MapperExtractFields toExtractFields(final Object recursiveObject, 
 			final MapperExtractFields reflectMapperExtractFields){
+		
+		return toExtractFields(recursiveObject, MapperExtractPath.ROOT, reflectMapperExtractFields);
+	}
+	
+	private MapperExtractFields toExtractFields(final Object recursiveObject, final MapperExtractPath path,
+			final MapperExtractFields reflectMapperExtractFields){
 
 		try {
 			final ReflectMapperFilter reflectMapperFilter = reflectMapperFilterReference.get();
@@ -181,12 +308,18 @@ public class ReflectionMapperHelper {
 				
 				if (fieldIn.getType().isPrimitive() || isWrapperType(fieldIn.getType())) {
 					if(annotationOptional.isPresent()) {
-						reflectMapperExtractFields.add(annotationOptional.get(), extractField);
+						reflectMapperExtractFields.add(annotationOptional.get(), extractField, path.field(fieldIn.getName()));
 					}
+				} else if (extractField.getFieldValue() == null) {
+					return;
 				} else if (Collection.class.isAssignableFrom(fieldIn.getType())) {
-					extractToCollection(extractField.getFieldValue(), reflectMapperExtractFields);
+					extractToCollection(extractField.getFieldValue(), path.field(fieldIn.getName()), reflectMapperExtractFields);
+				} else if (fieldIn.getType().isArray()) {
+					if(!isImmutableElementType(fieldIn.getType().getComponentType())) {
+						extractToCollection(ArrayListView.of(extractField.getFieldValue()), path.field(fieldIn.getName()), reflectMapperExtractFields);
+					}
 				} else {
-					toExtractFields(extractField.getFieldValue(), reflectMapperExtractFields);
+					toExtractFields(extractField.getFieldValue(), path.field(fieldIn.getName()), reflectMapperExtractFields);
 	            }
 			});
 			
@@ -198,23 +331,23 @@ public class ReflectionMapperHelper {
 	}
 	
 	private Collection<?> reflectMapperCollection(final Object object, final Class<?> fieldType) {
+		return reflectMapperCollection(object, fieldType, null);
+	}
+	
+	/**
+	 * Maps a collection; {@code elementCache}, when given, is the cache of a plan field pair
+	 * for {@code Object} elements, otherwise one is made for this collection.
+	 */
+	private Collection<?> reflectMapperCollection(final Object object, final Class<?> fieldType, final InlineMapperCache<ElementMapping> elementCache) {
 		final Collection<?> sourceCollection = (Collection<?>) object;
 		final Collection<Object> targetCollection = ObjectReflectionHelper.newCollection(fieldType);
 		    
 	    if (sourceCollection != null) {
+	    	final InlineMapperCache<ElementMapping> inlineCache = elementCache != null ? elementCache : newInlineCache(Object.class);
+	    	
 	        for (final Object item : sourceCollection) {
 	            if (item != null) {
-	            	final Class<?> itemClass = item.getClass();
-	                
-	                if (itemClass.isPrimitive() || isWrapperType(itemClass)) {
-	                    targetCollection.add(item);
-	                } else if (Collection.class.isAssignableFrom(itemClass)) {
-	                    targetCollection.add(reflectMapperCollection(item, itemClass));
-	                }else if(Map.class.isAssignableFrom(itemClass)) {
-	                	targetCollection.add(reflectMapperMap(item, itemClass));
-	                } else {
-	                    targetCollection.add(reflectMapper(item, itemClass));
-	                }
+	            	targetCollection.add(reflectMapperElement(item, inlineCache));
 	            }
 	        }
 	    }
@@ -222,19 +355,182 @@ public class ReflectionMapperHelper {
 	    return targetCollection;
 	}
 	
-	private void extractToCollection(final Object object, 
+	/**
+	 * Maps an array or collection {@code source} into {@code targetType}, which may itself be an
+	 * array or a collection type. Arrays whose elements need no mapping (primitives, wrappers,
+	 * strings, dates and enums) and keep their component type are copied with
+	 * {@link System#arraycopy}; anything else is mapped element by element.
+	 */
+	private Object reflectMapperArray(final Object source, final Class<?> targetType) {
+		return reflectMapperArray(source, targetType, null);
+	}
+	
+	/**
+	 * Same as {@link #reflectMapperArray(Object, Class)}; {@code elementCache}, when given, is the
+	 * cache of a plan field pair for the component type of {@code targetType}, or for the declared
+	 * element type of the target field when it is a collection type.
+	 */
+	private Object reflectMapperArray(final Object source, final Class<?> targetType, final InlineMapperCache<ElementMapping> elementCache) {
+		if (source == null) {
+			return null;
+		}
+		
+		if (!targetType.isArray() && !Collection.class.isAssignableFrom(targetType)) {
+			return source.getClass().isArray() ? reflectMapperArray(source, source.getClass()) : reflectMapperCollection(source, source.getClass());
+		}
+		
+		if (!targetType.isArray()) {
+			final ArrayListView<?> sourceView = ArrayListView.of(source);
+			final Collection<Object> targetCollection = ObjectReflectionHelper.newCollection(targetType);
+			final InlineMapperCache<ElementMapping> inlineCache = elementCache != null ? elementCache : newInlineCache(Object.class);
+			
+			for (int i = 0; i < sourceView.size(); i++) {
+				final Object item = sourceView.get(i);
+				targetCollection.add(item == null ? null : reflectMapperElement(item, inlineCache));
+			}
+			
+			return targetCollection;
+		}
+		
+		final Class<?> targetComponentType = targetType.getComponentType();
+		final Object defaultValue = PrimitiveTypeHelper.defaultValue(targetComponentType);
+		
+		if (source instanceof Collection) {
+			final Collection<?> sourceCollection = (Collection<?>) source;
+			final Object targetArray = Array.newInstance(targetComponentType, sourceCollection.size());
+			final InlineMapperCache<ElementMapping> inlineCache = elementCache != null ? elementCache : newInlineCache(targetComponentType);
+			int index = 0;
+			
+			for (final Object item : sourceCollection) {
+				Array.set(targetArray, index++, item == null ? defaultValue : reflectMapperElement(item, inlineCache));
+			}
+			
+			return targetArray;
+		}
+		
+		final int length = Array.getLength(source);
+		final Object targetArray = Array.newInstance(targetComponentType, length);
+		
+		if (source.getClass().getComponentType() == targetComponentType && isImmutableElementType(targetComponentType)) {
+			System.arraycopy(source, 0, targetArray, 0, length);
+			return targetArray;
+		}
+		
+		final InlineMapperCache<ElementMapping> inlineCache = elementCache != null ? elementCache : newInlineCache(targetComponentType);
+		
+		for (int i = 0; i < length; i++) {
+			final Object item = Array.get(source, i);
+			Array.set(targetArray, i, item == null ? defaultValue : reflectMapperElement(item, inlineCache));
+		}
+		
+		return targetArray;
+	}
+	
+	/**
+	 * Maps a non-null collection or array element. What to do with each element class is
+	 * resolved once and kept in {@code inlineCache}, so elements of an already seen class
+	 * skip both the type checks and the plan lookup.
+	 */
+	private Object reflectMapperElement(final Object item, final InlineMapperCache<ElementMapping> inlineCache) {
+		final ElementMapping elementMapping = inlineCache.get(item.getClass());
+		
+		switch (elementMapping.kind) {
+			case VALUE:
+				return item;
+			case ARRAY:
+				return reflectMapperArray(item, elementMapping.targetType);
+			case COLLECTION:
+				return reflectMapperCollection(item, elementMapping.targetType);
+			case MAP:
+				return reflectMapperMap(item, elementMapping.targetType);
+			default:
+				return reflectMapper(item, elementMapping.mapperPlan);
+		}
+	}
+	
+	private InlineMapperCache<ElementMapping> newInlineCache(final Class<?> targetType) {
+		final NamingStrategy namingStrategy = namingStrategyReference.get();
+		return new InlineMapperCache<>(itemClass -> resolveElement(itemClass, targetType, namingStrategy, subtypeTargets));
+	}
+	
+	/**
+	 * Element cache of pair {@code index} of {@code mapperPlan}, kept on the plan so that it
+	 * lasts across mapped objects. Declared subtype targets belong to this helper only, so
+	 * with any of them the cache is made for the call instead.
+	 */
+	private InlineMapperCache<ElementMapping> elementCache(final MapperPlan mapperPlan, final int index, final Class<?> targetType) {
+		if (!subtypeTargets.isEmpty()) {
+			return newInlineCache(targetType);
+		}
+		
+		final InlineMapperCache<ElementMapping> elementCache = mapperPlan.getElementCache(index);
+		
+		if (elementCache != null) {
+			return elementCache;
+		}
+		
+		final NamingStrategy namingStrategy = mapperPlan.getNamingStrategy();
+		return mapperPlan.putElementCache(index, new InlineMapperCache<>(itemClass -> resolveElement(itemClass, targetType, namingStrategy, Collections.emptyMap())));
+	}
+	
+	private static ElementMapping resolveElement(final Class<?> itemClass, final Class<?> targetType,
+			final NamingStrategy namingStrategy, final Map<Class<?>, Class<?>> subtypeTargets) {
+		if (isImmutableElementType(itemClass)) {
+			return new ElementMapping(ElementKind.VALUE, itemClass, null);
+		} else if (itemClass.isArray()) {
+			return new ElementMapping(ElementKind.ARRAY, targetType.isArray() ? targetType : itemClass, null);
+		} else if (Collection.class.isAssignableFrom(itemClass)) {
+			return new ElementMapping(ElementKind.COLLECTION, itemClass, null);
+		} else if (Map.class.isAssignableFrom(itemClass)) {
+			return new ElementMapping(ElementKind.MAP, itemClass, null);
+		}
+		
+		final Class<?> objectTargetType = toSubtypeTarget(itemClass, targetType, subtypeTargets);
+		return new ElementMapping(ElementKind.OBJECT, objectTargetType, MapperPlan.of(itemClass, objectTargetType, namingStrategy));
+	}
+	
+	/**
+	 * Declared element class of a collection field, {@code Object} when it is raw.
+	 */
+	private static Class<?> toElementType(final Field field) {
+		final ResolvedType elementType = TypeResolver.resolve(field.getGenericType(), field.getDeclaringClass()).getElementArgument();
+		return elementType == null ? Object.class : elementType.getRawClass();
+	}
+	
+	private static Class<?> toSubtypeTarget(final Class<?> itemClass, final Class<?> targetType, final Map<Class<?>, Class<?>> subtypeTargets) {
+		if (!subtypeTargets.isEmpty()) {
+			for (Class<?> type = itemClass; type != null && type != Object.class; type = type.getSuperclass()) {
+				final Class<?> subtypeTarget = subtypeTargets.get(type);
+				
+				if (subtypeTarget != null && targetType.isAssignableFrom(subtypeTarget)) {
+					return subtypeTarget;
+				}
+			}
+		}
+		
+		return targetType.isAssignableFrom(itemClass) ? itemClass : targetType;
+	}
+	
+	private static boolean isImmutableElementType(final Class<?> type) {
+		return type.isPrimitive() || isWrapperType(type) || Enum.class.isAssignableFrom(type);
+	}
+	
+	private void extractToCollection(final Object object, final MapperExtractPath path,
 		final MapperExtractFields reflectMapperExtractFields) {
 		    
 	    if (object != null) {
+	    	int index = 0;
+	    	
 	    	for (final Object item : ((Collection<?>) object)) {
 	            if (item != null) {
 	                if (Collection.class.isAssignableFrom(item.getClass())) {
-	                	extractToCollection(item, reflectMapperExtractFields);
+	                	extractToCollection(item, path.index(index), reflectMapperExtractFields);
 	                } else {
-	                	toExtractFields(item, reflectMapperExtractFields);
-	                	
+	                	toExtractFields(item, path.index(index), reflectMapperExtractFields);
 	                }
 	            }
+	            
+	            index++;
 	        }
 	    }
 	}
@@ -260,6 +556,8 @@ public class ReflectionMapperHelper {
 
 	    if (type.isPrimitive() || isWrapperType(type) || String.class.equals(type)) {
 	        return input;
+	    } else if (type.isArray()) {
+	    	return reflectMapperArray(input, type);
 	    } else if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
 	        return reflectMapper(input, type);
 	    } else {
@@ -267,6 +565,31 @@ public class ReflectionMapperHelper {
 	    }
 	}
 	
+	private Object readValue(final Object objectIn, final Field fieldIn) {
+		if(reflectMapperFilterReference.get().isPropertyAccess()) {
+			final PropertyAccessor propertyAccessor = PropertyAccessors.of(objectIn.getClass()).get(fieldIn.getName());
+			
+			if(propertyAccessor != null && propertyAccessor.isReadable()) {
+				return propertyAccessor.get(objectIn);
+			}
+		}
+		
+		return FieldReflectionHelper.getValue(objectIn, fieldIn);
+	}
+	
+	private void writeValue(final Object objectOut, final Field fieldOut, final Object value) {
+		if(reflectMapperFilterReference.get().isPropertyAccess()) {
+			final PropertyAccessor propertyAccessor = PropertyAccessors.of(objectOut.getClass()).get(fieldOut.getName());
+			
+			if(propertyAccessor != null && propertyAccessor.isWritable() && (value != null || !fieldOut.getType().isPrimitive())) {
+				propertyAccessor.set(objectOut, value);
+				return;
+			}
+		}
+		
+		FieldReflectionHelper.addValueField(value, objectOut, fieldOut);
+	}
+	
 	public static boolean isWrapperType(final Class<?> clazz) {
 	    return clazz.equals(Boolean.class) || clazz.equals(Byte.class) || clazz.equals(Character.class) || 
 	    	clazz.equals(Double.class) || clazz.equals(Float.class) || clazz.equals(Integer.class) || 
@@ -276,12 +599,37 @@ public class ReflectionMapperHelper {
 	}
 	
 	private Optional<Class<? extends Annotation>> getAnnotationByMatch(final Field field){
-		final Stream<Class<? extends Annotation>> stream = reflectMapperFilterReference.get().getAnnotations().stream();
-		return stream.filter(annot -> field.isAnnotationPresent(annot)).findAny();
+		final AnnotationIndex annotationIndex = AnnotationIndex.of(field.getDeclaringClass());
+		
+		for (final Class<? extends Annotation> annotation : reflectMapperFilterReference.get().getAnnotations()) {
+			if(annotationIndex.isPresent(field, annotation)) {
+				return Optional.of(annotation);
+			}
+		}
+		
+		return Optional.empty();
 	}
 	
 	private List<Field> toFields(final Class<?> type){
-		return new ArrayList<>(Arrays.asList(type.getDeclaredFields()));
+		return FieldLayout.of(type).getFields();
+	}
+	
+	private enum ElementKind { VALUE, ARRAY, COLLECTION, MAP, OBJECT }
+	
+	private static final class ElementMapping {
+		
+		private final ElementKind kind;
+		
+		private final Class<?> targetType;
+		
+		private final MapperPlan mapperPlan;
+		
+		private ElementMapping(final ElementKind kind, final Class<?> targetType, final MapperPlan mapperPlan) {
+			this.kind = kind;
+			this.targetType = targetType;
+			this.mapperPlan = mapperPlan;
+		}
+		
 	}
 
-}
\ No newline at end of file
+}
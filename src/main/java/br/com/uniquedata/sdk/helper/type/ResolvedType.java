@@ -0,0 +1,266 @@
+package br.com.uniquedata.sdk.helper.type;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable tree describing a fully resolved {@link java.lang.reflect.Type}:
+ * every type argument (not only the first), wildcard bounds, array components
+ * and type variables substituted by {@link TypeResolver} whenever the
+ * declaring context binds them.
+ *
+ * <p>
+ * Every node knows its erasure ({@link #getRawClass()}). The root also answers
+ * {@link #containsType(Class)} and {@link #references(Class)} with a set lookup:
+ * the sets are computed once, on first use, and kept with the (shared) tree.
+ * </p>
+ */
+public final class ResolvedType {
+
+	public enum Kind { CLASS, PARAMETERIZED, ARRAY, WILDCARD, TYPE_VARIABLE }
+
+	private final Kind kind;
+
+	private final Class<?> rawClass;
+
+	private final List<ResolvedType> arguments;
+
+	private final ResolvedType componentType;
+
+	private final List<ResolvedType> upperBounds;
+
+	private final List<ResolvedType> lowerBounds;
+
+	private final String variableName;
+
+	private volatile Set<Class<?>> containerTypes;
+
+	private volatile Set<Class<?>> assignableContainerTypes;
+
+	private volatile Set<Class<?>> referencedClasses;
+
+	private ResolvedType(final Kind kind, final Class<?> rawClass, final List<ResolvedType> arguments,
+			final ResolvedType componentType, final List<ResolvedType> upperBounds,
+			final List<ResolvedType> lowerBounds, final String variableName) {
+
+		this.kind = kind;
+		this.rawClass = rawClass;
+		this.arguments = arguments;
+		this.componentType = componentType;
+		this.upperBounds = upperBounds;
+		this.lowerBounds = lowerBounds;
+		this.variableName = variableName;
+	}
+
+	static ResolvedType ofClass(final Class<?> classType) {
+		return new ResolvedType(Kind.CLASS, classType, Collections.emptyList(), null,
+			Collections.emptyList(), Collections.emptyList(), null);
+	}
+
+	static ResolvedType ofParameterized(final Class<?> rawClass, final List<ResolvedType> arguments) {
+		return new ResolvedType(Kind.PARAMETERIZED, rawClass, Collections.unmodifiableList(arguments), null,
+			Collections.emptyList(), Collections.emptyList(), null);
+	}
+
+	static ResolvedType ofArray(final Class<?> arrayClass, final ResolvedType componentType) {
+		return new ResolvedType(Kind.ARRAY, arrayClass, Collections.emptyList(), componentType,
+			Collections.emptyList(), Collections.emptyList(), null);
+	}
+
+	static ResolvedType ofWildcard(final List<ResolvedType> upperBounds, final List<ResolvedType> lowerBounds) {
+		final Class<?> rawClass = upperBounds.isEmpty() ? Object.class : upperBounds.get(0).getRawClass();
+		return new ResolvedType(Kind.WILDCARD, rawClass, Collections.emptyList(), null,
+			Collections.unmodifiableList(upperBounds), Collections.unmodifiableList(lowerBounds), null);
+	}
+
+	static ResolvedType ofTypeVariable(final String variableName, final Class<?> erasure) {
+		return new ResolvedType(Kind.TYPE_VARIABLE, erasure, Collections.emptyList(), null,
+			Collections.emptyList(), Collections.emptyList(), variableName);
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Erasure of this node: the raw class, the array class, the first upper bound of a
+	 * wildcard or the bound of a type variable left unresolved.
+	 */
+	public Class<?> getRawClass() {
+		return rawClass;
+	}
+
+	public boolean isParameterized() {
+		return kind == Kind.PARAMETERIZED;
+	}
+
+	public List<ResolvedType> getArguments() {
+		return arguments;
+	}
+
+	public int getArgumentCount() {
+		return arguments.size();
+	}
+
+	public ResolvedType getArgument(final int index) {
+		return arguments.get(index);
+	}
+
+	public ResolvedType getComponentType() {
+		return componentType;
+	}
+
+	public List<ResolvedType> getUpperBounds() {
+		return upperBounds;
+	}
+
+	public List<ResolvedType> getLowerBounds() {
+		return lowerBounds;
+	}
+
+	public String getVariableName() {
+		return variableName;
+	}
+
+	/**
+	 * The argument holding the elements of a container: the value type of a {@link Map},
+	 * the first argument of anything else; {@code null} when this node has no arguments.
+	 */
+	public ResolvedType getElementArgument() {
+		if(arguments.isEmpty()) {
+			return null;
+		}
+
+		return Map.class.isAssignableFrom(rawClass) && arguments.size() > 1 ? arguments.get(1) : arguments.get(0);
+	}
+
+	/**
+	 * Raw classes of every parameterized node of the tree, in pre-order.
+	 */
+	public Set<Class<?>> getContainerTypes() {
+		Set<Class<?>> containerTypes = this.containerTypes;
+
+		if(containerTypes == null) {
+			final Set<Class<?>> collected = new LinkedHashSet<>();
+			collect(this, collected, true);
+
+			containerTypes = Collections.unmodifiableSet(collected);
+			this.containerTypes = containerTypes;
+		}
+
+		return containerTypes;
+	}
+
+	/**
+	 * Whether some parameterized node of the tree is {@code filterType} or one of its subtypes,
+	 * answered from a precomputed set of all supertypes of the container types.
+	 */
+	public boolean containsType(final Class<?> filterType) {
+		Set<Class<?>> assignableContainerTypes = this.assignableContainerTypes;
+
+		if(assignableContainerTypes == null) {
+			final Set<Class<?>> collected = new LinkedHashSet<>();
+
+			for (final Class<?> containerType : getContainerTypes()) {
+				addSupertypes(containerType, collected);
+			}
+
+			if(!collected.isEmpty()) {
+				collected.add(Object.class);
+			}
+
+			assignableContainerTypes = Collections.unmodifiableSet(collected);
+			this.assignableContainerTypes = assignableContainerTypes;
+		}
+
+		return assignableContainerTypes.contains(filterType);
+	}
+
+	/**
+	 * Whether {@code classType} appears anywhere in the tree, arguments and bounds included.
+	 */
+	public boolean references(final Class<?> classType) {
+		Set<Class<?>> referencedClasses = this.referencedClasses;
+
+		if(referencedClasses == null) {
+			final Set<Class<?>> collected = new LinkedHashSet<>();
+			collect(this, collected, false);
+
+			referencedClasses = Collections.unmodifiableSet(collected);
+			this.referencedClasses = referencedClasses;
+		}
+
+		return referencedClasses.contains(classType);
+	}
+
+	@Override
+	public String toString() {
+		switch (kind) {
+			case PARAMETERIZED:
+				final StringBuilder builder = new StringBuilder(rawClass.getName()).append('<');
+
+				for (int i = 0; i < arguments.size(); i++) {
+					builder.append(i == 0 ? "" : ", ").append(arguments.get(i));
+				}
+
+				return builder.append('>').toString();
+			case ARRAY:
+				return componentType + "[]";
+			case WILDCARD:
+				if(!lowerBounds.isEmpty()) {
+					return "? super " + lowerBounds.get(0);
+				}
+
+				return upperBounds.isEmpty() || upperBounds.get(0).getRawClass() == Object.class ? "?" : "? extends " + upperBounds.get(0);
+			case TYPE_VARIABLE:
+				return variableName;
+			default:
+				return rawClass.getName();
+		}
+	}
+
+	private static void collect(final ResolvedType root, final Set<Class<?>> collected, final boolean containersOnly) {
+		final Deque<ResolvedType> pending = new ArrayDeque<>();
+		pending.push(root);
+
+		while (!pending.isEmpty()) {
+			final ResolvedType node = pending.pop();
+
+			if(!containersOnly || node.kind == Kind.PARAMETERIZED) {
+				collected.add(node.rawClass);
+			}
+
+			pushAll(pending, node.lowerBounds);
+			pushAll(pending, node.upperBounds);
+			pushAll(pending, node.arguments);
+
+			if(node.componentType != null) {
+				pending.push(node.componentType);
+			}
+		}
+	}
+
+	private static void pushAll(final Deque<ResolvedType> pending, final List<ResolvedType> nodes) {
+		for (int i = nodes.size() - 1; i >= 0; i--) {
+			pending.push(nodes.get(i));
+		}
+	}
+
+	private static void addSupertypes(final Class<?> classType, final Set<Class<?>> collected) {
+		if(classType == null || !collected.add(classType)) {
+			return;
+		}
+
+		addSupertypes(classType.getSuperclass(), collected);
+
+		for (final Class<?> interfaceType : classType.getInterfaces()) {
+			addSupertypes(interfaceType, collected);
+		}
+	}
+
+}
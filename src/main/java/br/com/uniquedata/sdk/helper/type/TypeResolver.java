@@ -0,0 +1,178 @@
+package br.com.uniquedata.sdk.helper.type;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata;
+import br.com.uniquedata.sdk.helper.metadata.ClassMetadata.GenericSignature;
+
+/**
+ * Builds {@link ResolvedType} trees from reflective {@link Type}s.
+ *
+ * <p>
+ * Type variables are substituted using the bindings a context class gives to
+ * its generic superclasses and interfaces, e.g. {@code T find()} declared in
+ * {@code CrudApi<T>} resolves to {@code Order} in the context of
+ * {@code interface OrderApi extends CrudApi<Order>}. Those bindings are
+ * computed once per context class ({@link ClassValue}-backed). Variables that
+ * stay unbound are kept as {@link ResolvedType.Kind#TYPE_VARIABLE} nodes erased
+ * to their first bound.
+ * </p>
+ */
+public final class TypeResolver {
+
+	private static final ClassValue<Map<TypeVariable<?>, Type>> BINDINGS = new ClassValue<Map<TypeVariable<?>, Type>>() {
+		@Override
+		protected Map<TypeVariable<?>, Type> computeValue(final Class<?> type) {
+			final Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+			collectBindings(type, bindings);
+
+			return Collections.unmodifiableMap(bindings);
+		}
+	};
+
+	private TypeResolver() {}
+
+	public static ResolvedType resolve(final Type type) {
+		return resolve(type, Collections.emptyMap());
+	}
+
+	public static ResolvedType resolve(final Type type, final Class<?> contextClass) {
+		return resolve(type, contextClass == null ? Collections.emptyMap() : BINDINGS.get(contextClass));
+	}
+
+	/**
+	 * Generic return type of {@code method} as seen from {@code contextClass}, which is the
+	 * declaring class of the method or one of its subtypes.
+	 */
+	public static ResolvedType resolveReturnType(final Method method, final Class<?> contextClass) {
+		return resolve(method.getGenericReturnType(), contextClass);
+	}
+
+	/**
+	 * Erasure of {@code type}, without building a tree.
+	 */
+	public static Class<?> erase(final Type type) {
+		if(type instanceof Class<?>) {
+			return (Class<?>) type;
+		}else if(type instanceof ParameterizedType) {
+			return (Class<?>) ((ParameterizedType) type).getRawType();
+		}else if(type instanceof GenericArrayType) {
+			return Array.newInstance(erase(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+		}else if(type instanceof WildcardType) {
+			final Type[] upperBounds = ((WildcardType) type).getUpperBounds();
+			return upperBounds.length == 0 ? Object.class : erase(upperBounds[0]);
+		}else if(type instanceof TypeVariable<?>) {
+			final Type[] bounds = ((TypeVariable<?>) type).getBounds();
+			return bounds.length == 0 ? Object.class : erase(bounds[0]);
+		}
+
+		throw new IllegalArgumentException("Unsupported type {" + type + "}");
+	}
+
+	private static ResolvedType resolve(final Type type, final Map<TypeVariable<?>, Type> bindings) {
+		if(type instanceof Class<?>) {
+			final Class<?> classType = (Class<?>) type;
+
+			if(classType.isArray()) {
+				return ResolvedType.ofArray(classType, resolve(classType.getComponentType(), bindings));
+			}
+
+			return ResolvedType.ofClass(classType);
+		}
+
+		if(type instanceof ParameterizedType) {
+			final ParameterizedType parameterizedType = (ParameterizedType) type;
+			final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
+			final List<ResolvedType> arguments = new ArrayList<>(actualTypeArguments.length);
+
+			for (final Type argument : actualTypeArguments) {
+				arguments.add(resolve(argument, bindings));
+			}
+
+			return ResolvedType.ofParameterized((Class<?>) parameterizedType.getRawType(), arguments);
+		}
+
+		if(type instanceof GenericArrayType) {
+			final ResolvedType componentType = resolve(((GenericArrayType) type).getGenericComponentType(), bindings);
+			return ResolvedType.ofArray(Array.newInstance(componentType.getRawClass(), 0).getClass(), componentType);
+		}
+
+		if(type instanceof WildcardType) {
+			final WildcardType wildcardType = (WildcardType) type;
+			return ResolvedType.ofWildcard(resolveAll(wildcardType.getUpperBounds(), bindings),
+				resolveAll(wildcardType.getLowerBounds(), bindings));
+		}
+
+		if(type instanceof TypeVariable<?>) {
+			final TypeVariable<?> typeVariable = (TypeVariable<?>) type;
+			final Type bound = bindings.get(typeVariable);
+
+			if(bound != null) {
+				return resolve(bound, bindings);
+			}
+
+			return ResolvedType.ofTypeVariable(typeVariable.getName(), erase(typeVariable));
+		}
+
+		throw new IllegalArgumentException("Unsupported type {" + type + "}");
+	}
+
+	private static List<ResolvedType> resolveAll(final Type[] types, final Map<TypeVariable<?>, Type> bindings) {
+		final List<ResolvedType> resolvedTypes = new ArrayList<>(types.length);
+
+		for (final Type type : types) {
+			resolvedTypes.add(resolve(type, bindings));
+		}
+
+		return resolvedTypes;
+	}
+
+	/**
+	 * Walks the generic supertypes of {@code classType}; every {@code Super<A, B>} binds the type
+	 * parameters of {@code Super} to {@code A} and {@code B}, already substituted with the bindings
+	 * found closer to {@code classType}.
+	 */
+	private static void collectBindings(final Class<?> classType, final Map<TypeVariable<?>, Type> bindings) {
+		if(classType == null || classType == Object.class) {
+			return;
+		}
+
+		final GenericSignature genericSignature = ClassMetadata.of(classType).getGenericSignature();
+		final List<Type> supertypes = new ArrayList<>();
+
+		if(genericSignature.getGenericSuperclass() != null) {
+			supertypes.add(genericSignature.getGenericSuperclass());
+		}
+
+		supertypes.addAll(genericSignature.getGenericInterfaces());
+
+		for (final Type supertype : supertypes) {
+			if(supertype instanceof ParameterizedType) {
+				final ParameterizedType parameterizedType = (ParameterizedType) supertype;
+				final TypeVariable<?>[] typeParameters = ((Class<?>) parameterizedType.getRawType()).getTypeParameters();
+				final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
+
+				for (int i = 0; i < typeParameters.length; i++) {
+					final Type argument = actualTypeArguments[i];
+					final Type bound = argument instanceof TypeVariable<?> ? bindings.get(argument) : null;
+
+					bindings.putIfAbsent(typeParameters[i], bound != null ? bound : argument);
+				}
+			}
+
+			collectBindings(erase(supertype), bindings);
+		}
+	}
+
+}
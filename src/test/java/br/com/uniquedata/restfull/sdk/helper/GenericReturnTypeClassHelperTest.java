@@ -0,0 +1,85 @@
+package br.com.uniquedata.restfull.sdk.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.uniquedata.sdk.helper.pojo.others.GenericReturnTypeClass;
+import br.com.uniquedata.sdk.helper.pojo.others.GenericReturnTypeClass.GenericReturnType;
+
+class GenericReturnTypeClassHelperTest {
+
+	static class Order {}
+
+	interface CrudApi<T> {
+		T findOne();
+
+		List<T> findAll();
+	}
+
+	interface OrderApi extends CrudApi<Order> {
+		Map<String, List<Order>> byCustomer();
+
+		Set<? extends Order> open();
+	}
+
+	@Test
+	void sharesFrozenDescriptorsOfClasses() {
+		final GenericReturnTypeClass descriptor = GenericReturnTypeClassHelper.getGenericReturnTypeClass(Order.class);
+
+		assertSame(descriptor, GenericReturnTypeClassHelper.getGenericReturnTypeClass(Order.class));
+		assertEquals(GenericReturnType.DIRECT_CLASS, descriptor.getReturnType());
+		assertEquals(Order.class, descriptor.getClassType());
+		assertTrue(descriptor.isFrozen());
+		assertThrows(UnsupportedOperationException.class, () -> descriptor.setClassType(String.class));
+	}
+
+	@Test
+	void sharesDescriptorsOfEqualParameterizedTypes() throws Exception {
+		final Method first = OrderApi.class.getMethod("byCustomer");
+		final Method second = OrderApi.class.getMethod("byCustomer");
+		final GenericReturnTypeClass descriptor = GenericReturnTypeClassHelper.getGenericReturnTypeClass(first.getGenericReturnType());
+
+		assertSame(descriptor, GenericReturnTypeClassHelper.getGenericReturnTypeClass(second.getGenericReturnType()));
+		assertTrue(descriptor.isFrozen());
+		assertThrows(UnsupportedOperationException.class, () -> descriptor.getTypesSubLevels().add(Order.class));
+	}
+
+	@Test
+	void followsElementArgumentsToTheElementClass() throws Exception {
+		final GenericReturnTypeClass descriptor = GenericReturnTypeClassHelper.getGenericReturnTypeClass(OrderApi.class.getMethod("byCustomer").getGenericReturnType());
+
+		assertEquals(GenericReturnType.PARAMETERIZED_TYPE, descriptor.getReturnType());
+		assertEquals(Map.class, descriptor.getSuperClassType());
+		assertEquals(Order.class, descriptor.getClassType());
+		assertEquals(List.of(Map.class, List.class), descriptor.getTypesSubLevels());
+		assertTrue(GenericReturnTypeClassHelper.containsType(descriptor, Collection.class));
+		assertFalse(GenericReturnTypeClassHelper.containsType(descriptor, Set.class));
+
+		final GenericReturnTypeClass wildcard = GenericReturnTypeClassHelper.getGenericReturnTypeClass(OrderApi.class.getMethod("open").getGenericReturnType());
+		assertEquals(Order.class, wildcard.getClassType());
+	}
+
+	@Test
+	void resolvesTypeVariablesFromTheContextClass() throws Exception {
+		final Method findAll = CrudApi.class.getMethod("findAll");
+		final GenericReturnTypeClass descriptor = GenericReturnTypeClassHelper.getGenericReturnTypeClass(findAll, OrderApi.class);
+
+		assertSame(descriptor, GenericReturnTypeClassHelper.getGenericReturnTypeClass(findAll, OrderApi.class));
+		assertEquals(List.class, descriptor.getSuperClassType());
+		assertEquals(Order.class, descriptor.getClassType());
+		assertEquals(Order.class, GenericReturnTypeClassHelper.getGenericReturnTypeClass(CrudApi.class.getMethod("findOne"), OrderApi.class).getClassType());
+		assertEquals(Object.class, GenericReturnTypeClassHelper.getGenericReturnTypeClass(findAll, CrudApi.class).getClassType());
+	}
+
+}
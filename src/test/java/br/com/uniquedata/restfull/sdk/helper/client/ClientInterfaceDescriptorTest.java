@@ -0,0 +1,78 @@
+package br.com.uniquedata.restfull.sdk.helper.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ClientInterfaceDescriptorTest {
+
+	interface OrderClient {
+
+		String[] codes();
+
+		int[] quantities();
+
+		String find(String code);
+
+		default String findUpperCase(final String code) {
+			return find(code).toUpperCase();
+		}
+
+	}
+
+	@Test
+	void answersObjectMethodsOnTheProxy() {
+		final List<String> calls = new ArrayList<>();
+		final OrderClient client = ClientInterfaceDescriptor.of(OrderClient.class).newProxy((proxy, method, args) -> {
+			calls.add(method.getName());
+			return null;
+		});
+		final OrderClient other = ClientInterfaceDescriptor.of(OrderClient.class).newProxy((proxy, method, args) -> null);
+
+		assertTrue(client.equals(client));
+		assertFalse(client.equals(other));
+		assertEquals(System.identityHashCode(client), client.hashCode());
+		assertTrue(client.toString().startsWith(OrderClient.class.getName() + "@"));
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	void runsDefaultMethods() {
+		final List<String> calls = new ArrayList<>();
+		final OrderClient client = ClientInterfaceDescriptor.of(OrderClient.class).newProxy((proxy, method, args) -> {
+			calls.add(method.getName());
+			return "order-" + args[0];
+		});
+
+		assertEquals("ORDER-A1", client.findUpperCase("a1"));
+		assertEquals(List.of("find"), calls);
+	}
+
+	@Test
+	void turnsCollectionsIntoArrays() {
+		final OrderClient client = ClientInterfaceDescriptor.of(OrderClient.class).newProxy((proxy, method, args) ->
+			method.getName().equals("codes") ? List.of("a", "b") : Arrays.asList(1, 2));
+
+		final String[] codes = client.codes();
+
+		assertEquals(String[].class, codes.getClass());
+		assertEquals(List.of("a", "b"), Arrays.asList(codes));
+		assertEquals(2, client.quantities()[1]);
+	}
+
+	@Test
+	void rejectsNullElementsForPrimitiveArrays() {
+		final List<Integer> quantities = Arrays.asList(1, null);
+		final OrderClient client = ClientInterfaceDescriptor.of(OrderClient.class).newProxy((proxy, method, args) -> quantities);
+
+		assertThrows(IllegalArgumentException.class, client::quantities);
+	}
+
+}
@@ -0,0 +1,95 @@
+package br.com.uniquedata.sdk.helper.annotation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AnnotationIndexTest {
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Sensitive {
+	}
+
+	@Sensitive
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Email {
+	}
+
+	@Email
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface WorkEmail {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Audited {
+	}
+
+	@Audited
+	static class Contact {
+		@Email
+		String email;
+
+		@WorkEmail
+		String workEmail;
+
+		String phone;
+
+		@Sensitive
+		String document() {
+			return null;
+		}
+	}
+
+	static class Plain {
+		String name;
+	}
+
+	@Test
+	void indexesDirectAnnotations() throws Exception {
+		final AnnotationIndex index = AnnotationIndex.of(Contact.class);
+
+		assertSame(index, AnnotationIndex.of(Contact.class));
+		assertTrue(index.isPresentOnType(Audited.class));
+		assertTrue(index.isPresent(Contact.class.getDeclaredField("email"), Email.class));
+		assertFalse(index.isPresent(Contact.class.getDeclaredField("phone"), Email.class));
+		assertEquals(List.of(Contact.class.getDeclaredField("email"), Contact.class.getDeclaredField("workEmail")), index.getFields(Email.class));
+	}
+
+	@Test
+	void indexesMetaAnnotationsTransitively() throws Exception {
+		final AnnotationIndex index = AnnotationIndex.of(Contact.class);
+
+		assertTrue(index.isPresent(Contact.class.getDeclaredField("workEmail"), Sensitive.class));
+		assertEquals(2, index.getFields(Sensitive.class).size());
+		assertTrue(index.hasMethods(Sensitive.class));
+		assertTrue(index.isPresent(Contact.class.getDeclaredMethod("document"), Sensitive.class));
+		assertFalse(index.isPresentOnType(Sensitive.class));
+		assertTrue(index.isPresent(Sensitive.class));
+	}
+
+	@Test
+	void answersEmptyForAbsentAnnotations() {
+		final AnnotationIndex index = AnnotationIndex.of(Plain.class);
+
+		assertFalse(index.isPresent(Email.class));
+		assertFalse(index.hasFields(Email.class));
+		assertTrue(index.getFields(Email.class).isEmpty());
+		assertTrue(index.getMethods(Email.class).isEmpty());
+		assertTrue(index.getAnnotationTypes().isEmpty());
+	}
+
+	@Test
+	void reportsMetaAnnotationTypes() {
+		assertTrue(AnnotationMetadata.of(WorkEmail.class).isMetaAnnotatedWith(Sensitive.class));
+		assertFalse(AnnotationMetadata.of(WorkEmail.class).getMetaAnnotationTypes().contains(Retention.class));
+		assertFalse(AnnotationMetadata.of(Sensitive.class).isMetaAnnotatedWith(Sensitive.class));
+	}
+
+}
@@ -0,0 +1,94 @@
+package br.com.uniquedata.sdk.helper.annotation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class AnnotationMetadataTest {
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Column {
+		String value();
+		int length() default 255;
+		String[] aliases() default {};
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Named {
+		String name();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Marker {
+	}
+
+	@Column(value = "customer_name", aliases = { "name", "nome" })
+	@Named(name = "customer")
+	@Marker
+	static class Annotated {
+	}
+
+	@Test
+	void describesAttributes() {
+		final AnnotationMetadata metadata = AnnotationMetadata.of(Column.class);
+
+		assertSame(metadata, AnnotationMetadata.of(Annotated.class.getAnnotation(Column.class)));
+		assertEquals(3, metadata.getAttributeCount());
+		assertTrue(metadata.hasAttribute("length"));
+		assertFalse(metadata.hasAttribute("toString"));
+		assertEquals(-1, metadata.indexOf("missing"));
+		assertEquals(int.class, metadata.getAttributeType("length"));
+		assertEquals(255, metadata.getDefaultValue("length"));
+		assertThrows(IllegalArgumentException.class, () -> metadata.getAttributeType("missing"));
+	}
+
+	@Test
+	void readsAttributeValues() {
+		final Column column = Annotated.class.getAnnotation(Column.class);
+		final Map<String, Object> attributes = AnnotationMetadata.of(column).getAttributes(column);
+
+		assertEquals("customer_name", AnnotationMetadata.of(column).getValue(column));
+		assertEquals(255, attributes.get("length"));
+		assertEquals(List.of("name", "nome"), Arrays.asList((String[]) attributes.get("aliases")));
+		assertEquals("customer", AnnotationMetadata.of(Named.class).getValue(Annotated.class.getAnnotation(Named.class)));
+		assertNull(AnnotationMetadata.of(Marker.class).getValue(Annotated.class.getAnnotation(Marker.class)));
+	}
+
+	@Test
+	void copiesArrayAttributesOnEveryRead() {
+		final Column column = Annotated.class.getAnnotation(Column.class);
+		final String[] aliases = (String[]) AnnotationMetadata.of(column).getAttribute(column, "aliases");
+
+		aliases[0] = "changed";
+
+		assertNotSame(aliases, AnnotationMetadata.of(column).getAttribute(column, "aliases"));
+		assertEquals("name", ((String[]) AnnotationMetadata.of(column).getAttribute(column, "aliases"))[0]);
+	}
+
+	@Test
+	void rejectsAnnotationsOfAnotherType() {
+		assertThrows(IllegalArgumentException.class,
+			() -> AnnotationMetadata.of(Column.class).getValue(Annotated.class.getAnnotation(Named.class)));
+	}
+
+	@Test
+	void fallsBackToReflectionForNonAttributes() {
+		final Column column = Annotated.class.getAnnotation(Column.class);
+
+		assertEquals(255, AnnotationReflectionHelper.getAttribute(column, "length"));
+		assertEquals(Column.class, AnnotationReflectionHelper.getAttribute(column, "annotationType"));
+	}
+
+}
@@ -0,0 +1,104 @@
+package br.com.uniquedata.sdk.helper.annotation.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.uniquedata.sdk.helper.pojo.index.IndexedElement;
+import br.com.uniquedata.sdk.helper.pojo.index.IndexedElement.IndexedElementKind;
+
+class AnnotationIndexProcessorTest {
+
+	private static final String SOURCE = String.join("\n",
+		"package demo;",
+		"import java.lang.annotation.*;",
+		"@Retention(RetentionPolicy.RUNTIME) @interface Sensitive {}",
+		"@Sensitive @Retention(RetentionPolicy.RUNTIME) @interface Email {}",
+		"@Deprecated class Contact {",
+		"  @Email String email;",
+		"  String phone;",
+		"  @Sensitive void mask(String value, int[] positions) {}",
+		"  @Email static class Inner {}",
+		"}");
+
+	private static final class Source extends SimpleJavaFileObject {
+
+		private Source() {
+			super(URI.create("string:///demo/Contact.java"), Kind.SOURCE);
+		}
+
+		@Override
+		public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+			return SOURCE;
+		}
+
+	}
+
+	@Test
+	void indexesAnnotatedElementsWithMetaAnnotations() throws Exception {
+		final ClasspathAnnotationIndex index = compile();
+
+		assertTrue(index.isAvailable());
+		assertEquals(Set.of("demo.Sensitive", "demo.Email"), index.getAnnotationTypes());
+		assertEquals(List.of("demo.Contact#email"), describe(index.getElements("demo.Email"), IndexedElementKind.FIELD));
+		assertEquals(List.of("demo.Contact#email", "demo.Contact#mask(java.lang.String,int[])"),
+			describe(index.getElements("demo.Sensitive"), IndexedElementKind.FIELD, IndexedElementKind.METHOD));
+		assertEquals(List.of("demo.Contact$Inner"), index.getElements("demo.Email").stream()
+			.filter(element -> element.getKind() == IndexedElementKind.TYPE).map(IndexedElement::getClassName).collect(Collectors.toList()));
+	}
+
+	@Test
+	void restrictsIndexingToConfiguredPackages() throws Exception {
+		assertFalse(compile("-A" + AnnotationIndexProcessor.OPTION_PACKAGES + "=com.acme").isAvailable());
+	}
+
+	@Test
+	void formatsAndParsesIndexLines() throws IOException {
+		final IndexedElement element = new IndexedElement("demo.Email", IndexedElementKind.METHOD, "demo.Contact", "mask(int)");
+		final String line = ClasspathAnnotationIndex.format(element);
+
+		assertEquals(List.of(element), ClasspathAnnotationIndex.parse(new StringReader(ClasspathAnnotationIndex.INDEX_HEADER + "\n" + line + "\n")));
+	}
+
+	private static ClasspathAnnotationIndex compile(final String... options) throws IOException {
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final Path output = Files.createTempDirectory("annotation-index");
+		final List<String> arguments = new ArrayList<>(List.of("-d", output.toString(), "-proc:only"));
+
+		arguments.addAll(List.of(options));
+
+		final JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, arguments, null, List.<JavaFileObject>of(new Source()));
+		task.setProcessors(List.of(new AnnotationIndexProcessor()));
+
+		assertTrue(task.call());
+
+		return ClasspathAnnotationIndex.load(new URLClassLoader(new URL[] { output.toUri().toURL() }, null));
+	}
+
+	private static List<String> describe(final List<IndexedElement> elements, final IndexedElementKind... kinds) {
+		final List<IndexedElementKind> accepted = List.of(kinds);
+
+		return elements.stream().filter(element -> accepted.contains(element.getKind()))
+			.map(element -> element.getClassName() + "#" + element.getMemberName()).sorted().collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,79 @@
+package br.com.uniquedata.sdk.helper.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+
+class ClassPairCacheTest {
+
+	/**
+	 * Defines its own copy of {@link ClassPairPayload}, as an application loader would.
+	 */
+	static final class ChildLoader extends ClassLoader {
+
+		ChildLoader() {
+			super(ClassPairCacheTest.class.getClassLoader());
+		}
+
+		@Override
+		protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+			if(!name.equals(ClassPairPayload.class.getName())) {
+				return super.loadClass(name, resolve);
+			}
+
+			synchronized (getClassLoadingLock(name)) {
+				final Class<?> loaded = findLoadedClass(name);
+
+				if(loaded != null) {
+					return loaded;
+				}
+
+				try (InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+					final byte[] bytes = input.readAllBytes();
+					return defineClass(name, bytes, 0, bytes.length);
+				}catch (IOException e) {
+					throw new ClassNotFoundException(name, e);
+				}
+			}
+		}
+
+	}
+
+	@Test
+	void keepsValuesPerOrderedPair() {
+		final ClassPairCache<String> cache = new ClassPairCache<>();
+
+		assertEquals("String>Integer", cache.computeIfAbsent(String.class, Integer.class, ClassPairCacheTest::describe));
+		assertEquals("Integer>String", cache.computeIfAbsent(Integer.class, String.class, ClassPairCacheTest::describe));
+		assertEquals("String>Integer", cache.get(String.class, Integer.class));
+		assertNull(cache.get(String.class, Long.class));
+	}
+
+	@Test
+	void findsPairsAnchoredOnEitherClass() throws Exception {
+		final ClassPairCache<String> cache = new ClassPairCache<>();
+		final Class<?> childClassPairPayload = new ChildLoader().loadClass(ClassPairPayload.class.getName());
+		final String value = cache.computeIfAbsent(ClassPairPayload.class, childClassPairPayload, ClassPairCacheTest::describe);
+
+		assertSame(value, cache.get(ClassPairPayload.class, childClassPairPayload));
+		assertSame(value, cache.computeIfAbsent(ClassPairPayload.class, childClassPairPayload, ClassPairCacheTest::describe));
+		assertEquals("Object>ClassPairPayload", cache.computeIfAbsent(Object.class, ClassPairPayload.class, ClassPairCacheTest::describe));
+		assertNull(cache.get(childClassPairPayload, ClassPairPayload.class));
+	}
+
+	private static String describe(final Class<?> first, final Class<?> second) {
+		return first.getSimpleName() + ">" + second.getSimpleName();
+	}
+
+}
+
+/**
+ * Top-level, so that a copy defined by another loader has no nest host to check.
+ */
+final class ClassPairPayload {
+}
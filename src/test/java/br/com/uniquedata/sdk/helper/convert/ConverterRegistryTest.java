@@ -0,0 +1,67 @@
+package br.com.uniquedata.sdk.helper.convert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class ConverterRegistryTest {
+
+	enum Status { OPEN, CLOSED }
+
+	@Test
+	void parsesNumbersFromStrings() {
+		assertEquals(Integer.valueOf(42), ConverterRegistry.convert(" 42 ", Integer.class));
+		assertEquals(Long.valueOf(1000), ConverterRegistry.convert("1e3", long.class));
+		assertEquals(Double.valueOf(1.5), ConverterRegistry.convert("1.5", Double.class));
+		assertEquals(new BigDecimal("10.00"), ConverterRegistry.convert("10.00", BigDecimal.class));
+	}
+
+	@Test
+	void narrowsNumbersThatFit() {
+		assertEquals(Integer.valueOf(7), ConverterRegistry.convert(7L, Integer.class));
+		assertEquals(Integer.valueOf(2), ConverterRegistry.convert(2.0, int.class));
+		assertEquals(Byte.valueOf((byte) -128), ConverterRegistry.convert(-128, Byte.class));
+		assertEquals(Long.valueOf(Long.MAX_VALUE), ConverterRegistry.convert(BigInteger.valueOf(Long.MAX_VALUE), Long.class));
+	}
+
+	@Test
+	void rejectsOutOfRangeNumbers() {
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert("3000000000", Integer.class));
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert(3000000000L, int.class));
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert(300, Byte.class));
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert(new BigInteger("99999999999999999999"), Long.class));
+	}
+
+	@Test
+	void rejectsFractionsForIntegralTypes() {
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert("1.9", int.class));
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert(1.9, Long.class));
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert(Double.NaN, Integer.class));
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert(new BigDecimal("1.5"), BigInteger.class));
+	}
+
+	@Test
+	void convertsEnumsByNameAndOrdinal() {
+		assertEquals(Status.CLOSED, ConverterRegistry.convert("CLOSED", Status.class));
+		assertEquals(Status.CLOSED, ConverterRegistry.convert(1, Status.class));
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert(2, Status.class));
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert(-1, Status.class));
+	}
+
+	@Test
+	void convertsTemporalValues() {
+		assertEquals(LocalDate.of(2024, 1, 2), ConverterRegistry.convert("2024-01-02", LocalDate.class));
+		assertEquals("2024-01-02", ConverterRegistry.convert(LocalDate.of(2024, 1, 2), String.class));
+	}
+
+	@Test
+	void failsWithoutConverter() {
+		assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.convert(new Object(), LocalDate.class));
+	}
+
+}
@@ -0,0 +1,120 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class FieldLayoutTest {
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.FIELD)
+	@interface Key {
+		String value();
+	}
+
+	static class Base {
+		static int instances;
+		long id = 1;
+		String name = "base";
+	}
+
+	static class Item extends Base {
+		@Key("item_name")
+		String name = "item";
+		int quantity = 3;
+		double price = 2.5;
+		boolean active = true;
+	}
+
+	@Test
+	void keepsOneAccessorPerInstanceField() {
+		final FieldLayout layout = FieldLayout.of(Item.class);
+
+		assertSame(layout, FieldLayout.of(Item.class));
+		assertEquals(Item.class, layout.getClassType());
+		assertEquals(List.of("id", "name", "quantity", "price", "active"), layout.getFields().stream().map(Field::getName).collect(Collectors.toList()));
+		assertEquals(Item.class, layout.getAccessor("name").getField().getDeclaringClass());
+		assertEquals(2, layout.indexOf("quantity"));
+		assertEquals(2, layout.getAccessor(2).getIndex());
+		assertEquals(-1, layout.indexOf("instances"));
+		assertNull(layout.getAccessor("missing"));
+		assertThrows(UnsupportedOperationException.class, () -> layout.getAccessors().clear());
+	}
+
+	@Test
+	void readsAndWritesThroughAccessors() {
+		final Item item = new Item();
+		final FieldLayout layout = FieldLayout.of(Item.class);
+
+		assertEquals(1L, layout.getAccessor("id").get(item));
+		assertEquals("item", layout.getAccessor("name").get(item));
+
+		layout.getAccessor("name").set(item, "renamed");
+		layout.getAccessor("id").set(item, 7);
+
+		assertEquals("renamed", item.name);
+		assertEquals("base", ((Base) item).name);
+		assertEquals(7L, item.id);
+	}
+
+	@Test
+	void readsPrimitivesWithoutBoxing() {
+		final Item item = new Item();
+		final FieldAccessor price = FieldLayout.of(Item.class).getAccessor("price");
+		final FieldAccessor active = FieldLayout.of(Item.class).getAccessor("active");
+
+		assertEquals(2.5, Double.longBitsToDouble(price.getRaw(item)));
+		assertEquals(2.5, price.decode(price.getRaw(item)));
+		assertEquals(1L, active.getRaw(item));
+		assertEquals(Boolean.TRUE, active.decode(active.getRaw(item)));
+		assertThrows(IllegalStateException.class, () -> FieldLayout.of(Item.class).getAccessor("name").getRaw(item));
+	}
+
+	@Test
+	void compilesKeysOncePerAnnotation() {
+		final FieldLayout layout = FieldLayout.of(Item.class);
+		final FieldKeys renamed = layout.getKeys(Key.class);
+
+		assertSame(layout.getKeys(), layout.getKeys(null));
+		assertSame(renamed, layout.getKeys(Key.class));
+		assertEquals("name", layout.getKeys().getKey(1));
+		assertEquals("item_name", renamed.getKey(1));
+		assertEquals(1, renamed.indexOf("item_name"));
+		assertEquals(-1, renamed.indexOf("name"));
+		assertEquals(Set.of("id", "item_name", "quantity", "price", "active"), renamed.asSet());
+		assertTrue(renamed.asSet().contains("quantity"));
+		assertFalse(renamed.asSet().contains("name"));
+	}
+
+	@Test
+	void snapshotsComparePrimitivesByBits() {
+		final Item item = new Item();
+		final FieldValueSnapshot before = FieldValueSnapshot.of(item);
+
+		item.quantity = 4;
+		item.name = "changed";
+
+		final FieldValueSnapshot after = FieldValueSnapshot.of(item);
+
+		assertSame(FieldLayout.of(Item.class), before.getFieldLayout());
+		assertEquals(3, before.getInt(2));
+		assertEquals(4, after.getInt(2));
+		assertTrue(before.isSameValue(after, 0));
+		assertEquals(List.of("name", "quantity"), before.diff(after).stream().map(Field::getName).collect(Collectors.toList()));
+	}
+
+}
@@ -0,0 +1,111 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FieldPathTest {
+
+	static class Contact {
+		String email;
+
+		Contact(final String email) {
+			this.email = email;
+		}
+	}
+
+	static class Customer {
+		String name = "ana";
+		List<Contact> contacts = new ArrayList<>(List.of(new Contact("a@x"), new Contact("b@x")));
+		int[] scores = { 1, 2, 3 };
+	}
+
+	static class Order {
+		Customer customer = new Customer();
+	}
+
+	@Test
+	void readsNestedFieldsAndIndexes() {
+		final Order order = new Order();
+		final FieldPath path = FieldPath.compile("customer.contacts[1].email");
+
+		assertEquals("customer.contacts[1].email", path.getExpression());
+		assertEquals(4, path.getDepth());
+		assertEquals("b@x", path.get(order));
+		assertEquals(3, FieldPath.compile("customer.scores[2]").get(order));
+	}
+
+	@Test
+	void stopsOnNullLinksAndMissingIndexes() {
+		final Order order = new Order();
+
+		assertNull(FieldPath.compile("customer.contacts[5].email").get(order));
+		assertFalse(FieldPath.compile("customer.contacts[5].email").set(order, "z@x"));
+		assertFalse(FieldPath.compile("customer.scores[9]").set(order, 9));
+
+		order.customer = null;
+		assertNull(FieldPath.compile("customer.name").get(order));
+		assertFalse(FieldPath.compile("customer.name").set(order, "bob"));
+	}
+
+	@Test
+	void writesNestedFieldsAndIndexes() {
+		final Order order = new Order();
+
+		assertTrue(FieldPath.compile("customer.contacts[0].email").set(order, "c@x"));
+		assertTrue(FieldPath.compile("customer.scores[0]").set(order, 7));
+		assertTrue(FieldPath.compile("customer.contacts[1]").set(order, new Contact("d@x")));
+
+		assertEquals("c@x", order.customer.contacts.get(0).email);
+		assertEquals(7, order.customer.scores[0]);
+		assertEquals("d@x", order.customer.contacts.get(1).email);
+	}
+
+	@Test
+	void rejectsMalformedPaths() {
+		assertThrows(IllegalArgumentException.class, () -> FieldPath.compile(""));
+		assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("a[0"));
+		assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("a[-1]"));
+		assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("a[x]"));
+		assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("a[0]b"));
+		assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("a.[0]"));
+		assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("a..b"));
+		assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("a."));
+	}
+
+	@Test
+	void rejectsUnknownFieldsAndNonIndexableLinks() {
+		final Order order = new Order();
+
+		final IllegalArgumentException notFound = assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("customer.missing").get(order));
+		assertTrue(notFound.getMessage().contains("{missing}"));
+		assertThrows(IllegalArgumentException.class, () -> FieldPath.compile("customer.name[0]").get(order));
+	}
+
+	@Test
+	void cachesPathsCompiledForAClass() {
+		assertSame(FieldPath.compile(Order.class, "customer.name"), FieldPath.compile(Order.class, "customer.name"));
+		assertNotSame(FieldPath.compile("customer.name"), FieldPath.compile("customer.name"));
+	}
+
+	@Test
+	void helperWalksPaths() {
+		final Order order = new Order();
+
+		assertEquals("a@x", FieldReflectionHelper.getValueByPath(order, "customer.contacts[0].email"));
+		assertTrue(FieldReflectionHelper.setValueByPath(order, "customer.name", "bob"));
+		assertEquals("bob", order.customer.name);
+		assertNull(FieldReflectionHelper.getValueByPath(null, "customer.name"));
+		assertFalse(FieldReflectionHelper.setValueByPath(null, "customer.name", "bob"));
+	}
+
+}
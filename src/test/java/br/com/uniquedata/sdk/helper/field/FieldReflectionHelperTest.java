@@ -0,0 +1,78 @@
+package br.com.uniquedata.sdk.helper.field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class FieldReflectionHelperTest {
+
+	static class Base {
+		String id = "base";
+	}
+
+	static class Child extends Base {
+		static final String KIND = "child";
+		String name = "child";
+	}
+
+	@Test
+	void listsOnlyDeclaredFields() {
+		final List<String> names = FieldReflectionHelper.toStream(Child.class).map(Field::getName).collect(Collectors.toList());
+
+		assertTrue(names.contains("KIND"));
+		assertTrue(names.contains("name"));
+		assertTrue(!names.contains("id"));
+		assertEquals(names, FieldReflectionHelper.toArrayList(Child.class).stream().map(Field::getName).collect(Collectors.toList()));
+	}
+
+	@Test
+	void looksUpDeclaredFieldsByName() throws Exception {
+		final Child child = new Child();
+
+		assertEquals(Child.class.getDeclaredField("name"), FieldReflectionHelper.getValueByFieldName("name", child));
+		assertNull(FieldReflectionHelper.getValueByFieldName("id", child));
+		assertNull(FieldReflectionHelper.getValueByFieldName("missing", child));
+		assertThrows(IllegalArgumentException.class, () -> FieldReflectionHelper.extractFieldByName(child, "id"));
+	}
+
+	@Test
+	void copiesNamedValuesIntoMutableMap() {
+		final Map<String, Object> values = FieldReflectionHelper.getFieldNameAndValue(new Child(), (Class<? extends Annotation>) null);
+
+		assertEquals(Map.of("id", "base", "name", "child"), values);
+		assertTrue(values instanceof HashMap);
+		values.put("extra", "value");
+		assertEquals(3, values.size());
+	}
+
+	@Test
+	void namedEntriesFollowTheMapContract() {
+		final Map<String, Object> values = FieldReflectionHelper.getFieldNameAndValueView(new Child(), null);
+
+		assertEquals(new HashMap<>(values), values);
+		assertEquals(Map.of("id", "base", "name", "child").hashCode(), values.hashCode());
+		assertTrue(values.entrySet().contains(Map.entry("name", "child")));
+	}
+
+	@Test
+	void copiesFieldValuesIntoMutableMap() throws Exception {
+		final Child child = new Child();
+		final Map<Field, Object> values = FieldReflectionHelper.getFieldAndValue(child);
+
+		assertEquals(2, values.size());
+		assertEquals("base", values.get(Base.class.getDeclaredField("id")));
+		assertEquals(new HashMap<>(FieldReflectionHelper.snapshot(child).asFieldMap()), values);
+		assertEquals(values, FieldReflectionHelper.snapshot(child).asFieldMap());
+	}
+
+}
@@ -0,0 +1,152 @@
+package br.com.uniquedata.sdk.helper.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class JsonReaderTest {
+
+	record Point(int x, int y) {}
+
+	record Line(String name, Point from, Point to, List<Point> stops) {}
+
+	static class Account {
+		String owner;
+		long balance;
+		transient String password = "secret";
+		List<String> tags = new ArrayList<>();
+		Map<String, Integer> limits = new LinkedHashMap<>();
+	}
+
+	static class Numbers {
+		int integer;
+		double decimal;
+		BigDecimal amount;
+		BigInteger big;
+		AtomicInteger counter;
+		AtomicLong total;
+		Double missing;
+	}
+
+	static class Route {
+		Map<String, List<Point>> legs;
+		Point[] corners;
+		Object extra;
+	}
+
+	static class Text {
+		String value;
+		char letter;
+	}
+
+	@Test
+	void writesAndReadsRecords() {
+		final Line line = new Line("L1", new Point(1, 2), new Point(3, 4), List.of(new Point(5, 6)));
+		final String json = new String(JsonWriter.toBytes(line), StandardCharsets.UTF_8);
+
+		assertEquals("{\"name\":\"L1\",\"from\":{\"x\":1,\"y\":2},\"to\":{\"x\":3,\"y\":4},\"stops\":[{\"x\":5,\"y\":6}]}", json);
+		assertEquals(line, JsonReader.read(json, Line.class));
+	}
+
+	@Test
+	void readsRecordsWithMissingComponentsAsDefaults() {
+		assertEquals(new Point(7, 0), JsonReader.read("{\"x\":7}", Point.class));
+	}
+
+	@Test
+	void skipsTransientFields() {
+		final Account read = JsonReader.read("{\"owner\":\"bob\",\"password\":\"leaked\",\"tags\":[\"a\",\"b\"]}", Account.class);
+		assertEquals("bob", read.owner);
+		assertEquals("secret", read.password);
+		assertEquals(List.of("a", "b"), read.tags);
+	}
+
+	@Test
+	void readsNumbers() {
+		final Numbers numbers = JsonReader.read("{\"integer\":-42,\"decimal\":1e2,\"amount\":10.00,\"big\":123456789012345678901234567890}", Numbers.class);
+
+		assertEquals(-42, numbers.integer);
+		assertEquals(100.0, numbers.decimal);
+		assertEquals(new BigDecimal("10.00"), numbers.amount);
+		assertEquals(new BigInteger("123456789012345678901234567890"), numbers.big);
+		assertNull(numbers.missing);
+	}
+
+	@Test
+	void readsBackAtomics() {
+		final Numbers numbers = new Numbers();
+		numbers.counter = new AtomicInteger(7);
+		numbers.total = new AtomicLong(Long.MAX_VALUE);
+
+		final Numbers read = JsonReader.read(new String(JsonWriter.toBytes(numbers), StandardCharsets.UTF_8), Numbers.class);
+
+		assertEquals(7, read.counter.get());
+		assertEquals(Long.MAX_VALUE, read.total.get());
+		assertEquals(3, JsonReader.read("{\"counter\":\"3\"}", Numbers.class).counter.get());
+		assertThrows(IllegalArgumentException.class, () -> JsonReader.read("{\"counter\":3000000000}", Numbers.class));
+	}
+
+	@Test
+	void rejectsLossyAndInvalidNumbers() {
+		assertThrows(IllegalArgumentException.class, () -> JsonReader.read("{\"integer\":1.5}", Numbers.class));
+		assertThrows(IllegalArgumentException.class, () -> JsonReader.read("{\"integer\":3000000000}", Numbers.class));
+		assertThrows(IllegalArgumentException.class, () -> JsonReader.read("{\"integer\":01}", Numbers.class));
+		assertThrows(IllegalArgumentException.class, () -> JsonReader.read("{\"decimal\":1.}", Numbers.class));
+		assertThrows(IllegalArgumentException.class, () -> JsonReader.read("{\"decimal\":-}", Numbers.class));
+	}
+
+	@Test
+	void roundTripsUnicode() {
+		final Text text = new Text();
+		text.value = "ação € 😀 \"quoted\" \\ \n\t\u0001";
+		text.letter = 'ç';
+
+		final byte[] bytes = JsonWriter.toBytes(text);
+		final Text read = JsonReader.read(bytes, Text.class);
+
+		assertEquals(text.value, read.value);
+		assertEquals(text.letter, read.letter);
+		assertEquals(text.value, JsonReader.read("{\"value\":\"a\\u00e7\\u00e3o \\u20ac \\ud83d\\ude00 \\\"quoted\\\" \\\\ \\n\\t\\u0001\"}", Text.class).value);
+	}
+
+	@Test
+	void rejectsTrailingContent() {
+		assertThrows(IllegalArgumentException.class, () -> JsonReader.read("{\"x\":1} x", Point.class));
+	}
+
+	@Test
+	void readsGenericContainersIntoDeclaredTypes() {
+		final Route route = JsonReader.read("{\"legs\":{\"a\":[{\"x\":1,\"y\":2}]},\"corners\":[{\"x\":3,\"y\":4}],"
+			+ "\"extra\":{\"k\":[1,true,null]}}", Route.class);
+
+		assertEquals(List.of(new Point(1, 2)), route.legs.get("a"));
+		assertEquals(new Point(3, 4), route.corners[0]);
+		assertEquals(Map.of("k", Arrays.asList(1L, true, null)), route.extra);
+		assertTrue(route.extra instanceof LinkedHashMap);
+	}
+
+	@Test
+	void readsTheSameDocumentFromReadersAndStreams() {
+		final String json = "{\"value\":\"été\",\"letter\":\"x\"}";
+
+		assertEquals("été", JsonReader.read(new StringReader(json), Text.class).value);
+		assertEquals("été", JsonReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), Text.class).value);
+	}
+
+}
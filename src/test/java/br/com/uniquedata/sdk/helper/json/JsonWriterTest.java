@@ -0,0 +1,113 @@
+package br.com.uniquedata.sdk.helper.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class JsonWriterTest {
+
+	record Point(int x, int y) {}
+
+	record Line(String name, Point from, Point to, List<Point> stops) {}
+
+	static class Account {
+		String owner;
+		long balance;
+		transient String password = "secret";
+		List<String> tags = new ArrayList<>();
+		Map<String, Integer> limits = new LinkedHashMap<>();
+	}
+
+	static class Numbers {
+		int integer;
+		double decimal;
+		BigDecimal amount;
+		BigInteger big;
+		AtomicInteger counter;
+		AtomicLong total;
+		Double missing;
+	}
+
+	static class Text {
+		String value;
+		char letter;
+	}
+
+	private static String toJson(final Object object) {
+		return new String(JsonWriter.toBytes(object), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void writesRecords() {
+		final Line line = new Line("L1", new Point(1, 2), new Point(3, 4), List.of(new Point(5, 6)));
+
+		assertEquals("{\"name\":\"L1\",\"from\":{\"x\":1,\"y\":2},\"to\":{\"x\":3,\"y\":4},\"stops\":[{\"x\":5,\"y\":6}]}", toJson(line));
+	}
+
+	@Test
+	void skipsTransientFields() {
+		final Account account = new Account();
+		account.owner = "ana";
+		account.balance = 10;
+		account.tags.add("vip");
+		account.limits.put("daily", 100);
+
+		assertEquals("{\"owner\":\"ana\",\"balance\":10,\"tags\":[\"vip\"],\"limits\":{\"daily\":100}}", toJson(account));
+	}
+
+	@Test
+	void writesNumbers() {
+		final Numbers numbers = new Numbers();
+		numbers.integer = -42;
+		numbers.decimal = 1.5;
+		numbers.amount = new BigDecimal("10.00");
+		numbers.big = new BigInteger("123456789012345678901234567890");
+		numbers.counter = new AtomicInteger(7);
+		numbers.total = new AtomicLong(Long.MAX_VALUE);
+
+		assertEquals("{\"integer\":-42,\"decimal\":1.5,\"amount\":10.00,\"big\":123456789012345678901234567890,"
+			+ "\"counter\":7,\"total\":9223372036854775807,\"missing\":null}", toJson(numbers));
+	}
+
+	@Test
+	void writesNonFiniteDoublesAsNull() {
+		assertEquals("[null,null,1]", toJson(new double[] { Double.NaN, Double.POSITIVE_INFINITY, 1.0 }));
+	}
+
+	@Test
+	void escapesStrings() {
+		final Text text = new Text();
+		text.value = "\"quoted\" \\ \n\t\u0001 é";
+		text.letter = '"';
+
+		assertEquals("{\"value\":\"\\\"quoted\\\" \\\\ \\n\\t\\u0001 é\",\"letter\":\"\\\"\"}", toJson(text));
+	}
+
+	@Test
+	void writesTheSameDocumentToWritersAndStreams() {
+		final StringWriter writer = new StringWriter();
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		final Text text = new Text();
+		text.value = "été";
+		text.letter = 'x';
+
+		JsonWriter.write(text, writer);
+		JsonWriter.write(text, output);
+
+		assertEquals(toJson(text), writer.toString());
+		assertEquals(toJson(text), new String(output.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+}
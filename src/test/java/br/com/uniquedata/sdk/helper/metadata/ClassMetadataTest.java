@@ -0,0 +1,120 @@
+package br.com.uniquedata.sdk.helper.metadata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+import java.lang.reflect.RecordComponent;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class ClassMetadataTest {
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Marker {}
+
+	static class Base<T> {
+		static final String KIND = "base";
+		T id;
+		String name;
+	}
+
+	@Marker
+	static class Child extends Base<Long> implements Comparable<Child> {
+		String name;
+		int age;
+
+		@Override
+		public int compareTo(final Child other) {
+			return Integer.compare(age, other.age);
+		}
+	}
+
+	record Point(int x, int y) {}
+
+	abstract static class Shape {}
+
+	enum Color { RED }
+
+	private static List<String> names(final List<Field> fields) {
+		return fields.stream().map(field -> field.getDeclaringClass().getSimpleName() + "." + field.getName()).collect(Collectors.toList());
+	}
+
+	@Test
+	void sharesOneReadOnlyListPerMemberKind() {
+		final ClassMetadata metadata = ClassMetadata.of(Child.class);
+
+		assertSame(metadata, ClassMetadata.of(Child.class));
+		assertSame(metadata.getDeclaredFields(), metadata.getDeclaredFields());
+		assertSame(metadata.getMethods(), metadata.getMethods());
+		assertSame(metadata.getAnnotations(), metadata.getAnnotations());
+		assertThrows(UnsupportedOperationException.class, () -> metadata.getDeclaredFields().clear());
+		assertThrows(UnsupportedOperationException.class, () -> metadata.getFields().clear());
+	}
+
+	@Test
+	void ordersHierarchyFieldsFromTheTopDown() {
+		final ClassMetadata metadata = ClassMetadata.of(Child.class);
+
+		assertEquals(List.of("Child.name", "Child.age"), names(metadata.getDeclaredFields()));
+		assertEquals(List.of("Base.KIND", "Base.id", "Base.name", "Child.name", "Child.age"), names(metadata.getFields()));
+		assertEquals(List.of("Base.id", "Child.name", "Child.age"), names(metadata.getInstanceFields()));
+	}
+
+	@Test
+	void classifiesTypes() {
+		assertEquals(ClassMetadata.TypeKind.CLASS, ClassMetadata.of(Child.class).getTypeKind());
+		assertEquals(ClassMetadata.TypeKind.PRIMITIVE, ClassMetadata.of(int.class).getTypeKind());
+		assertEquals(ClassMetadata.TypeKind.ARRAY, ClassMetadata.of(int[].class).getTypeKind());
+		assertEquals(ClassMetadata.TypeKind.ANNOTATION, ClassMetadata.of(Marker.class).getTypeKind());
+		assertEquals(ClassMetadata.TypeKind.INTERFACE, ClassMetadata.of(Supplier.class).getTypeKind());
+		assertEquals(ClassMetadata.TypeKind.ENUM, ClassMetadata.of(Color.class).getTypeKind());
+		assertEquals(ClassMetadata.TypeKind.RECORD, ClassMetadata.of(Point.class).getTypeKind());
+		assertEquals(ClassMetadata.TypeKind.ABSTRACT_CLASS, ClassMetadata.of(Shape.class).getTypeKind());
+	}
+
+	@Test
+	void describesRecordsAnnotationsAndGenerics() {
+		assertEquals(List.of("x", "y"), ClassMetadata.of(Point.class).getRecordComponents().stream()
+			.map(RecordComponent::getName).collect(Collectors.toList()));
+		assertTrue(ClassMetadata.of(Child.class).getRecordComponents().isEmpty());
+		assertEquals(Marker.class, ClassMetadata.of(Child.class).getAnnotations().get(0).annotationType());
+
+		final ClassMetadata.GenericSignature base = ClassMetadata.of(Base.class).getGenericSignature();
+		final ClassMetadata.GenericSignature child = ClassMetadata.of(Child.class).getGenericSignature();
+
+		assertTrue(base.isGeneric());
+		assertEquals("T", base.getTypeParameters().get(0).getName());
+		assertFalse(child.isGeneric());
+		assertEquals("br.com.uniquedata.sdk.helper.metadata.ClassMetadataTest$Base<java.lang.Long>", child.getGenericSuperclass().getTypeName());
+		assertEquals(1, child.getGenericInterfaces().size());
+		assertNull(ClassMetadata.of(Comparator.class).getGenericSignature().getGenericSuperclass());
+	}
+
+	@Test
+	void asksTheJdkOncePerMemberKind() {
+		final ClassMetadata metadata = ClassMetadata.of(Point.class).warmUp();
+		metadata.getRecordComponents();
+		final long reflectionCalls = ClassMetadata.getReflectionCallCount();
+
+		ClassMetadata.warmUp(Point.class);
+		metadata.getDeclaredFields();
+		metadata.getDeclaredConstructors();
+		metadata.getRecordComponents();
+		metadata.getGenericSignature();
+
+		assertEquals(reflectionCalls, ClassMetadata.getReflectionCallCount());
+		assertTrue(ClassMetadata.getCreatedCount() > 0);
+	}
+
+}
@@ -0,0 +1,113 @@
+package br.com.uniquedata.sdk.helper.method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MethodResolverTest {
+
+	public static class Printer {
+
+		public String print(final Object value) {
+			return "object";
+		}
+
+		public String print(final String value) {
+			return "string";
+		}
+
+		public String print(final long value) {
+			return "long";
+		}
+
+		public String print(final double value) {
+			return "double";
+		}
+
+		public String accept(final Comparable<?> value) {
+			return "comparable";
+		}
+
+		public String accept(final Serializable value) {
+			return "serializable";
+		}
+
+		public String join(final String left, final String right) {
+			return left + right;
+		}
+
+		public String describe(final List<?> values) {
+			return "list";
+		}
+
+		public String describe(final Integer value) {
+			return "one";
+		}
+
+		public static String twice(final String value) {
+			return value + value;
+		}
+
+	}
+
+	private static String print(final Object... args) {
+		return (String) MethodResolver.of(Printer.class).resolveForArguments("print", args).invoke(new Printer(), args);
+	}
+
+	@Test
+	void picksTheMostSpecificOverload() {
+		assertEquals("string", print("text"));
+		assertEquals("object", print(new ArrayList<>()));
+		assertEquals("string", print((Object) null));
+	}
+
+	@Test
+	void widensAndUnboxesPrimitives() {
+		assertEquals("long", print(1));
+		assertEquals("long", print(1L));
+		assertEquals("double", print(1.5f));
+
+		final MethodInvoker invoker = MethodResolver.of(Printer.class).resolve("print", short.class);
+		assertEquals(long.class, invoker.getParameterTypes()[0]);
+	}
+
+	@Test
+	void rejectsAmbiguousCalls() {
+		assertThrows(IllegalArgumentException.class, () -> MethodResolver.of(Printer.class).resolve("accept", String.class));
+		assertThrows(IllegalArgumentException.class, () -> MethodResolver.of(Printer.class).resolve("describe", (Class<?>) null));
+		assertThrows(IllegalArgumentException.class, () -> MethodResolver.of(Printer.class).resolveByArity("print", 1));
+	}
+
+	@Test
+	void rejectsMissingMethods() {
+		assertThrows(IllegalArgumentException.class, () -> MethodResolver.of(Printer.class).resolve("print", String.class, String.class));
+		assertThrows(IllegalArgumentException.class, () -> MethodResolver.of(Printer.class).resolve("missing"));
+		assertThrows(IllegalArgumentException.class, () -> MethodResolver.of(Printer.class).resolve("print", (Class<?>) null, null));
+	}
+
+	@Test
+	void cachesResolutions() {
+		final MethodResolver resolver = MethodResolver.of(Printer.class);
+
+		assertSame(resolver, MethodResolver.of(Printer.class));
+		assertSame(resolver.resolve("join", String.class, String.class), resolver.resolve("join", String.class, String.class));
+		assertSame(resolver.resolveByArity("join", 2), resolver.resolveByArity("join", 2));
+	}
+
+	@Test
+	void invokesStaticAndBoundMethods() {
+		final MethodResolver resolver = MethodResolver.of(Printer.class);
+
+		assertEquals("abab", resolver.resolve("twice", String.class).invoke(null, "ab"));
+		assertEquals("ab", resolver.resolveByArity("join", 2).bindTo(new Printer()).invoke("a", "b"));
+		assertThrows(IllegalArgumentException.class, () -> resolver.resolveByArity("join", 2).invoke(new Printer(), "a"));
+		assertThrows(IllegalArgumentException.class, () -> resolver.resolveByArity("join", 2).bindTo("not a printer"));
+	}
+
+}
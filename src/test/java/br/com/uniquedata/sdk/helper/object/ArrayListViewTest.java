@@ -0,0 +1,67 @@
+package br.com.uniquedata.sdk.helper.object;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class ArrayListViewTest {
+
+	@Test
+	void readsReferenceArraysInPlace() {
+		final String[] array = { "a", "b" };
+		final ArrayListView<?> view = ArrayListView.of((Object) array);
+
+		array[1] = "c";
+
+		assertEquals(List.of("a", "c"), view);
+		assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+	}
+
+	@Test
+	void readsPrimitiveArrays() {
+		final ArrayListView.IntView ints = (ArrayListView.IntView) ArrayListView.of(new int[] { 1, 2, 3 });
+
+		assertEquals(3, ints.size());
+		assertEquals(2, ints.getInt(1));
+		assertEquals(List.of(1, 2, 3), ints);
+		assertEquals(List.of(true, false), ArrayListView.of(new boolean[] { true, false }));
+		assertEquals(List.of('x', 'y'), ArrayListView.of(new char[] { 'x', 'y' }));
+	}
+
+	@Test
+	void rejectsNonArrays() {
+		assertThrows(IllegalArgumentException.class, () -> ArrayListView.of((Object) "text"));
+		assertThrows(IllegalArgumentException.class, () -> ArrayListView.of((Object) null));
+	}
+
+	@Test
+	void copiesIntoCollections() {
+		final Set<Object> set = new LinkedHashSet<>();
+		ArrayListView.of(new long[] { 3, 1, 3 }).copyInto(set);
+
+		assertEquals(List.of(3L, 1L), new ArrayList<>(set));
+	}
+
+	@Test
+	void copiesArraysIntoNewArrayLists() {
+		final String[] array = { "a", "b" };
+		final List<String> list = ObjectReflectionHelper.toArrayList(array);
+
+		array[0] = "z";
+		list.add("c");
+
+		assertEquals(List.of("a", "b", "c"), list);
+		assertEquals(Arrays.asList(1.5, 2.5), ObjectReflectionHelper.newInstanceArraList((Object) new double[] { 1.5, 2.5 }));
+		assertEquals(List.of("x"), ObjectReflectionHelper.newInstanceArraList(new Object[] { "x" }));
+		assertTrue(ObjectReflectionHelper.newInstanceArraList(new Object[0]).isEmpty());
+	}
+
+}
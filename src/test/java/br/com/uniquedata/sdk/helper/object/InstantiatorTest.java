@@ -0,0 +1,95 @@
+package br.com.uniquedata.sdk.helper.object;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class InstantiatorTest {
+
+	static class Hidden {
+		String name = "hidden";
+
+		private Hidden() {}
+	}
+
+	static class Pair {
+		final String name;
+		final int count;
+
+		Pair(final String name, final int count) {
+			this.name = name;
+			this.count = count;
+		}
+
+		Pair(final String name, final int count, final boolean flag) {
+			this(name, count);
+		}
+	}
+
+	static class Failing {
+		Failing() {
+			throw new IllegalStateException("boom");
+		}
+	}
+
+	abstract static class Shape {}
+
+	@Test
+	void cachesOneInstantiatorPerClass() {
+		assertSame(Instantiator.of(Hidden.class), Instantiator.of(Hidden.class));
+		assertEquals(Hidden.class, Instantiator.of(Hidden.class).getClassType());
+	}
+
+	@Test
+	void callsPrivateNoArgsConstructors() {
+		final Instantiator instantiator = Instantiator.of(Hidden.class);
+
+		assertEquals(Instantiator.Strategy.NO_ARGS_CONSTRUCTOR, instantiator.getStrategy());
+		assertTrue(instantiator.isSupported());
+		assertNotSame(instantiator.newInstance(), instantiator.newInstance());
+		assertEquals("hidden", ((Hidden) instantiator.newInstance()).name);
+		assertTrue(Instantiator.of(ArrayList.class).newInstance() instanceof ArrayList);
+	}
+
+	@Test
+	void fillsTheShortestConstructorWithDefaults() {
+		final Instantiator instantiator = Instantiator.of(Pair.class);
+		final Pair pair = (Pair) instantiator.newInstance();
+
+		assertEquals(Instantiator.Strategy.DEFAULT_ARGUMENTS_CONSTRUCTOR, instantiator.getStrategy());
+		assertNull(pair.name);
+		assertEquals(0, pair.count);
+	}
+
+	@Test
+	void rethrowsTheSameFailureForUnsupportedTypes() {
+		for (final Class<?> type : new Class<?>[] { Shape.class, List.class, int[].class, Thread.State.class, int.class }) {
+			final Instantiator instantiator = Instantiator.of(type);
+
+			assertEquals(Instantiator.Strategy.UNSUPPORTED, instantiator.getStrategy());
+			assertFalse(instantiator.isSupported());
+
+			final ObjectInstantiationException first = assertThrows(ObjectInstantiationException.class, instantiator::newInstance);
+			assertSame(first, assertThrows(ObjectInstantiationException.class, instantiator::newInstance));
+			assertEquals(type, first.getClassType());
+		}
+	}
+
+	@Test
+	void wrapsConstructorFailures() {
+		final ObjectInstantiationException e = assertThrows(ObjectInstantiationException.class, () -> Instantiator.of(Failing.class).newInstance());
+
+		assertEquals(Failing.class, e.getClassType());
+		assertTrue(e.getCause() instanceof IllegalStateException);
+	}
+
+}
@@ -0,0 +1,76 @@
+package br.com.uniquedata.sdk.helper.pojo.reflectmapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.uniquedata.sdk.helper.reflect.mapper.ReflectionMapperHelper;
+
+class MapperExtractPathTest {
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Sensitive {
+	}
+
+	static class Contact {
+		@Sensitive
+		String email;
+
+		Contact(final String email) {
+			this.email = email;
+		}
+	}
+
+	static class Customer {
+		@Sensitive
+		String document = "123";
+		List<Contact> contacts = List.of(new Contact("a@x"), new Contact("b@x"));
+	}
+
+	@Test
+	void buildsTextualPaths() {
+		final MapperExtractPath path = MapperExtractPath.ROOT.field("customer").field("contacts").index(3).field("email");
+
+		assertEquals("customer.contacts[3].email", path.getPath());
+		assertEquals("customer.contacts[3]", path.getParent().getPath());
+		assertEquals(4, path.getDepth());
+		assertTrue(path.getParent().isIndex());
+		assertFalse(path.isIndex());
+		assertEquals("", MapperExtractPath.ROOT.getPath());
+		assertTrue(MapperExtractPath.ROOT.isRoot());
+	}
+
+	@Test
+	void internsPaths() {
+		final MapperExtractPath first = MapperExtractPath.ROOT.field("items").index(0);
+		final MapperExtractPath second = MapperExtractPath.ROOT.field("items").index(0);
+
+		assertSame(first.getPath(), second.getPath());
+		assertSame(first.getPath(), first.getPath());
+	}
+
+	@Test
+	void reusesParentPathsAlreadyBuilt() {
+		final MapperExtractPath parent = MapperExtractPath.ROOT.field("order").field("lines");
+
+		assertEquals("order.lines", parent.getPath());
+		assertEquals("order.lines[1].sku", parent.index(1).field("sku").getPath());
+	}
+
+	@Test
+	void tracksPathsOfExtractedFields() {
+		final MapperExtractFields fields = ReflectionMapperHelper.refletc(new Customer()).addScanBy(Sensitive.class).toExtractFields();
+
+		assertEquals(3, fields.size());
+		assertEquals(1, fields.getByPath("document").size());
+		assertEquals("b@x", fields.getByPath("contacts[1].email").get(0).getExtractField().getFieldValue());
+	}
+
+}
@@ -0,0 +1,117 @@
+package br.com.uniquedata.sdk.helper.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyAccessorsTest {
+
+	public static class Account {
+
+		private String owner = "ana";
+
+		private long balance;
+
+		private boolean active;
+
+		private String secret;
+
+		private String url;
+
+		public String getOwner() {
+			return owner;
+		}
+
+		public void setOwner(final String owner) {
+			this.owner = owner;
+		}
+
+		public void setOwner(final Object owner) {
+			this.owner = "object:" + owner;
+		}
+
+		public long getBalance() {
+			return balance;
+		}
+
+		public void setBalance(final long balance) {
+			this.balance = balance;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setSecret(final String secret) {
+			this.secret = secret;
+		}
+
+		public String getURL() {
+			return url;
+		}
+
+		String readSecret() {
+			return secret;
+		}
+
+	}
+
+	@Test
+	void discoversBeanProperties() {
+		final PropertyAccessors properties = PropertyAccessors.of(Account.class);
+
+		assertSame(properties, PropertyAccessors.of(Account.class));
+		assertTrue(properties.contains("owner"));
+		assertTrue(properties.contains("active"));
+		assertTrue(properties.contains("URL"));
+		assertFalse(properties.contains("class"));
+		assertEquals(long.class, properties.get("balance").getType());
+	}
+
+	@Test
+	void readsAndWritesThroughGeneratedAccessors() {
+		final Account account = new Account();
+		final PropertyAccessors properties = PropertyAccessors.of(Account.class);
+
+		properties.get("owner").set(account, "bia");
+		properties.get("balance").set(account, 10L);
+
+		assertEquals("bia", properties.get("owner").get(account));
+		assertEquals(10L, properties.get("balance").get(account));
+		assertEquals(false, properties.get("active").get(account));
+	}
+
+	@Test
+	void picksTheSetterMatchingTheGetterType() {
+		assertEquals(String.class, PropertyAccessors.of(Account.class).get("owner").getSetter().getParameterTypes()[0]);
+	}
+
+	@Test
+	void rejectsMissingAccessorsAndNullPrimitives() {
+		final Account account = new Account();
+		final PropertyAccessors properties = PropertyAccessors.of(Account.class);
+
+		assertFalse(properties.get("active").isWritable());
+		assertFalse(properties.get("secret").isReadable());
+		assertThrows(IllegalStateException.class, () -> properties.get("active").set(account, true));
+		assertThrows(IllegalStateException.class, () -> properties.get("secret").get(account));
+		assertThrows(IllegalArgumentException.class, () -> properties.get("balance").set(account, null));
+
+		properties.get("secret").set(account, "s3");
+		assertEquals("s3", account.readSecret());
+		assertNull(properties.get("URL").getSetter());
+	}
+
+	@Test
+	void decapitalizesLikeJavaBeans() {
+		assertEquals("name", PropertyAccessors.decapitalize("Name"));
+		assertEquals("URL", PropertyAccessors.decapitalize("URL"));
+		assertEquals("x", PropertyAccessors.decapitalize("X"));
+	}
+
+}
@@ -0,0 +1,82 @@
+package br.com.uniquedata.sdk.helper.proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class ProxyFactoryTest {
+
+	interface Named {
+		String name();
+	}
+
+	interface Greeter extends Named {
+		String greet(String who);
+
+		String greet(String who, int times);
+
+		int count();
+	}
+
+	@Test
+	void sortsInterfaceMethodsAndAppendsObjectMethods() {
+		final ProxyMethodTable methodTable = ProxyFactory.of(Greeter.class).getMethodTable();
+		final List<String> names = methodTable.getMethods().stream().map(Method::getName).collect(Collectors.toList());
+
+		assertEquals(Greeter.class, methodTable.getInterfaceType());
+		assertEquals(List.of("count", "greet", "greet", "name", "equals", "hashCode", "toString"), names);
+		assertEquals(7, methodTable.size());
+		assertEquals(2, methodTable.getMethod(1).getParameterCount());
+		assertEquals(1, methodTable.getMethod(2).getParameterCount());
+	}
+
+	@Test
+	void findsIndexesByMethodAndBySignature() throws Exception {
+		final ProxyMethodTable methodTable = ProxyFactory.of(Greeter.class).getMethodTable();
+
+		assertEquals(1, methodTable.indexOf("greet", String.class, int.class));
+		assertEquals(3, methodTable.indexOf(Named.class.getMethod("name")));
+		assertEquals(3, methodTable.indexOf(Greeter.class.getMethod("name")));
+		assertEquals(4, methodTable.indexOf(Object.class.getMethod("equals", Object.class)));
+		assertEquals(-1, methodTable.indexOf("greet", int.class));
+		assertEquals(-1, methodTable.indexOf(Runnable.class.getMethod("run")));
+	}
+
+	@Test
+	void cachesOneFactoryAndProxyClassPerInterface() {
+		final ProxyFactory factory = ProxyFactory.of(Greeter.class);
+
+		assertSame(factory, ProxyFactory.of(Greeter.class));
+		assertSame(factory.getProxyClass(), factory.newInstance((proxy, method, args) -> null).getClass());
+		assertThrows(IllegalArgumentException.class, () -> ProxyFactory.of(String.class));
+	}
+
+	@Test
+	void dispatchesOnMethodIndexes() {
+		final ProxyFactory factory = ProxyFactory.of(Greeter.class);
+		final int greetTimes = factory.getMethodTable().indexOf("greet", String.class, int.class);
+
+		final Greeter greeter = (Greeter) factory.newInstance((IndexedInvocationHandler) (proxy, methodIndex, method, args) -> {
+			if(methodIndex == greetTimes) {
+				return String.valueOf(args[0]).repeat((Integer) args[1]);
+			}
+
+			return method.getReturnType() == int.class ? methodIndex : "#" + methodIndex;
+		});
+
+		assertEquals("hihi", greeter.greet("hi", 2));
+		assertEquals("#2", greeter.greet("hi"));
+		assertEquals(0, greeter.count());
+		assertEquals("#3", greeter.name());
+		assertEquals("#6", greeter.toString());
+		assertTrue(greeter instanceof Named);
+	}
+
+}
@@ -0,0 +1,170 @@
+package br.com.uniquedata.sdk.helper.reflect.clone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ReflectionCloneHelperTest {
+
+	record Money(BigDecimal amount, String currency) {}
+
+	record Item(String sku, Money price, List<String> tags) {}
+
+	record Wrapper(Node node) {}
+
+	static class Node {
+		String name;
+		Node next;
+		Wrapper wrapper;
+	}
+
+	static class Member {
+		List<Member> siblings;
+		List<Member> fixedSiblings;
+	}
+
+	static class Family {
+		List<Member> members;
+		List<Member> fixed;
+	}
+
+	static class Order {
+		long id;
+		LocalDate date;
+		Date created = new Date(0);
+		List<Item> items = new ArrayList<>();
+		Map<String, Item> bySku = new HashMap<>();
+		TreeSet<String> notes = new TreeSet<>(Comparator.reverseOrder());
+		List<String> codes = List.of("a", "b");
+		AtomicInteger version = new AtomicInteger(3);
+	}
+
+	@Test
+	void clonesRecordsThroughTheirCanonicalConstructor() {
+		final Item item = new Item("A1", new Money(BigDecimal.TEN, "BRL"), new ArrayList<>(List.of("new")));
+		final Item clone = ReflectionCloneHelper.deepClone(item);
+
+		assertEquals(item, clone);
+		assertNotSame(item, clone);
+		assertNotSame(item.tags(), clone.tags());
+		assertSame(item.price().amount(), clone.price().amount());
+	}
+
+	@Test
+	void clonesCollectionsMapsAndJdkValues() {
+		final Order order = new Order();
+		order.id = 1;
+		order.date = LocalDate.of(2024, 1, 2);
+		order.items.add(new Item("A1", new Money(BigDecimal.ONE, "BRL"), List.of()));
+		order.bySku.put("A1", order.items.get(0));
+		order.notes.add("a");
+		order.notes.add("b");
+
+		final Order clone = ReflectionCloneHelper.deepClone(order);
+
+		assertEquals(order.items, clone.items);
+		assertNotSame(order.items, clone.items);
+		assertSame(clone.items.get(0), clone.bySku.get("A1"));
+		assertEquals(List.of("b", "a"), new ArrayList<>(clone.notes));
+		assertNotSame(order.created, clone.created);
+		assertEquals(order.created, clone.created);
+		assertSame(order.date, clone.date);
+		assertNotSame(order.version, clone.version);
+		assertEquals(3, clone.version.get());
+		assertThrows(UnsupportedOperationException.class, () -> clone.codes.add("c"));
+	}
+
+	@Test
+	void keepsUnmodifiableCollectionsUnmodifiable() {
+		final List<String> list = Collections.unmodifiableList(new ArrayList<>(List.of("x")));
+		final List<String> clone = ReflectionCloneHelper.deepClone(list);
+
+		assertEquals(list, clone);
+		assertThrows(UnsupportedOperationException.class, () -> clone.add("y"));
+	}
+
+	@Test
+	void reproducesCycles() {
+		final Node first = new Node();
+		final Node second = new Node();
+		first.name = "first";
+		first.next = second;
+		second.name = "second";
+		second.next = first;
+
+		final Node clone = ReflectionCloneHelper.deepClone(first);
+
+		assertNotSame(first, clone);
+		assertEquals("second", clone.next.name);
+		assertSame(clone, clone.next.next);
+	}
+
+	@Test
+	void reproducesCyclesEnteredThroughAnObject() {
+		final Node node = new Node();
+		node.wrapper = new Wrapper(node);
+
+		final Node clone = ReflectionCloneHelper.deepClone(node);
+
+		assertNotSame(node.wrapper, clone.wrapper);
+		assertSame(clone, clone.wrapper.node());
+	}
+
+	@Test
+	void rejectsCyclesEnteredThroughARecord() {
+		final Node node = new Node();
+		final Wrapper wrapper = new Wrapper(node);
+		node.wrapper = wrapper;
+
+		assertThrows(IllegalStateException.class, () -> ReflectionCloneHelper.deepClone(wrapper));
+	}
+
+	@Test
+	void keepsIdentityThroughCollectionWrappers() {
+		final Family family = new Family();
+		final Member member = new Member();
+		family.members = Collections.unmodifiableList(new ArrayList<>(List.of(member)));
+		family.fixed = Arrays.asList(member);
+		member.siblings = family.members;
+		member.fixedSiblings = family.fixed;
+
+		final Family clone = ReflectionCloneHelper.deepClone(family);
+
+		assertSame(clone.members, clone.members.get(0).siblings);
+		assertSame(clone.fixed, clone.fixed.get(0).fixedSiblings);
+		assertSame(clone.members.get(0), clone.fixed.get(0));
+		assertThrows(UnsupportedOperationException.class, () -> clone.members.get(0).siblings.add(new Member()));
+	}
+
+	@Test
+	void rejectsCyclesThroughImmutableCollections() {
+		final Family family = new Family();
+		final Member member = new Member();
+		family.members = List.of(member);
+		member.siblings = family.members;
+
+		assertThrows(IllegalStateException.class, () -> ReflectionCloneHelper.deepClone(family));
+	}
+
+	@Test
+	void rejectsJdkClassesItCannotCopy() {
+		assertThrows(IllegalArgumentException.class, () -> ReflectionCloneHelper.deepClone(new Thread()));
+	}
+
+}
@@ -0,0 +1,121 @@
+package br.com.uniquedata.sdk.helper.reflect.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class LazyMappingHandlerTest {
+
+	interface Loader {
+		String load() throws IOException;
+	}
+
+	static class FailingLoader implements Loader {
+		@Override
+		public String load() throws IOException {
+			throw new IOException("disk");
+		}
+	}
+
+	static class Holder {
+		Loader loader = new FailingLoader();
+	}
+
+	interface Greeting {
+		String text();
+	}
+
+	static class CountedGreeting implements Greeting {
+		static final AtomicInteger CREATED = new AtomicInteger();
+
+		String text = "hello";
+
+		CountedGreeting() {
+			CREATED.incrementAndGet();
+		}
+
+		@Override
+		public String text() {
+			return text;
+		}
+
+		@Override
+		public String toString() {
+			return "greeting:" + text;
+		}
+	}
+
+	static class Card {
+		Greeting greeting;
+		String title = "card";
+	}
+
+	@Test
+	void mapsTheNestedObjectOnFirstAccess() {
+		final Card card = new Card();
+		card.greeting = new CountedGreeting();
+
+		final int created = CountedGreeting.CREATED.get();
+		final Card mapped = ReflectionMapperHelper.refletc(card).lazy().to(Card.class);
+
+		assertTrue(Proxy.isProxyClass(mapped.greeting.getClass()));
+		assertEquals("card", mapped.title);
+		assertEquals(created, CountedGreeting.CREATED.get());
+
+		assertEquals("hello", mapped.greeting.text());
+		assertEquals("hello", mapped.greeting.text());
+		assertEquals(created + 1, CountedGreeting.CREATED.get());
+	}
+
+	@Test
+	void forwardsToStringToTheMappedObject() {
+		final Card card = new Card();
+		card.greeting = new CountedGreeting();
+
+		assertEquals("greeting:hello", ReflectionMapperHelper.refletc(card).lazy().to(Card.class).greeting.toString());
+	}
+
+	@Test
+	void leavesNullFieldsNull() {
+		assertNull(ReflectionMapperHelper.refletc(new Card()).lazy().to(Card.class).greeting);
+	}
+
+	@Test
+	void copiesEagerlyWithoutLazyMode() {
+		final Card card = new Card();
+		card.greeting = new CountedGreeting();
+
+		final Card mapped = ReflectionMapperHelper.refletc(card).to(Card.class);
+
+		assertEquals(CountedGreeting.class, mapped.greeting.getClass());
+		assertFalse(card.greeting == mapped.greeting);
+	}
+
+	@Test
+	void rethrowsCheckedExceptions() {
+		final Holder holder = ReflectionMapperHelper.refletc(new Holder()).lazy().to(Holder.class);
+
+		assertTrue(Proxy.isProxyClass(holder.loader.getClass()));
+
+		final IOException exception = assertThrows(IOException.class, () -> holder.loader.load());
+		assertEquals("disk", exception.getMessage());
+	}
+
+	@Test
+	void equalsOnlyItself() {
+		final Holder holder = ReflectionMapperHelper.refletc(new Holder()).lazy().to(Holder.class);
+
+		assertEquals(holder.loader, holder.loader);
+		assertEquals(holder.loader.hashCode(), holder.loader.hashCode());
+		assertFalse(holder.loader.equals(new FailingLoader()));
+	}
+
+}
@@ -0,0 +1,89 @@
+package br.com.uniquedata.sdk.helper.reflect.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class NamingStrategyTest {
+
+	static class Row {
+		String created_at = "2024-01-02";
+		String m_code = "X1";
+	}
+
+	static class RowDto {
+		LocalDate createdAt;
+		String code;
+	}
+
+	static class Person {
+		String FullName = "Ana";
+	}
+
+	static class PersonDto {
+		String fullName;
+	}
+
+	@Test
+	void normalizesNames() {
+		assertEquals("createdAt", NamingStrategy.EXACT.normalize("createdAt"));
+		assertEquals("createdat", NamingStrategy.CASE_INSENSITIVE.normalize("createdAt"));
+		assertEquals("created_at", NamingStrategy.CASE_INSENSITIVE.normalize("CREATED_AT"));
+		assertEquals("createdat", NamingStrategy.RELAXED.normalize("created-at"));
+		assertEquals("createdat", NamingStrategy.RELAXED.normalize("CREATED_AT"));
+	}
+
+	@Test
+	void stripsTheFirstMatchingPrefix() {
+		final NamingStrategy strategy = NamingStrategy.stripPrefix(NamingStrategy.CASE_INSENSITIVE, "m_", "str");
+
+		assertEquals("code", strategy.normalize("m_Code"));
+		assertEquals("name", strategy.normalize("strName"));
+		assertEquals("str", strategy.normalize("str"));
+		assertEquals("other", strategy.normalize("other"));
+	}
+
+	@Test
+	void comparesPrefixStrategiesByValue() {
+		final NamingStrategy first = NamingStrategy.stripPrefix(NamingStrategy.RELAXED, "m_");
+
+		assertEquals(first, NamingStrategy.stripPrefix(NamingStrategy.RELAXED, "m_"));
+		assertEquals(first.hashCode(), NamingStrategy.stripPrefix(NamingStrategy.RELAXED, "m_").hashCode());
+		assertFalse(first.equals(NamingStrategy.stripPrefix(NamingStrategy.RELAXED, "f_")));
+		assertFalse(first.equals(NamingStrategy.stripPrefix(NamingStrategy.EXACT, "m_")));
+	}
+
+	@Test
+	void matchesNamesThroughTheNamingStrategy() {
+		final RowDto exact = ReflectionMapperHelper.refletc(new Row()).to(RowDto.class);
+		final RowDto relaxed = ReflectionMapperHelper.refletc(new Row())
+			.namingStrategy(NamingStrategy.stripPrefix(NamingStrategy.RELAXED, "m_"))
+			.to(RowDto.class);
+
+		assertNull(exact.createdAt);
+		assertEquals(LocalDate.of(2024, 1, 2), relaxed.createdAt);
+		assertEquals("X1", relaxed.code);
+	}
+
+	@Test
+	void ignoresCaseByDefault() {
+		assertEquals("Ana", ReflectionMapperHelper.refletc(new Person()).to(PersonDto.class).fullName);
+		assertNull(ReflectionMapperHelper.refletc(new Person()).namingStrategy(NamingStrategy.EXACT).to(PersonDto.class).fullName);
+	}
+
+	@Test
+	void reusesThePlanOfEqualPrefixStrategies() {
+		final NamingStrategy first = NamingStrategy.stripPrefix(NamingStrategy.RELAXED, "m_");
+		final NamingStrategy second = NamingStrategy.stripPrefix(NamingStrategy.RELAXED, "m_");
+
+		assertSame(MapperPlan.of(Row.class, RowDto.class, first), MapperPlan.of(Row.class, RowDto.class, second));
+		assertNotSame(MapperPlan.of(Row.class, RowDto.class, first), MapperPlan.of(Row.class, RowDto.class, NamingStrategy.EXACT));
+	}
+
+}
@@ -0,0 +1,196 @@
+package br.com.uniquedata.sdk.helper.reflect.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ReflectionMapperHelperTest {
+
+	enum Operation {
+		ADD {
+			@Override
+			int apply(final int left, final int right) {
+				return left + right;
+			}
+		},
+		SUBTRACT {
+			@Override
+			int apply(final int left, final int right) {
+				return left - right;
+			}
+		};
+
+		abstract int apply(int left, int right);
+	}
+
+	enum Status { OPEN, CLOSED }
+
+	static class Entity {
+		long id = 7;
+		String createdBy = "system";
+	}
+
+	static class Customer extends Entity {
+		String name = "Ana";
+	}
+
+	static class CustomerDto {
+		long id;
+		String createdBy;
+		String name;
+	}
+
+	static class Source {
+		String quantity = "42";
+		int status = 1;
+		Integer total = 10;
+		List<Operation> operations = new ArrayList<>(List.of(Operation.ADD, Operation.SUBTRACT));
+	}
+
+	static class Target {
+		Integer quantity;
+		Status status;
+		long total;
+		List<Operation> operations;
+	}
+
+	static class Team {
+		List<Object> members = new ArrayList<>(List.of(new Customer()));
+	}
+
+	static class TeamDto {
+		List<Object> members;
+	}
+
+	static class Line {
+		String sku;
+
+		Line() {}
+
+		Line(final String sku) {
+			this.sku = sku;
+		}
+	}
+
+	static class LineDto {
+		String sku;
+	}
+
+	static class Basket {
+		int[] counts = { 1, 2 };
+		String[] tags = { "a", "b" };
+		Line[] lines = { new Line("x"), new Line("y") };
+		int[][] grid = { { 1 }, { 2, 3 } };
+		Line[] history = { new Line("h") };
+		List<String> labels = new ArrayList<>(List.of("l1", "l2"));
+	}
+
+	static class BasketDto {
+		long[] counts;
+		String[] tags;
+		LineDto[] lines;
+		long[][] grid;
+		List<LineDto> history;
+		String[] labels;
+	}
+
+	@Test
+	void mapsInheritedFields() {
+		final CustomerDto dto = ReflectionMapperHelper.refletc(new Customer()).to(CustomerDto.class);
+
+		assertEquals(7, dto.id);
+		assertEquals("system", dto.createdBy);
+		assertEquals("Ana", dto.name);
+	}
+
+	@Test
+	void convertsValuesBetweenFieldTypes() {
+		final Target target = ReflectionMapperHelper.refletc(new Source()).to(Target.class);
+
+		assertEquals(42, target.quantity.intValue());
+		assertEquals(Status.CLOSED, target.status);
+		assertEquals(10L, target.total);
+	}
+
+	@Test
+	void rejectsLossyConversions() {
+		final Source source = new Source();
+		source.quantity = "3000000000";
+
+		assertThrows(RuntimeException.class, () -> ReflectionMapperHelper.refletc(source).to(Target.class));
+
+		source.quantity = "1.9";
+		assertThrows(RuntimeException.class, () -> ReflectionMapperHelper.refletc(source).to(Target.class));
+	}
+
+	@Test
+	void copiesEnumConstantsWithBodiesByReference() {
+		final Source source = new Source();
+		final Target target = ReflectionMapperHelper.refletc(source).to(Target.class);
+
+		assertNotSame(source.operations, target.operations);
+		assertSame(Operation.ADD, target.operations.get(0));
+		assertSame(Operation.SUBTRACT, target.operations.get(1));
+		assertEquals(1, target.operations.get(1).apply(3, 2));
+	}
+
+	@Test
+	void keepsElementCachesOnThePlan() {
+		final MapperPlan mapperPlan = MapperPlan.of(Team.class, TeamDto.class);
+
+		ReflectionMapperHelper.refletc(new Team()).to(TeamDto.class);
+		final InlineMapperCache<?> elementCache = mapperPlan.getElementCache(0);
+		final TeamDto team = ReflectionMapperHelper.refletc(new Team()).to(TeamDto.class);
+
+		assertFalse(elementCache == null);
+		assertSame(elementCache, mapperPlan.getElementCache(0));
+		assertEquals(Customer.class, team.members.get(0).getClass());
+	}
+
+	@Test
+	void keepsSubtypeTargetsOutOfThePlanCaches() {
+		final TeamDto mapped = ReflectionMapperHelper.refletc(new Team()).mapSubtype(Customer.class, CustomerDto.class).to(TeamDto.class);
+		final TeamDto plain = ReflectionMapperHelper.refletc(new Team()).to(TeamDto.class);
+
+		assertEquals(CustomerDto.class, mapped.members.get(0).getClass());
+		assertEquals(Customer.class, plain.members.get(0).getClass());
+	}
+
+	@Test
+	void copiesArraysThatNeedNoMapping() {
+		final Basket basket = new Basket();
+		final BasketDto dto = ReflectionMapperHelper.refletc(basket).to(BasketDto.class);
+
+		assertNotSame(basket.tags, dto.tags);
+		assertEquals(List.of("a", "b"), List.of(dto.tags));
+	}
+
+	@Test
+	void mapsArraysElementByElement() {
+		final BasketDto dto = ReflectionMapperHelper.refletc(new Basket()).to(BasketDto.class);
+
+		assertEquals(2, dto.counts.length);
+		assertEquals(2L, dto.counts[1]);
+		assertEquals(2, dto.lines.length);
+		assertEquals("y", dto.lines[1].sku);
+		assertEquals(3L, dto.grid[1][1]);
+	}
+
+	@Test
+	void mapsBetweenArraysAndCollections() {
+		final BasketDto dto = ReflectionMapperHelper.refletc(new Basket()).to(BasketDto.class);
+
+		assertEquals(1, dto.history.size());
+		assertEquals(LineDto.class, dto.history.get(0).getClass());
+		assertEquals("h", dto.history.get(0).sku);
+		assertEquals(List.of("l1", "l2"), List.of(dto.labels));
+	}
+
+}
@@ -0,0 +1,101 @@
+package br.com.uniquedata.sdk.helper.type;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class TypeResolverTest {
+
+	static class Pair<A, B> {
+		A first;
+		B second;
+		Map<A, List<B>> grouped;
+		B[] seconds;
+	}
+
+	static class Keyed<K> extends Pair<K, String> {}
+
+	static class Counted extends Keyed<Integer> {}
+
+	static class Bounded<N extends Number> {
+		N value;
+		List<? super N> sink;
+	}
+
+	private static Type fieldType(final Class<?> classType, final String name) throws Exception {
+		return classType.getDeclaredField(name).getGenericType();
+	}
+
+	@Test
+	void resolvesEveryTypeArgument() throws Exception {
+		final ResolvedType grouped = TypeResolver.resolve(fieldType(Pair.class, "grouped"), Counted.class);
+
+		assertTrue(grouped.isParameterized());
+		assertEquals(Map.class, grouped.getRawClass());
+		assertEquals(2, grouped.getArgumentCount());
+		assertEquals(Integer.class, grouped.getArgument(0).getRawClass());
+		assertEquals(List.class, grouped.getArgument(1).getRawClass());
+		assertEquals(String.class, grouped.getArgument(1).getArgument(0).getRawClass());
+		assertEquals("java.util.Map<java.lang.Integer, java.util.List<java.lang.String>>", grouped.toString());
+	}
+
+	@Test
+	void substitutesBindingsThroughSuperclasses() throws Exception {
+		assertEquals(Integer.class, TypeResolver.resolve(fieldType(Pair.class, "first"), Counted.class).getRawClass());
+		assertEquals(String.class, TypeResolver.resolve(fieldType(Pair.class, "second"), Counted.class).getRawClass());
+
+		final ResolvedType seconds = TypeResolver.resolve(fieldType(Pair.class, "seconds"), Counted.class);
+		assertEquals(ResolvedType.Kind.ARRAY, seconds.getKind());
+		assertEquals(String[].class, seconds.getRawClass());
+		assertEquals(String.class, seconds.getComponentType().getRawClass());
+	}
+
+	@Test
+	void keepsUnboundVariablesErasedToTheirBound() throws Exception {
+		final ResolvedType value = TypeResolver.resolve(fieldType(Bounded.class, "value"), Bounded.class);
+		final ResolvedType first = TypeResolver.resolve(fieldType(Pair.class, "first"), Keyed.class);
+
+		assertEquals(ResolvedType.Kind.TYPE_VARIABLE, value.getKind());
+		assertEquals("N", value.getVariableName());
+		assertEquals(Number.class, value.getRawClass());
+		assertEquals(ResolvedType.Kind.TYPE_VARIABLE, first.getKind());
+		assertEquals(Object.class, first.getRawClass());
+		assertEquals(Object.class, TypeResolver.erase(fieldType(Pair.class, "first")));
+		assertEquals(Object[].class, TypeResolver.erase(fieldType(Pair.class, "seconds")));
+	}
+
+	@Test
+	void resolvesWildcardBounds() throws Exception {
+		final ResolvedType sink = TypeResolver.resolve(fieldType(Bounded.class, "sink"), Bounded.class).getArgument(0);
+
+		assertEquals(ResolvedType.Kind.WILDCARD, sink.getKind());
+		assertEquals(Object.class, sink.getRawClass());
+		assertEquals(Number.class, sink.getLowerBounds().get(0).getRawClass());
+		assertEquals("? super N", sink.toString());
+	}
+
+	@Test
+	void answersContainerQueries() throws Exception {
+		final ResolvedType grouped = TypeResolver.resolve(fieldType(Pair.class, "grouped"), Counted.class);
+
+		assertEquals(List.class, grouped.getElementArgument().getRawClass());
+		assertNull(TypeResolver.resolve(String.class).getElementArgument());
+		assertEquals(Set.of(Map.class, List.class), grouped.getContainerTypes());
+		assertTrue(grouped.containsType(Collection.class));
+		assertFalse(grouped.containsType(Set.class));
+		assertTrue(grouped.references(String.class));
+		assertFalse(grouped.references(Long.class));
+		assertThrows(UnsupportedOperationException.class, () -> grouped.getArguments().clear());
+	}
+
+}